@@ -0,0 +1,69 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+
+/**
+ * Deterministic test data for the benchmarks, so that results are comparable between runs and versions.
+ */
+public final class BenchmarkData {
+
+    public static final URI CC_BY_URI = URI.create("https://creativecommons.org/licenses/by/4.0/");
+    public static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+    private static final String[] MIME_TYPES = {"application/pdf", "image/jpeg", "text/plain"};
+    private static final FileType[] FILE_TYPES = {FileType.PUBLISHED_FILE, FileType.UNPUBLISHED_FILE};
+    private static final int EMBARGO_FREQUENCY = 5;
+    private static final int ADMINISTRATIVE_AGREEMENT_FREQUENCY = 10;
+
+    private BenchmarkData() {
+    }
+
+    public static License ccByLicense() {
+        return new License.Builder()
+                   .withIdentifier("CC-BY")
+                   .withLabels(Map.of("en", "CC-BY 4.0", "nb", "CC-BY 4.0"))
+                   .withLink(CC_BY_URI)
+                   .build();
+    }
+
+    /**
+     * Creates a file. Every fifth file is embargoed and every tenth is an administrative agreement.
+     *
+     * @param seed the position of the file in a generated set.
+     * @return a file that is the same for the same seed.
+     */
+    public static File file(int seed) {
+        boolean administrativeAgreement = seed % ADMINISTRATIVE_AGREEMENT_FREQUENCY == 0;
+        return new File.Builder()
+                   .withIdentifier(new UUID(seed, seed))
+                   .withName("file-" + seed + ".pdf")
+                   .withMimeType(MIME_TYPES[seed % MIME_TYPES.length])
+                   .withSize(1024L * seed)
+                   .withLicense(administrativeAgreement ? null : ccByLicense())
+                   .withAdministrativeAgreement(administrativeAgreement)
+                   .withPublisherAuthority(seed % 2 == 0)
+                   .withEmbargoDate(seed % EMBARGO_FREQUENCY == 0 ? NOW.plus(Duration.ofDays(seed)) : null)
+                   .withType(FILE_TYPES[seed % FILE_TYPES.length])
+                   .build();
+    }
+
+    public static List<File> files(int numberOfFiles) {
+        return IntStream.range(0, numberOfFiles)
+                   .mapToObj(BenchmarkData::file)
+                   .collect(Collectors.toList());
+    }
+
+    public static FileSet fileSet(int numberOfFiles) {
+        return new FileSet(files(numberOfFiles));
+    }
+}
@@ -0,0 +1,85 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.binary.BinaryCodec;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encoding and decoding of a {@link FileSet} with {@link BinaryCodec}, compared to Jackson JSON. The encoding
+ * benchmarks report the size of their output as the secondary result {@code encodedBytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    private static final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Param({"1", "100", "10000"})
+    public int numberOfFiles;
+
+    private FileSet fileSet;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        fileSet = BenchmarkData.fileSet(numberOfFiles);
+        json = objectMapper.writeValueAsBytes(fileSet);
+        binary = BinaryCodec.encode(fileSet);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary(EncodedSize encodedSize) {
+        return encodedSize.record(BinaryCodec.encode(fileSet));
+    }
+
+    @Benchmark
+    public FileSet decodeBinary() {
+        return BinaryCodec.decodeFileSet(binary);
+    }
+
+    @Benchmark
+    public byte[] encodeJson(EncodedSize encodedSize) throws JsonProcessingException {
+        return encodedSize.record(objectMapper.writeValueAsBytes(fileSet));
+    }
+
+    @Benchmark
+    public FileSet decodeJson() throws IOException {
+        return objectMapper.readValue(json, FileSet.class);
+    }
+
+    /**
+     * The size of the last output of an encoding benchmark, reported by JMH next to the timing of the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        public long encodedBytes;
+
+        public byte[] record(byte[] encoded) {
+            encodedBytes = encoded.length;
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.validation.BulkValidator;
+import no.unit.nva.file.model.validation.ValidationReport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validation of many file sets, on the calling thread and on the common fork-join pool, to show how the throughput of
+ * {@link BulkValidator} scales with the number of cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkValidationBenchmark {
+
+    private static final int FILES_PER_SET = 20;
+
+    @Param({"1000", "100000"})
+    public int numberOfSets;
+
+    private List<FileSet> fileSets;
+    private BulkValidator serialValidator;
+    private BulkValidator parallelValidator;
+
+    @Setup
+    public void setup() {
+        FileSet fileSet = BenchmarkData.fileSet(FILES_PER_SET);
+        fileSets = IntStream.range(0, numberOfSets).mapToObj(index -> fileSet).collect(Collectors.toList());
+        serialValidator = new BulkValidator(Runnable::run, BulkValidator.DEFAULT_BATCH_SIZE);
+        parallelValidator = new BulkValidator();
+    }
+
+    @Benchmark
+    public ValidationReport validateSerially() {
+        return serialValidator.validate(fileSets);
+    }
+
+    @Benchmark
+    public ValidationReport validateInParallel() {
+        return parallelValidator.validate(fileSets);
+    }
+}
@@ -0,0 +1,70 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.duplicates.IdentifierSketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The first pass of finding duplicate file identifiers in a corpus: adding every identifier to an
+ * {@link IdentifierSketch}, compared to an exact hash set of all identifiers, which needs far more memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DuplicateDetectionBenchmark {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+
+    @Param({"100000", "1000000"})
+    public int numberOfFiles;
+
+    private UUID[] identifiers;
+
+    @Setup
+    public void setup() {
+        identifiers = new UUID[numberOfFiles];
+        for (int index = 0; index < numberOfFiles; index++) {
+            identifiers[index] = UUID.randomUUID();
+        }
+    }
+
+    @Benchmark
+    public int sketch() {
+        IdentifierSketch sketch = IdentifierSketch.create(numberOfFiles, FALSE_POSITIVE_PROBABILITY);
+        int possibleDuplicates = 0;
+        for (UUID identifier : identifiers) {
+            if (sketch.add(identifier)) {
+                possibleDuplicates++;
+            }
+        }
+        return possibleDuplicates;
+    }
+
+    @Benchmark
+    public int hashSet() {
+        Set<UUID> seen = new HashSet<>();
+        int duplicates = 0;
+        for (UUID identifier : identifiers) {
+            if (!seen.add(identifier)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+}
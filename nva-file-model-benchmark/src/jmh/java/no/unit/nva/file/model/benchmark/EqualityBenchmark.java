@@ -0,0 +1,75 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.Fingerprint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code hashCode} and {@code equals} of {@link File} and {@link FileSet}, as used for map keys and change detection.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EqualityBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int numberOfFiles;
+
+    private File file;
+    private File equalFile;
+    private FileSet fileSet;
+    private FileSet equalFileSet;
+
+    @Setup
+    public void setup() {
+        file = BenchmarkData.file(numberOfFiles);
+        equalFile = BenchmarkData.file(numberOfFiles);
+        fileSet = BenchmarkData.fileSet(numberOfFiles);
+        equalFileSet = BenchmarkData.fileSet(numberOfFiles);
+    }
+
+    @Benchmark
+    public int fileHashCode() {
+        return file.hashCode();
+    }
+
+    @Benchmark
+    public boolean fileEquals() {
+        return file.equals(equalFile);
+    }
+
+    @Benchmark
+    public int fileSetHashCode() {
+        return fileSet.hashCode();
+    }
+
+    @Benchmark
+    public boolean fileSetEquals() {
+        return fileSet.equals(equalFileSet);
+    }
+
+    @Benchmark
+    public Fingerprint fileFingerprint() {
+        return file.getFingerprint();
+    }
+
+    @Benchmark
+    public Fingerprint fileSetFingerprint() {
+        return fileSet.getFingerprint();
+    }
+}
@@ -0,0 +1,104 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.catalog.FileCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Opening a catalog of files and looking up or scanning its files, compared to loading the same files from JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileCatalogBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+    private static final TypeReference<List<File>> FILE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"10000", "100000"})
+    public int numberOfFiles;
+
+    private Path directory;
+    private FileCatalog catalog;
+    private byte[] filesJson;
+    private UUID identifier;
+
+    @Setup
+    public void setup() throws IOException {
+        List<File> files = BenchmarkData.files(numberOfFiles);
+        directory = Files.createTempDirectory("file-catalog-benchmark");
+        try (FileCatalog newCatalog = FileCatalog.open(directory)) {
+            for (File file : files) {
+                newCatalog.append(file);
+            }
+        }
+        catalog = FileCatalog.open(directory);
+        filesJson = OBJECT_MAPPER.writeValueAsBytes(files);
+        identifier = files.get(numberOfFiles / 2).getIdentifier();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        catalog.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public File openCatalogAndGetFile() throws IOException {
+        try (FileCatalog reopened = FileCatalog.open(directory)) {
+            return reopened.getFile(identifier).orElseThrow();
+        }
+    }
+
+    @Benchmark
+    public File loadJsonAndGetFile() throws IOException {
+        List<File> files = OBJECT_MAPPER.readValue(filesJson, FILE_LIST);
+        return files.stream().filter(file -> identifier.equals(file.getIdentifier())).findAny().orElseThrow();
+    }
+
+    @Benchmark
+    public File getFile() {
+        return catalog.getFile(identifier).orElseThrow();
+    }
+
+    @Benchmark
+    public long scanCatalog() {
+        return catalog.stream().filter(File::isVisibleForNonOwner).count();
+    }
+
+    @Benchmark
+    public long scanJson() throws IOException {
+        List<File> files = OBJECT_MAPPER.readValue(filesJson, FILE_LIST);
+        return files.stream().filter(File::isVisibleForNonOwner).count();
+    }
+}
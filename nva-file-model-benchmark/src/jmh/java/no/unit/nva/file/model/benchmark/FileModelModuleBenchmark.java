@@ -0,0 +1,70 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileModelModule;
+import no.unit.nva.file.model.FileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON round-trips of {@link FileSet} with the reflection-based binding of the annotated model and with the
+ * hand-written serializers of {@link FileModelModule}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileModelModuleBenchmark {
+
+    public static final String REFLECTION = "reflection";
+    public static final String MODULE = "module";
+
+    @Param({REFLECTION, MODULE})
+    public String binding;
+
+    @Param({"1", "100", "10000"})
+    public int numberOfFiles;
+
+    private FileSet fileSet;
+    private byte[] fileSetJson;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        ObjectMapper objectMapper = MODULE.equals(binding)
+                                        ? JsonUtils.dtoObjectMapper.copy().registerModule(new FileModelModule())
+                                        : JsonUtils.dtoObjectMapper;
+        writer = objectMapper.writerFor(FileSet.class);
+        reader = objectMapper.readerFor(FileSet.class);
+        fileSet = BenchmarkData.fileSet(numberOfFiles);
+        fileSetJson = writer.writeValueAsBytes(fileSet);
+    }
+
+    @Benchmark
+    public byte[] serializeFileSet() throws JsonProcessingException {
+        return writer.writeValueAsBytes(fileSet);
+    }
+
+    @Benchmark
+    public FileSet deserializeFileSet() throws IOException {
+        return reader.readValue(fileSetJson);
+    }
+}
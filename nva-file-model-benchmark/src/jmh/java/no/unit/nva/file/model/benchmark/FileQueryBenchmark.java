@@ -0,0 +1,78 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.query.FileIndex;
+import no.unit.nva.file.model.query.FileQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filtering files by a combination of fields with a stream over the files, compared to a query answered from the
+ * bitmaps of a {@link FileIndex}, and the cost of building the index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileQueryBenchmark {
+
+    private static final String MIME_TYPE = "application/pdf";
+    private static final long MAXIMUM_SIZE = 1000;
+    private static final FileQuery QUERY = FileQuery.type(FileType.PUBLISHED_FILE)
+                                               .and(FileQuery.administrativeAgreement(false))
+                                               .and(FileQuery.mimeType(MIME_TYPE))
+                                               .and(FileQuery.sizeBetween(0, MAXIMUM_SIZE))
+                                               .and(FileQuery.underEmbargo(BenchmarkData.NOW).not());
+
+    @Param({"1000", "100000"})
+    public int numberOfFiles;
+
+    private List<File> files;
+    private FileIndex index;
+
+    @Setup
+    public void setup() {
+        files = BenchmarkData.files(numberOfFiles);
+        index = FileIndex.of(files);
+    }
+
+    @Benchmark
+    public long countWithStream() {
+        return files.stream().filter(QUERY::matches).count();
+    }
+
+    @Benchmark
+    public int countWithIndex() {
+        return index.count(QUERY);
+    }
+
+    @Benchmark
+    public List<File> findWithStream() {
+        return files.stream().filter(QUERY::matches).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<File> findWithIndex() {
+        return index.find(QUERY);
+    }
+
+    @Benchmark
+    public FileIndex buildIndex() {
+        return FileIndex.of(files);
+    }
+}
@@ -0,0 +1,56 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction of a {@link FileSet}, which is dominated by the check that file identifiers are unique.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSetConstructionBenchmark {
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    public int numberOfFiles;
+
+    private List<File> files;
+    private List<File> filesWithDuplicateAtTheEnd;
+
+    @Setup
+    public void setup() {
+        files = BenchmarkData.files(numberOfFiles);
+        filesWithDuplicateAtTheEnd = BenchmarkData.files(numberOfFiles);
+        filesWithDuplicateAtTheEnd.add(filesWithDuplicateAtTheEnd.get(0));
+    }
+
+    @Benchmark
+    public FileSet constructFileSet() {
+        return new FileSet(files);
+    }
+
+    @Benchmark
+    public boolean rejectDuplicateIdentifier() {
+        try {
+            return new FileSet(filesWithDuplicateAtTheEnd).getFiles().isEmpty();
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+}
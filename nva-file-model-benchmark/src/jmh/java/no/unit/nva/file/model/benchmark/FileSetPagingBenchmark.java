@@ -0,0 +1,67 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.paging.FilePage;
+import no.unit.nva.file.model.paging.FileSetStreamWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Responding with a large {@link FileSet}: serializing it into a buffer, streaming it with
+ * {@link FileSetStreamWriter}, and streaming one {@link FilePage} of it, taken with a cursor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSetPagingBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000"})
+    public int numberOfFiles;
+
+    private FileSet fileSet;
+    private String cursor;
+    private FileSetStreamWriter writer;
+
+    @Setup
+    public void setup() {
+        fileSet = BenchmarkData.fileSet(numberOfFiles);
+        cursor = fileSet.getPage(numberOfFiles / 2, PAGE_SIZE).getNextCursor();
+        writer = FileSetStreamWriter.create(OBJECT_MAPPER);
+    }
+
+    @Benchmark
+    public byte[] serializeIntoBuffer() throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(fileSet);
+    }
+
+    @Benchmark
+    public int streamFileSet() throws IOException {
+        return writer.write(fileSet, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public int streamPageAfterCursor() throws IOException {
+        return writer.write(fileSet.getPage(cursor, PAGE_SIZE), OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,75 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.License;
+import no.unit.nva.file.model.diff.FileSetPatch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writing a delta for a license change of a single file, compared to rewriting the whole {@link FileSet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSetPatchBenchmark {
+
+    private static final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int numberOfFiles;
+
+    private FileSet before;
+    private FileSet after;
+    private FileSetPatch patch;
+
+    @Setup
+    public void setup() {
+        before = BenchmarkData.fileSet(numberOfFiles);
+        List<File> files = new ArrayList<>(before.getFiles());
+        int middle = numberOfFiles / 2 + 1;
+        License license = new License.Builder().withIdentifier("CC0").build();
+        files.set(middle, files.get(middle).copy().withLicense(license).build());
+        after = new FileSet(files);
+        patch = FileSetPatch.between(before, after);
+    }
+
+    @Benchmark
+    public FileSetPatch diff() {
+        return FileSetPatch.between(before, after);
+    }
+
+    @Benchmark
+    public FileSet apply() {
+        return patch.applyTo(before);
+    }
+
+    @Benchmark
+    public String diffAndWritePatch() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(FileSetPatch.between(before, after));
+    }
+
+    @Benchmark
+    public String writeWholeFileSet() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(after);
+    }
+}
@@ -0,0 +1,104 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.registry.FileSetRegistry;
+import no.unit.nva.file.model.registry.VersionedFileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Many readers and one writer sharing cached file sets, through a {@link FileSetRegistry} and through a synchronized
+ * map where a file is replaced while holding the lock of the map.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSetRegistryBenchmark {
+
+    private static final int READERS = 7;
+    private static final int NUMBER_OF_KEYS = 1000;
+    private static final long UNBOUNDED = Long.MAX_VALUE;
+
+    @Param({"10", "100"})
+    public int filesPerSet;
+
+    private FileSetRegistry<Integer> registry;
+    private Map<Integer, FileSet> synchronizedMap;
+
+    @Setup
+    public void setup() {
+        registry = new FileSetRegistry<>(UNBOUNDED);
+        synchronizedMap = Collections.synchronizedMap(new HashMap<>());
+        for (int key = 0; key < NUMBER_OF_KEYS; key++) {
+            FileSet fileSet = BenchmarkData.fileSet(filesPerSet);
+            registry.put(key, fileSet);
+            synchronizedMap.put(key, fileSet);
+        }
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(READERS)
+    public VersionedFileSet readRegistry() {
+        return registry.get(randomKey()).orElseThrow();
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(1)
+    public VersionedFileSet updateRegistry() {
+        return registry.replaceFile(randomKey(), renamedFile());
+    }
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(READERS)
+    public FileSet readSynchronizedMap() {
+        return synchronizedMap.get(randomKey());
+    }
+
+    @Benchmark
+    @Group("synchronizedMap")
+    @GroupThreads(1)
+    public FileSet updateSynchronizedMap() {
+        int key = randomKey();
+        File file = renamedFile();
+        synchronized (synchronizedMap) {
+            FileSet fileSet = synchronizedMap.get(key);
+            List<File> files = new ArrayList<>(fileSet.getFiles());
+            files.set(fileSet.indexOf(file.getIdentifier()), file);
+            return synchronizedMap.put(key, new FileSet(files));
+        }
+    }
+
+    private File renamedFile() {
+        int seed = ThreadLocalRandom.current().nextInt(filesPerSet);
+        return BenchmarkData.file(seed).copy().withName("renamed-" + seed + ".pdf").build();
+    }
+
+    private static int randomKey() {
+        return ThreadLocalRandom.current().nextInt(NUMBER_OF_KEYS);
+    }
+}
@@ -0,0 +1,80 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileSetSummary;
+import no.unit.nva.file.model.paging.FileSetStreamWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The aggregates shown on a landing page: computed by walking the files, taken from the cached summary of a set with
+ * shared licenses, read from the JSON of the set, and read from JSON written with its summary without deserializing
+ * the files, compared to deserializing the whole set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileSetSummaryBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+
+    @Param({"1", "100", "10000"})
+    public int numberOfFiles;
+
+    private FileSet fileSet;
+    private String fileSetJson;
+    private String summarizedFileSetJson;
+
+    @Setup
+    public void setup() throws IOException {
+        fileSetJson = OBJECT_MAPPER.writeValueAsString(BenchmarkData.fileSet(numberOfFiles));
+        fileSet = OBJECT_MAPPER.readValue(fileSetJson, FileSet.class);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FileSetStreamWriter.create(OBJECT_MAPPER).withSummary().write(fileSet, output);
+        summarizedFileSetJson = output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public FileSetSummary summarizeFiles() {
+        return FileSetSummary.of(fileSet.getFiles());
+    }
+
+    @Benchmark
+    public FileSetSummary cachedSummary() {
+        return fileSet.getSummary();
+    }
+
+    @Benchmark
+    public FileSetSummary readSummaryFromJson() throws IOException {
+        return FileSetSummary.readFromFileSet(OBJECT_MAPPER, fileSetJson);
+    }
+
+    @Benchmark
+    public FileSetSummary readEmbeddedSummaryFromJson() throws IOException {
+        return FileSetSummary.readFromFileSet(OBJECT_MAPPER, summarizedFileSetJson);
+    }
+
+    @Benchmark
+    public FileSetSummary deserializeFileSet() throws JsonProcessingException {
+        return OBJECT_MAPPER.readValue(fileSetJson, FileSet.class).getSummary();
+    }
+}
@@ -0,0 +1,34 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.FileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link FileType#lookUp(String)}, which runs once for every deserialized file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileTypeBenchmark {
+
+    @Param({"File", "PublishedFile", "UnpublishableFile", "unpublishedfile"})
+    public String value;
+
+    @Benchmark
+    public FileType lookUp() {
+        return FileType.lookUp(value);
+    }
+}
@@ -0,0 +1,66 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.migration.FileTypeMigration;
+import no.unit.nva.file.model.migration.MigratedDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Migrating a stored file set with the legacy file type, by rewriting its tokens and by deserializing and serializing
+ * it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileTypeMigrationBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+    private static final FileTypeMigration MIGRATION = new FileTypeMigration(OBJECT_MAPPER);
+
+    @Param({"1", "100"})
+    public int numberOfFiles;
+
+    private byte[] legacyJson;
+
+    @Setup
+    @SuppressWarnings("deprecation")
+    public void setup() throws JsonProcessingException {
+        String json = OBJECT_MAPPER.writeValueAsString(BenchmarkData.fileSet(numberOfFiles));
+        legacyJson = json.replace(quoted(FileType.PUBLISHED_FILE), quoted(FileType.FILE))
+                         .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MigratedDocument rewriteTokens() throws IOException {
+        return MIGRATION.migrate(legacyJson);
+    }
+
+    @Benchmark
+    public byte[] deserializeAndSerialize() throws IOException {
+        return OBJECT_MAPPER.writeValueAsBytes(OBJECT_MAPPER.readValue(legacyJson, FileSet.class));
+    }
+
+    private static String quoted(FileType type) {
+        return "\"" + type.getValue() + "\"";
+    }
+}
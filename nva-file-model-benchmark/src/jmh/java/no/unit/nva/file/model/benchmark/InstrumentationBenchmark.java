@@ -0,0 +1,143 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.metrics.CountingModelMetrics;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelOperation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of the metrics hooks. Constructing a FileSet and validating a file are measured three ways: without hooks,
+ * by a copy of the work of the model code that has none; with the hooks disabled by {@value #DISABLED}, which should
+ * cost the same; and with {@link CountingModelMetrics} installed by {@value #ENABLED}. Each way runs in its own fork,
+ * since the choice is made once per JVM. The cost of recording into CountingModelMetrics is also measured alone and
+ * from several threads at once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = InstrumentationBenchmark.DISABLED)
+public class InstrumentationBenchmark {
+
+    static final String DISABLED = "-D" + Instrumentation.DISABLED_PROPERTY + "=true";
+    static final String ENABLED = "-D" + Instrumentation.IMPLEMENTATION_PROPERTY
+                                  + "=no.unit.nva.file.model.metrics.CountingModelMetrics";
+    private static final int NUMBER_OF_FILES = 10;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final CountingModelMetrics metrics = new CountingModelMetrics();
+    private List<File> files;
+    private File file;
+    private long startTime;
+
+    @Setup
+    public void setup() {
+        files = BenchmarkData.files(NUMBER_OF_FILES);
+        file = files.get(0);
+        startTime = System.nanoTime();
+    }
+
+    @Benchmark
+    public boolean metricsAreDisabled() {
+        return Instrumentation.isEnabled();
+    }
+
+    @Benchmark
+    public UninstrumentedFileSet constructFileSetWithoutHooks() {
+        return new UninstrumentedFileSet(files);
+    }
+
+    @Benchmark
+    public FileSet constructFileSetWithDisabledHooks() {
+        return new FileSet(files);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = ENABLED)
+    public FileSet constructFileSetWithEnabledHooks() {
+        return new FileSet(files);
+    }
+
+    @Benchmark
+    public boolean validateWithoutHooks() {
+        return file.isMissingLicense();
+    }
+
+    @Benchmark
+    public File validateWithDisabledHooks() {
+        file.validate();
+        return file;
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = ENABLED)
+    public File validateWithEnabledHooks() {
+        file.validate();
+        return file;
+    }
+
+    @Benchmark
+    public CountingModelMetrics recordLatency() {
+        metrics.recordLatency(ModelOperation.FILE_SET_CONSTRUCTION, System.nanoTime() - startTime);
+        return metrics;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CountingModelMetrics recordLatencyFromFourThreads() {
+        return recordLatency();
+    }
+
+    @Benchmark
+    public CountingModelMetrics recordFileSetSize() {
+        metrics.recordFileSetSize(NUMBER_OF_FILES);
+        return metrics;
+    }
+
+    /**
+     * The main work of the FileSet constructor without its hooks: copying the files and indexing their identifiers.
+     */
+    public static final class UninstrumentedFileSet {
+
+        private final List<File> files;
+        private final Map<UUID, Integer> identifierIndex;
+
+        public UninstrumentedFileSet(List<File> files) {
+            this.files = Collections.unmodifiableList(new ArrayList<>(files));
+            this.identifierIndex = new HashMap<>((int) (files.size() / LOAD_FACTOR) + 1);
+            for (int position = 0; position < files.size(); position++) {
+                if (identifierIndex.putIfAbsent(files.get(position).getIdentifier(), position) != null) {
+                    throw new IllegalArgumentException(FileSet.DUPLICATE_FILE_IDENTIFIER_ERROR);
+                }
+            }
+        }
+
+        public List<File> getFiles() {
+            return files;
+        }
+
+        public Map<UUID, Integer> getIdentifierIndex() {
+            return identifierIndex;
+        }
+    }
+}
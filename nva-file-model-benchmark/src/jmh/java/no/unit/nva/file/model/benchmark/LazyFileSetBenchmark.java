@@ -0,0 +1,69 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.LazyFileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading a single file, or only the number of files, from the JSON of a set, by deserializing the whole
+ * {@link FileSet} and through a {@link LazyFileSet}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyFileSetBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+
+    @Param({"10", "1000", "10000"})
+    public int numberOfFiles;
+
+    private byte[] fileSetJson;
+    private UUID identifier;
+
+    @Setup
+    public void setup() throws IOException {
+        FileSet fileSet = BenchmarkData.fileSet(numberOfFiles);
+        fileSetJson = OBJECT_MAPPER.writeValueAsBytes(fileSet);
+        identifier = fileSet.getFiles().get(numberOfFiles / 2).getIdentifier();
+    }
+
+    @Benchmark
+    public File deserializeAndGetFile() throws IOException {
+        return OBJECT_MAPPER.readValue(fileSetJson, FileSet.class).getFile(identifier).orElseThrow();
+    }
+
+    @Benchmark
+    public File scanAndGetFile() throws IOException {
+        return LazyFileSet.fromJson(OBJECT_MAPPER, fileSetJson).getFile(identifier).orElseThrow();
+    }
+
+    @Benchmark
+    public int deserializeAndCount() throws IOException {
+        return OBJECT_MAPPER.readValue(fileSetJson, FileSet.class).getFiles().size();
+    }
+
+    @Benchmark
+    public int scanAndCount() throws IOException {
+        return LazyFileSet.fromJson(OBJECT_MAPPER, fileSetJson).size();
+    }
+}
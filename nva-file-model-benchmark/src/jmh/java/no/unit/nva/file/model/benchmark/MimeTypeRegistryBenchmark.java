@@ -0,0 +1,43 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.MimeTypeRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link MimeTypeRegistry#intern(String)}, which runs once for every deserialized file, for a common and an uncommon
+ * MIME type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MimeTypeRegistryBenchmark {
+
+    @Param({"application/pdf", "application/x-uncommon"})
+    public String value;
+
+    private String mimeType;
+
+    @Setup
+    public void setup() {
+        mimeType = new String(value);
+    }
+
+    @Benchmark
+    public String intern() {
+        return MimeTypeRegistry.getDefault().intern(mimeType);
+    }
+}
@@ -0,0 +1,109 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.ndjson.Compression;
+import no.unit.nva.file.model.ndjson.NdjsonReader;
+import no.unit.nva.file.model.ndjson.NdjsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Export and import of a dump of file sets as newline-delimited JSON, with {@link NdjsonWriter} and
+ * {@link NdjsonReader}, compared to serializing and deserializing every set as a document of its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NdjsonBenchmark {
+
+    private static final int FILES_PER_SET = 10;
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+
+    @Param({"1000", "10000"})
+    public int numberOfSets;
+
+    @Param({"NONE", "GZIP"})
+    public Compression compression;
+
+    private List<FileSet> fileSets;
+    private byte[] dump;
+
+    @Setup
+    public void setup() throws IOException {
+        FileSet fileSet = BenchmarkData.fileSet(FILES_PER_SET);
+        fileSets = IntStream.range(0, numberOfSets).mapToObj(index -> fileSet).collect(Collectors.toList());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (NdjsonWriter<FileSet> writer = NdjsonWriter.open(OBJECT_MAPPER, FileSet.class, output, compression)) {
+            writer.writeAll(fileSets.stream());
+        }
+        dump = output.toByteArray();
+    }
+
+    @Benchmark
+    public long writeDump() throws IOException {
+        try (NdjsonWriter<FileSet> writer = NdjsonWriter.open(OBJECT_MAPPER, FileSet.class,
+                                                              OutputStream.nullOutputStream(), compression)) {
+            return writer.writeAll(fileSets.stream());
+        }
+    }
+
+    @Benchmark
+    public long writeDocumentByDocument() throws IOException {
+        long written = 0;
+        try (OutputStream output = compression.compress(OutputStream.nullOutputStream())) {
+            for (FileSet fileSet : fileSets) {
+                output.write(OBJECT_MAPPER.writeValueAsBytes(fileSet));
+                output.write('\n');
+                written++;
+            }
+        }
+        return written;
+    }
+
+    @Benchmark
+    public long readDump() throws IOException {
+        try (NdjsonReader<FileSet> reader = NdjsonReader.open(OBJECT_MAPPER, FileSet.class,
+                                                              new ByteArrayInputStream(dump), compression)) {
+            return reader.stream().mapToLong(fileSet -> fileSet.getFiles().size()).sum();
+        }
+    }
+
+    @Benchmark
+    public long readDocumentByDocument() throws IOException {
+        long numberOfFiles = 0;
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(
+            compression.decompress(new ByteArrayInputStream(dump)), StandardCharsets.UTF_8))) {
+            String line = lines.readLine();
+            while (line != null) {
+                numberOfFiles += OBJECT_MAPPER.readValue(line, FileSet.class).getFiles().size();
+                line = lines.readLine();
+            }
+        }
+        return numberOfFiles;
+    }
+}
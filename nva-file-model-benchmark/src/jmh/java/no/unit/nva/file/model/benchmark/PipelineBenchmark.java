@@ -0,0 +1,82 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.flow.FileStages;
+import no.unit.nva.file.model.flow.Pipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ingesting an upload of files by decoding, validating, filtering, normalizing and encoding them, with a
+ * {@link Pipeline} of stages that overlap, compared to collecting a full list between every step.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonUtils.dtoObjectMapper;
+    private static final int BATCH_SIZE = 25;
+
+    @Param({"10000", "100000"})
+    public int numberOfFiles;
+
+    @Param({"16", "256"})
+    public int bufferCapacity;
+
+    private List<byte[]> upload;
+
+    @Setup
+    public void setup() {
+        Function<File, byte[]> encode = FileStages.encode(OBJECT_MAPPER);
+        upload = BenchmarkData.files(numberOfFiles).stream().map(encode).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public long pipeline() throws ExecutionException, InterruptedException {
+        LongAdder written = new LongAdder();
+        Pipeline.fromStream(upload.stream(), ForkJoinPool.commonPool(), bufferCapacity)
+            .map(FileStages.decode(OBJECT_MAPPER))
+            .filter(file -> !file.isMissingLicense())
+            .filter(FileStages.visibleForNonOwner(BenchmarkData.NOW))
+            .map(FileStages.normalizeLicense())
+            .map(FileStages.encode(OBJECT_MAPPER))
+            .batch(BATCH_SIZE)
+            .forEach(batch -> written.add(batch.size()))
+            .get();
+        return written.sum();
+    }
+
+    @Benchmark
+    public long listBetweenStages() {
+        List<File> decoded = upload.stream().map(FileStages.decode(OBJECT_MAPPER)).collect(Collectors.toList());
+        List<File> valid = decoded.stream().filter(file -> !file.isMissingLicense()).collect(Collectors.toList());
+        List<File> visible = valid.stream()
+                                 .filter(FileStages.visibleForNonOwner(BenchmarkData.NOW))
+                                 .collect(Collectors.toList());
+        List<File> normalized = visible.stream().map(FileStages.normalizeLicense()).collect(Collectors.toList());
+        List<byte[]> encoded = normalized.stream().map(FileStages.encode(OBJECT_MAPPER)).collect(Collectors.toList());
+        return encoded.size();
+    }
+}
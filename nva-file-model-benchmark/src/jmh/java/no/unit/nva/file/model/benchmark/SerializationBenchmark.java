@@ -0,0 +1,70 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON round-trips of {@link File} and {@link FileSet} through the object mapper used by the NVA services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private static final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Param({"1", "10", "100", "1000", "10000", "100000"})
+    public int numberOfFiles;
+
+    private FileSet fileSet;
+    private byte[] fileSetJson;
+    private File file;
+    private byte[] fileJson;
+
+    @Setup
+    public void setup() throws JsonProcessingException {
+        fileSet = BenchmarkData.fileSet(numberOfFiles);
+        fileSetJson = objectMapper.writeValueAsBytes(fileSet);
+        file = BenchmarkData.file(numberOfFiles);
+        fileJson = objectMapper.writeValueAsBytes(file);
+    }
+
+    @Benchmark
+    public byte[] serializeFileSet() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fileSet);
+    }
+
+    @Benchmark
+    public FileSet deserializeFileSet() throws IOException {
+        return objectMapper.readValue(fileSetJson, FileSet.class);
+    }
+
+    @Benchmark
+    public byte[] serializeFile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(file);
+    }
+
+    @Benchmark
+    public File deserializeFile() throws IOException {
+        return objectMapper.readValue(fileJson, File.class);
+    }
+}
@@ -0,0 +1,56 @@
+package no.unit.nva.file.model.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.ModelBootstrap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The time to the first serialized {@link FileSet} in a new JVM, like in the cold start of a Lambda function: with the
+ * default mapper, with the mapper of {@link ModelBootstrap}, and with that mapper after {@link ModelBootstrap#warmUp()}
+ * has run, e.g. before a snapshot. Every fork measures a single invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class StartupBenchmark {
+
+    public static final String DEFAULT = "default";
+    public static final String BOOTSTRAP = "bootstrap";
+    public static final String WARMED_UP = "warmedUp";
+
+    @Param({DEFAULT, BOOTSTRAP, WARMED_UP})
+    public String startup;
+
+    private FileSet fileSet;
+
+    @Setup
+    public void setup() {
+        fileSet = BenchmarkData.fileSet(10);
+        if (WARMED_UP.equals(startup)) {
+            ModelBootstrap.warmUp();
+        }
+    }
+
+    @Benchmark
+    public byte[] firstSerializedFileSet() throws JsonProcessingException {
+        ObjectMapper objectMapper = DEFAULT.equals(startup) ? JsonUtils.dtoObjectMapper : ModelBootstrap.objectMapper();
+        return objectMapper.writeValueAsBytes(fileSet);
+    }
+}
@@ -0,0 +1,65 @@
+package no.unit.nva.file.model.benchmark;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Visibility of every file of a set, as when filtering a set for anonymous users. Compares reading the clock once per
+ * file through {@link File#isVisibleForNonOwner()} with evaluating the whole set against one instant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VisibilityBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int numberOfFiles;
+
+    private List<File> files;
+    private FileSet fileSet;
+
+    @Setup
+    public void setup() {
+        files = BenchmarkData.files(numberOfFiles);
+        fileSet = new FileSet(files);
+    }
+
+    @Benchmark
+    public int countVisibleFiles() {
+        int visible = 0;
+        for (File file : files) {
+            if (file.isVisibleForNonOwner()) {
+                visible++;
+            }
+        }
+        return visible;
+    }
+
+    @Benchmark
+    public List<File> filesVisibleAtOneInstant() {
+        return fileSet.getFilesVisibleForNonOwner(Instant.now());
+    }
+
+    @Benchmark
+    public BitSet visibilityAtOneInstant() {
+        return fileSet.getVisibilityForNonOwner(Instant.now());
+    }
+}
@@ -0,0 +1,340 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.time.Instant;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+
+/**
+ * A memory-efficient representation of a {@link FileSet} for large sets. Instead of one object graph per file, the
+ * fields of all files are stored column by column in primitive arrays and bit sets: identifiers as pairs of longs,
+ * sizes as longs, file types as bytes, embargo dates as epoch seconds and nanoseconds, and licenses as references into
+ * a dictionary of distinct licenses. Files are looked up by identifier through an open-addressing table of positions.
+ * {@link File} objects are created on demand when they are accessed.
+ *
+ * <p>A ColumnarFileSet has the same JSON representation as a FileSet with the same files, and {@link #getFiles()}
+ * behaves like {@link FileSet#getFiles()}.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = FileSet.TYPE)
+@JsonTypeName(FileSet.TYPE_NAME)
+public class ColumnarFileSet {
+
+    private static final byte NO_TYPE = -1;
+    private static final int NO_LICENSE = -1;
+    private static final int EMPTY_SLOT = 0;
+    private static final int HASH_SHIFT = 16;
+    private static final int TABLE_SIZE_SHIFT = 2;
+    private static final FileType[] FILE_TYPES = FileType.values();
+
+    private final int size;
+    private final long[] identifierBits;
+    private final BitSet identifiers;
+    private final String[] names;
+    private final String[] mimeTypes;
+    private final long[] sizes;
+    private final BitSet hasSize;
+    private final License[] licenseDictionary;
+    private final int[] licenseReferences;
+    private final BitSet administrativeAgreements;
+    private final BitSet publisherAuthorities;
+    private final byte[] types;
+    private final long[] embargoEpochSeconds;
+    private final int[] embargoNanos;
+    private final BitSet hasEmbargoDate;
+    private final int[] identifierTable;
+    private final int positionWithoutIdentifier;
+    private final FileSetSummary summary;
+
+    private ColumnarFileSet(List<File> files) {
+        this.size = files.size();
+        this.identifierBits = new long[2 * size];
+        this.identifiers = new BitSet(size);
+        this.names = new String[size];
+        this.mimeTypes = new String[size];
+        this.sizes = new long[size];
+        this.hasSize = new BitSet(size);
+        this.licenseReferences = new int[size];
+        this.administrativeAgreements = new BitSet(size);
+        this.publisherAuthorities = new BitSet(size);
+        this.types = new byte[size];
+        this.embargoEpochSeconds = new long[size];
+        this.hasEmbargoDate = new BitSet(size);
+        this.identifierTable = new int[Integer.highestOneBit(Math.max(size, 1)) << TABLE_SIZE_SHIFT];
+        List<License> licenses = new ArrayList<>();
+        Map<License, Integer> licenseIndex = new HashMap<>();
+        int withoutIdentifier = FileSet.NOT_FOUND;
+        boolean fractionalEmbargoDates = false;
+        boolean stableLicenses = true;
+        FileSetSummary.Accumulator accumulator = new FileSetSummary.Accumulator();
+        for (int index = 0; index < size; index++) {
+            File file = files.get(index);
+            accumulator.add(file);
+            stableLicenses &= file.hasStableHashCode();
+            if (!storeIdentifier(index, file.getIdentifier()) && withoutIdentifier == FileSet.NOT_FOUND) {
+                withoutIdentifier = index;
+            }
+            names[index] = file.getName();
+            mimeTypes[index] = file.getMimeType();
+            storeSize(index, file.getSize());
+            licenseReferences[index] = referenceTo(file.getLicense(), licenses, licenseIndex);
+            administrativeAgreements.set(index, file.isAdministrativeAgreement());
+            publisherAuthorities.set(index, file.isPublisherAuthority());
+            types[index] = isNull(file.getType()) ? NO_TYPE : (byte) file.getType().ordinal();
+            fractionalEmbargoDates |= storeEmbargoDate(index, file.getEmbargoDate().orElse(null));
+        }
+        this.licenseDictionary = licenses.toArray(new License[0]);
+        this.positionWithoutIdentifier = withoutIdentifier;
+        this.embargoNanos = fractionalEmbargoDates ? nanosOf(files) : null;
+        this.summary = stableLicenses ? accumulator.toSummary() : null;
+    }
+
+    /**
+     * Creates the columnar representation of a file set.
+     *
+     * @param fileSet a file set, whose file identifiers are known to be unique.
+     * @return a columnar file set with the same files.
+     */
+    public static ColumnarFileSet of(FileSet fileSet) {
+        return new ColumnarFileSet(fileSet.getFiles());
+    }
+
+    @JsonCreator
+    public static ColumnarFileSet fromJson(@JsonProperty(FileSet.FILES) List<File> files) {
+        return of(new FileSet(files));
+    }
+
+    public FileSet toFileSet() {
+        return new FileSet(getFiles());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates the file at a position in the set.
+     *
+     * @param index the position of the file.
+     * @return a new File object with the fields of the file.
+     */
+    public File fileAt(int index) {
+        Objects.checkIndex(index, size);
+        return new File(types[index] == NO_TYPE ? null : FILE_TYPES[types[index]],
+                        identifiers.get(index) ? new UUID(identifierBits[2 * index], identifierBits[2 * index + 1])
+                                               : null,
+                        names[index],
+                        mimeTypes[index],
+                        hasSize.get(index) ? sizes[index] : null,
+                        licenseReferences[index] == NO_LICENSE ? null : licenseDictionary[licenseReferences[index]],
+                        administrativeAgreements.get(index),
+                        publisherAuthorities.get(index),
+                        hasEmbargoDate.get(index) ? embargoDate(index) : null);
+    }
+
+    /**
+     * Looks up a file by its identifier without scanning the set, like {@link FileSet#getFile(UUID)}.
+     *
+     * @param identifier the identifier of the file.
+     * @return a new File object with the fields of the file, or empty if the set contains no file with the identifier.
+     */
+    public Optional<File> getFile(UUID identifier) {
+        int position = indexOf(identifier);
+        return position == FileSet.NOT_FOUND ? Optional.empty() : Optional.of(fileAt(position));
+    }
+
+    public boolean containsFile(UUID identifier) {
+        return indexOf(identifier) != FileSet.NOT_FOUND;
+    }
+
+    /**
+     * Returns the position of a file in {@link #getFiles()}, like {@link FileSet#indexOf(UUID)}.
+     *
+     * @param identifier the identifier of the file.
+     * @return the position of the file, or {@link FileSet#NOT_FOUND} if the set contains no file with the identifier.
+     */
+    public int indexOf(UUID identifier) {
+        if (isNull(identifier)) {
+            return positionWithoutIdentifier;
+        }
+        long mostSignificantBits = identifier.getMostSignificantBits();
+        long leastSignificantBits = identifier.getLeastSignificantBits();
+        int slot = slotOf(mostSignificantBits, leastSignificantBits);
+        int position = positionIn(slot);
+        while (position != FileSet.NOT_FOUND
+               && !hasIdentifier(position, mostSignificantBits, leastSignificantBits)) {
+            slot = nextSlot(slot);
+            position = positionIn(slot);
+        }
+        return position;
+    }
+
+    /**
+     * Returns the aggregates of the files. They are computed while the columns are built if no file has a mutable
+     * license, and on every call otherwise, like {@link FileSet#getSummary()}. They are not part of the JSON of the
+     * set.
+     *
+     * @return the summary of the files.
+     */
+    @JsonIgnore
+    public FileSetSummary getSummary() {
+        return isNull(summary) ? FileSetSummary.of(getFiles()) : summary;
+    }
+
+    /**
+     * Returns an unmodifiable view of the files, where each File object is created when it is accessed.
+     *
+     * @return the files in the set.
+     */
+    @JsonProperty(FileSet.FILES)
+    public List<File> getFiles() {
+        return new FileView();
+    }
+
+    /**
+     * Compares the columns of two sets. Since the license dictionary is built in the order of the files, two sets with
+     * equal files have equal columns.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ColumnarFileSet)) {
+            return false;
+        }
+        ColumnarFileSet that = (ColumnarFileSet) o;
+        return size == that.size
+               && Arrays.equals(identifierBits, that.identifierBits)
+               && identifiers.equals(that.identifiers)
+               && Arrays.equals(names, that.names)
+               && Arrays.equals(mimeTypes, that.mimeTypes)
+               && Arrays.equals(sizes, that.sizes)
+               && hasSize.equals(that.hasSize)
+               && Arrays.equals(licenseReferences, that.licenseReferences)
+               && Arrays.equals(licenseDictionary, that.licenseDictionary)
+               && administrativeAgreements.equals(that.administrativeAgreements)
+               && publisherAuthorities.equals(that.publisherAuthorities)
+               && Arrays.equals(types, that.types)
+               && Arrays.equals(embargoEpochSeconds, that.embargoEpochSeconds)
+               && Arrays.equals(embargoNanos, that.embargoNanos)
+               && hasEmbargoDate.equals(that.hasEmbargoDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(size,
+                            Arrays.hashCode(identifierBits),
+                            Arrays.hashCode(names),
+                            Arrays.hashCode(mimeTypes),
+                            Arrays.hashCode(sizes),
+                            Arrays.hashCode(licenseReferences),
+                            Arrays.hashCode(licenseDictionary),
+                            administrativeAgreements,
+                            publisherAuthorities,
+                            Arrays.hashCode(types),
+                            Arrays.hashCode(embargoEpochSeconds),
+                            Arrays.hashCode(embargoNanos));
+    }
+
+    private boolean storeIdentifier(int index, UUID identifier) {
+        if (isNull(identifier)) {
+            return false;
+        }
+        identifiers.set(index);
+        identifierBits[2 * index] = identifier.getMostSignificantBits();
+        identifierBits[2 * index + 1] = identifier.getLeastSignificantBits();
+        int slot = slotOf(identifierBits[2 * index], identifierBits[2 * index + 1]);
+        while (identifierTable[slot] != EMPTY_SLOT) {
+            slot = nextSlot(slot);
+        }
+        identifierTable[slot] = index + 1;
+        return true;
+    }
+
+    private int slotOf(long mostSignificantBits, long leastSignificantBits) {
+        int hash = Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+        return (hash ^ hash >>> HASH_SHIFT) & (identifierTable.length - 1);
+    }
+
+    private int nextSlot(int slot) {
+        return (slot + 1) & (identifierTable.length - 1);
+    }
+
+    private int positionIn(int slot) {
+        return identifierTable[slot] == EMPTY_SLOT ? FileSet.NOT_FOUND : identifierTable[slot] - 1;
+    }
+
+    private boolean hasIdentifier(int position, long mostSignificantBits, long leastSignificantBits) {
+        return identifierBits[2 * position] == mostSignificantBits
+               && identifierBits[2 * position + 1] == leastSignificantBits;
+    }
+
+    private void storeSize(int index, Long fileSize) {
+        if (nonNull(fileSize)) {
+            hasSize.set(index);
+            sizes[index] = fileSize;
+        }
+    }
+
+    private boolean storeEmbargoDate(int index, Instant embargoDate) {
+        if (isNull(embargoDate)) {
+            return false;
+        }
+        hasEmbargoDate.set(index);
+        embargoEpochSeconds[index] = embargoDate.getEpochSecond();
+        return embargoDate.getNano() != 0;
+    }
+
+    private Instant embargoDate(int index) {
+        return Instant.ofEpochSecond(embargoEpochSeconds[index], isNull(embargoNanos) ? 0 : embargoNanos[index]);
+    }
+
+    private static int referenceTo(License license, List<License> licenses, Map<License, Integer> licenseIndex) {
+        if (isNull(license)) {
+            return NO_LICENSE;
+        }
+        Integer reference = licenseIndex.get(license);
+        if (isNull(reference)) {
+            reference = licenses.size();
+            licenses.add(license);
+            licenseIndex.put(license, reference);
+        }
+        return reference;
+    }
+
+    private static int[] nanosOf(List<File> files) {
+        int[] nanos = new int[files.size()];
+        for (int index = 0; index < nanos.length; index++) {
+            nanos[index] = files.get(index).getEmbargoDate().map(Instant::getNano).orElse(0);
+        }
+        return nanos;
+    }
+
+    private final class FileView extends AbstractList<File> implements RandomAccess {
+
+        @Override
+        public File get(int index) {
+            return fileAt(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -4,11 +4,15 @@ import static java.util.Objects.isNull;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Clock;
 import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import no.unit.nva.file.model.exception.MissingLicenseException;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelError;
+import no.unit.nva.file.model.metrics.ModelOperation;
 import nva.commons.core.JacocoGenerated;
 
 /**
@@ -18,6 +22,15 @@ public class File {
 
     public static final String MISSING_LICENSE =
         "The file is not annotated as an administrative agreement and should have a license";
+    /* default */ static final String TYPE = "type";
+    /* default */ static final String IDENTIFIER = "identifier";
+    /* default */ static final String NAME = "name";
+    /* default */ static final String MIME_TYPE = "mimeType";
+    /* default */ static final String SIZE = "size";
+    /* default */ static final String LICENSE = "license";
+    /* default */ static final String ADMINISTRATIVE_AGREEMENT = "administrativeAgreement";
+    /* default */ static final String PUBLISHER_AUTHORITY = "publisherAuthority";
+    /* default */ static final String EMBARGO_DATE = "embargoDate";
     private final FileType type;
     private final UUID identifier;
     private final String name;
@@ -27,6 +40,7 @@ public class File {
     private final boolean administrativeAgreement;
     private final boolean publisherAuthority;
     private final Instant embargoDate;
+    private int cachedHashCode;
 
     /**
      * Constructor for no.unit.nva.file.model.File objects. A file object is valid if it has a license or is explicitly
@@ -43,17 +57,16 @@ public class File {
      * @param publisherAuthority      True if the file owner has publisher authority
      * @param embargoDate             The date after which the file may be published
      */
-    @JsonCreator
     public File(
-        @JsonProperty("type") FileType type,
-        @JsonProperty("identifier") UUID identifier,
-        @JsonProperty("name") String name,
-        @JsonProperty("mimeType") String mimeType,
-        @JsonProperty("size") Long size,
-        @JsonProperty("license") License license,
-        @JsonProperty("administrativeAgreement") boolean administrativeAgreement,
-        @JsonProperty("publisherAuthority") boolean publisherAuthority,
-        @JsonProperty("embargoDate") Instant embargoDate) {
+        FileType type,
+        UUID identifier,
+        String name,
+        String mimeType,
+        Long size,
+        License license,
+        boolean administrativeAgreement,
+        boolean publisherAuthority,
+        Instant embargoDate) {
 
         this.type = getAppropriateFileType(type, administrativeAgreement);
         this.identifier = identifier;
@@ -66,15 +79,52 @@ public class File {
         this.embargoDate = embargoDate;
     }
 
+    /**
+     * Creates a file from its JSON representation. Licenses are shared through the {@link LicensePool} and MIME types
+     * through the {@link MimeTypeRegistry}, so that files with identical licenses or MIME types refer to the same
+     * instance.
+     *
+     * @return a file with a pooled license and MIME type.
+     */
+    @JsonCreator
+    /* default */ static File fromJson(
+        @JsonProperty(TYPE) FileType type,
+        @JsonProperty(IDENTIFIER) UUID identifier,
+        @JsonProperty(NAME) String name,
+        @JsonProperty(MIME_TYPE) String mimeType,
+        @JsonProperty(SIZE) Long size,
+        @JsonProperty(LICENSE) License license,
+        @JsonProperty(ADMINISTRATIVE_AGREEMENT) boolean administrativeAgreement,
+        @JsonProperty(PUBLISHER_AUTHORITY) boolean publisherAuthority,
+        @JsonProperty(EMBARGO_DATE) Instant embargoDate) {
+        return new File(type, identifier, name, MimeTypeRegistry.getDefault().intern(mimeType), size,
+                        LicensePool.getDefault().intern(license), administrativeAgreement, publisherAuthority,
+                        embargoDate);
+    }
+
     /**
      * Validate the file.
      */
     public void validate() {
-        if (!administrativeAgreement && isNull(license)) {
+        long startTime = Instrumentation.startTime();
+        boolean missingLicense = isMissingLicense();
+        Instrumentation.recordLatency(ModelOperation.FILE_VALIDATION, startTime);
+        if (missingLicense) {
+            Instrumentation.recordError(ModelError.MISSING_LICENSE);
             throw new MissingLicenseException(MISSING_LICENSE);
         }
     }
 
+    /**
+     * Checks the license requirement without throwing, for validating many files at once.
+     *
+     * @return true if the file has no license and is not an administrative agreement.
+     */
+    @JsonIgnore
+    public boolean isMissingLicense() {
+        return !administrativeAgreement && isNull(license);
+    }
+
     private File(Builder builder) {
         this(
             builder.type,
@@ -125,10 +175,43 @@ public class File {
         return Optional.ofNullable(embargoDate);
     }
 
+    /**
+     * Creates a builder initialized with the values of this file, for deriving a modified copy.
+     *
+     * @return a builder that builds a file equal to this one unless it is modified.
+     */
+    public Builder copy() {
+        return new Builder()
+                   .withType(type)
+                   .withIdentifier(identifier)
+                   .withName(name)
+                   .withMimeType(mimeType)
+                   .withSize(size)
+                   .withLicense(license)
+                   .withAdministrativeAgreement(administrativeAgreement)
+                   .withPublisherAuthority(publisherAuthority)
+                   .withEmbargoDate(embargoDate);
+    }
+
     @JsonIgnore
     public boolean isVisibleForNonOwner() {
+        return isVisibleForNonOwner(Instant.now());
+    }
+
+    public boolean isVisibleForNonOwner(Clock clock) {
+        return isVisibleForNonOwner(clock.instant());
+    }
+
+    /**
+     * Checks whether the file is visible for users other than the owner at a given point in time. Evaluating many files
+     * against the same instant gives consistent results and avoids reading the clock once per file.
+     *
+     * @param now the point in time to evaluate the embargo date against.
+     * @return true if the file is visible for users other than the owner.
+     */
+    public boolean isVisibleForNonOwner(Instant now) {
         return !administrativeAgreement
-               && (isNull(embargoDate) || Instant.now().isAfter(embargoDate))
+               && (isNull(embargoDate) || now.isAfter(embargoDate))
                && FileType.UNPUBLISHED_FILE != type;
     }
 
@@ -140,12 +223,51 @@ public class File {
         return fileType == FileType.FILE ? FileType.PUBLISHED_FILE : fileType;
     }
 
-    @JacocoGenerated
+    /**
+     * Computes the hash code of the file. The hash code of the fields of the file itself is computed only once, since
+     * they are immutable, while the license, which may be mutable, contributes its current hash code.
+     *
+     * @return the hash code.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getIdentifier(), getName(), getMimeType(), getSize(),
-                            getLicense(), isAdministrativeAgreement(), isPublisherAuthority(), getEmbargoDate(),
-                            getType());
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = hashCodeOfFields();
+            cachedHashCode = hash;
+        }
+        return 31 * hash + Objects.hashCode(license);
+    }
+
+    /**
+     * Computes a fingerprint of the content of the file that is stable across JVMs and can be persisted.
+     *
+     * @return the fingerprint of the fields of the file.
+     */
+    @JsonIgnore
+    public Fingerprint getFingerprint() {
+        return Fingerprint.of(this);
+    }
+
+    /**
+     * Tells whether the hash code of the file can change. It can only change if the license is modified, which is
+     * not possible for licenses shared through {@link LicensePool}.
+     *
+     * @return true if the hash code of the file can never change.
+     */
+    /* default */ boolean hasStableHashCode() {
+        return isNull(license) || license.isImmutable();
+    }
+
+    private int hashCodeOfFields() {
+        int hash = Objects.hashCode(identifier);
+        hash = 31 * hash + Objects.hashCode(name);
+        hash = 31 * hash + Objects.hashCode(mimeType);
+        hash = 31 * hash + Objects.hashCode(size);
+        hash = 31 * hash + Boolean.hashCode(administrativeAgreement);
+        hash = 31 * hash + Boolean.hashCode(publisherAuthority);
+        hash = 31 * hash + Objects.hashCode(embargoDate);
+        return 31 * hash + Objects.hashCode(type);
     }
 
     @JacocoGenerated
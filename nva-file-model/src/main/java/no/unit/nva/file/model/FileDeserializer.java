@@ -0,0 +1,180 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Deserializes {@link File} without reflection. Strings, numbers and booleans in their expected form are read directly
+ * from the parser; everything else, including identifiers, embargo dates and licenses, is passed to the deserializers
+ * of the mapper, which are resolved once in {@link #createContextual}. The result is created by
+ * {@link File#fromJson}, like with the reflection-based deserializer.
+ */
+/* default */ final class FileDeserializer extends StdDeserializer<File> implements ContextualDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonDeserializer<Object> fileTypeDeserializer;
+    private final JsonDeserializer<Object> identifierDeserializer;
+    private final JsonDeserializer<Object> stringDeserializer;
+    private final JsonDeserializer<Object> sizeDeserializer;
+    private final JsonDeserializer<Object> licenseDeserializer;
+    private final JsonDeserializer<Object> instantDeserializer;
+
+    /* default */ FileDeserializer() {
+        this(null, null, null, null, null, null);
+    }
+
+    private FileDeserializer(JsonDeserializer<Object> fileTypeDeserializer,
+                             JsonDeserializer<Object> identifierDeserializer,
+                             JsonDeserializer<Object> stringDeserializer,
+                             JsonDeserializer<Object> sizeDeserializer,
+                             JsonDeserializer<Object> licenseDeserializer,
+                             JsonDeserializer<Object> instantDeserializer) {
+        super(File.class);
+        this.fileTypeDeserializer = fileTypeDeserializer;
+        this.identifierDeserializer = identifierDeserializer;
+        this.stringDeserializer = stringDeserializer;
+        this.sizeDeserializer = sizeDeserializer;
+        this.licenseDeserializer = licenseDeserializer;
+        this.instantDeserializer = instantDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+        throws JsonMappingException {
+        return new FileDeserializer(deserializerFor(context, FileType.class),
+                                    deserializerFor(context, UUID.class),
+                                    deserializerFor(context, String.class),
+                                    deserializerFor(context, Long.class),
+                                    deserializerFor(context, License.class),
+                                    deserializerFor(context, Instant.class));
+    }
+
+    /* default */ static JsonDeserializer<Object> deserializerFor(DeserializationContext context, Class<?> type)
+        throws JsonMappingException {
+        return context.findRootValueDeserializer(context.constructType(type));
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public File deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (isNull(stringDeserializer)) {
+            return ((FileDeserializer) createContextual(context, null)).deserialize(parser, context);
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token == JsonToken.START_ARRAY) {
+            return _deserializeFromArray(parser, context);
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (File) context.handleUnexpectedToken(File.class, parser);
+        }
+        return readProperties(parser, context, token);
+    }
+
+    private File readProperties(JsonParser parser, DeserializationContext context, JsonToken firstToken)
+        throws IOException {
+        FileType type = null;
+        UUID identifier = null;
+        String name = null;
+        String mimeType = null;
+        Long size = null;
+        License license = null;
+        boolean administrativeAgreement = false;
+        boolean publisherAuthority = false;
+        Instant embargoDate = null;
+        JsonToken token = firstToken;
+        while (token == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case File.TYPE:
+                    type = readFileType(parser, context);
+                    break;
+                case File.IDENTIFIER:
+                    identifier = (UUID) readObject(parser, context, identifierDeserializer);
+                    break;
+                case File.NAME:
+                    name = readString(parser, context);
+                    break;
+                case File.MIME_TYPE:
+                    mimeType = readString(parser, context);
+                    break;
+                case File.SIZE:
+                    size = readSize(parser, context);
+                    break;
+                case File.LICENSE:
+                    license = (License) readObject(parser, context, licenseDeserializer);
+                    break;
+                case File.ADMINISTRATIVE_AGREEMENT:
+                    administrativeAgreement = readBoolean(parser, context);
+                    break;
+                case File.PUBLISHER_AUTHORITY:
+                    publisherAuthority = readBoolean(parser, context);
+                    break;
+                case File.EMBARGO_DATE:
+                    embargoDate = (Instant) readObject(parser, context, instantDeserializer);
+                    break;
+                default:
+                    handleUnknownProperty(parser, context, File.class, fieldName);
+                    break;
+            }
+            token = parser.nextToken();
+        }
+        return File.fromJson(type, identifier, name, mimeType, size, license, administrativeAgreement,
+                             publisherAuthority, embargoDate);
+    }
+
+    private FileType readFileType(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            return (FileType) readObject(parser, context, fileTypeDeserializer);
+        }
+        String value = parser.getText();
+        try {
+            return FileType.lookUp(value);
+        } catch (IllegalArgumentException exception) {
+            return (FileType) context.handleInstantiationProblem(FileType.class, value, exception);
+        }
+    }
+
+    private String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_STRING
+                   ? parser.getText()
+                   : (String) readObject(parser, context, stringDeserializer);
+    }
+
+    private Long readSize(JsonParser parser, DeserializationContext context) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_INT
+                   ? Long.valueOf(parser.getLongValue())
+                   : (Long) readObject(parser, context, sizeDeserializer);
+    }
+
+    private boolean readBoolean(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE) {
+            return token == JsonToken.VALUE_TRUE;
+        }
+        return _parseBooleanPrimitive(parser, context);
+    }
+
+    private static Object readObject(JsonParser parser, DeserializationContext context,
+                                     JsonDeserializer<Object> deserializer) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL
+                   ? deserializer.getNullValue(context)
+                   : deserializer.deserialize(parser, context);
+    }
+}
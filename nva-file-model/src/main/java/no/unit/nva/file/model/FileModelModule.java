@@ -0,0 +1,38 @@
+package no.unit.nva.file.model;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * A Jackson module with hand-written serializers and deserializers for {@link File}, {@link FileSet} and
+ * {@link License}. They bind the model without reflection and without intermediate tree nodes, and produce and accept
+ * the same JSON as the annotated model, including the {@code type} discriminators, the {@link FileType} values and the
+ * property inclusion configured for the mapper.
+ *
+ * <p>The module is not registered for discovery by {@code ObjectMapper.findAndRegisterModules()}, so that mappers
+ * only use it when it is registered explicitly.
+ *
+ * <p>The module expects the mapper to handle {@code java.time} and {@code java.util.Optional} values, like the mappers
+ * of {@code JsonUtils} do.
+ *
+ * <pre>{@code
+ * ObjectMapper objectMapper = JsonUtils.dtoObjectMapper.copy().registerModule(new FileModelModule());
+ * }</pre>
+ */
+public class FileModelModule extends SimpleModule {
+
+    public static final String MODULE_NAME = "FileModelModule";
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the module.
+     */
+    public FileModelModule() {
+        super(MODULE_NAME);
+        addSerializer(File.class, new FileSerializer());
+        addSerializer(FileSet.class, new FileSetSerializer());
+        addSerializer(License.class, new LicenseSerializer());
+        addDeserializer(File.class, new FileDeserializer());
+        addDeserializer(FileSet.class, new FileSetDeserializer());
+        addDeserializer(License.class, new LicenseDeserializer());
+    }
+}
@@ -0,0 +1,75 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serializes {@link File} without reflection. The identifier and the embargo date are written by the serializers the
+ * mapper has for {@link UUID} and {@link Instant}, so that their format follows the configuration of the mapper.
+ */
+/* default */ final class FileSerializer extends ModelSerializer<File> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonSerializer<Object> identifierSerializer;
+    private final JsonSerializer<Object> instantSerializer;
+    private final JsonSerializer<Object> licenseSerializer;
+
+    /* default */ FileSerializer() {
+        this(PropertyInclusion.ALWAYS, null, null, null);
+    }
+
+    private FileSerializer(PropertyInclusion inclusion, JsonSerializer<Object> identifierSerializer,
+                           JsonSerializer<Object> instantSerializer, JsonSerializer<Object> licenseSerializer) {
+        super(File.class, inclusion);
+        this.identifierSerializer = identifierSerializer;
+        this.instantSerializer = instantSerializer;
+        this.licenseSerializer = licenseSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+        return new FileSerializer(PropertyInclusion.forValues(provider, File.class),
+                                  provider.findValueSerializer(UUID.class, null),
+                                  provider.findValueSerializer(Instant.class, null),
+                                  provider.findTypedValueSerializer(License.class, true, null));
+    }
+
+    @Override
+    /* default */ boolean isResolved() {
+        return !isNull(identifierSerializer);
+    }
+
+    @Override
+    /* default */ void writeProperties(File file, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        FileType type = file.getType();
+        writeString(generator, File.TYPE, isNull(type) ? null : type.getValue());
+        writeObject(generator, File.IDENTIFIER, file.getIdentifier(), identifierSerializer, provider);
+        writeString(generator, File.NAME, file.getName());
+        writeString(generator, File.MIME_TYPE, file.getMimeType());
+        writeNumber(generator, File.SIZE, file.getSize());
+        writeObject(generator, File.LICENSE, file.getLicense(), licenseSerializer, provider);
+        writeBoolean(generator, File.ADMINISTRATIVE_AGREEMENT, file.isAdministrativeAgreement());
+        writeBoolean(generator, File.PUBLISHER_AUTHORITY, file.isPublisherAuthority());
+        writeEmbargoDate(generator, file.getEmbargoDate(), provider);
+    }
+
+    private void writeEmbargoDate(JsonGenerator generator, Optional<Instant> embargoDate, SerializerProvider provider)
+        throws IOException {
+        if (embargoDate.isPresent()) {
+            writeObject(generator, File.EMBARGO_DATE, embargoDate.get(), instantSerializer, provider);
+        } else if (inclusion.includesAbsent()) {
+            generator.writeNullField(File.EMBARGO_DATE);
+        }
+    }
+}
@@ -1,28 +1,54 @@
 package no.unit.nva.file.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelError;
+import no.unit.nva.file.model.metrics.ModelOperation;
+import no.unit.nva.file.model.paging.FilePage;
 import nva.commons.core.JacocoGenerated;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
 import static java.util.Objects.isNull;
 
 /**
  * This is a container class that allows the serialization of the description of a set of files.
  */
-@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = FileSet.TYPE)
+@JsonTypeName(FileSet.TYPE_NAME)
+@JsonDeserialize(using = FileSetDeserializer.class)
 public class FileSet {
 
+    public static final String TYPE = "type";
+    public static final String TYPE_NAME = "FileSet";
     public static final String FILES = "files";
+    public static final String SUMMARY = "summary";
     public static final String DUPLICATE_FILE_IDENTIFIER_ERROR =
             "The FileSet cannot contain two files with the same identifier";
+    public static final int NOT_FOUND = -1;
+    private static final float LOAD_FACTOR = 0.75f;
 
     @JsonProperty(FILES)
     private final List<File> files;
+    private final Map<UUID, Integer> identifierIndex;
+    private final boolean stableHashCode;
+    private int cachedHashCode;
+    private FileSetSummary summary;
 
     /**
      * Constructs the FileSet object, allows (de-)serialization of the FileSet description.
@@ -30,27 +56,185 @@ public class FileSet {
      */
     @JsonCreator
     public FileSet(@JsonProperty(FILES) List<File> files) {
-        this.files = validate(files);
+        this(files, Instrumentation.startTime());
     }
 
-    private List<File> validate(List<File> files) {
-        if (assertIdentifiersAreUnique(files)) {
-            return files;
+    private FileSet(List<File> files, long startTime) {
+        this(copyOf(files), indexIdentifiers(files));
+        Instrumentation.recordLatency(ModelOperation.FILE_SET_CONSTRUCTION, startTime);
+        Instrumentation.recordFileSetSize(this.files.size());
+    }
+
+    private FileSet(List<File> files, Map<UUID, Integer> identifierIndex) {
+        this.files = files;
+        this.identifierIndex = identifierIndex;
+        this.stableHashCode = haveStableHashCodes(files);
+    }
+
+    /**
+     * Creates a FileSet from files whose identifiers have already been indexed and checked for uniqueness, e.g. by
+     * {@link FileSetDeserializer} while streaming.
+     *
+     * @param files           files with unique identifiers, not shared with any other object.
+     * @param identifierIndex the position of every file in the list, keyed by the file identifier.
+     * @return a FileSet wrapping the files without validating them again.
+     */
+    /* default */ static FileSet fromUniqueFiles(List<File> files, Map<UUID, Integer> identifierIndex) {
+        return new FileSet(Collections.unmodifiableList(files), identifierIndex);
+    }
+
+    /**
+     * Adds a file to an identifier index under construction.
+     *
+     * @param identifierIndex the index being built.
+     * @param file            the file to add.
+     * @param position        the position of the file in the FileSet.
+     * @return false if the index already contains a file with the same identifier.
+     */
+    /* default */ static boolean addToIndex(Map<UUID, Integer> identifierIndex, File file, int position) {
+        return isNull(identifierIndex.putIfAbsent(file.getIdentifier(), position));
+    }
+
+    /* default */ static int capacityFor(int expectedSize) {
+        return (int) (expectedSize / LOAD_FACTOR) + 1;
+    }
+
+    private static List<File> copyOf(List<File> files) {
+        return isNull(files) ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(files));
+    }
+
+    private static boolean haveStableHashCodes(List<File> files) {
+        for (File file : files) {
+            if (!file.hasStableHashCode()) {
+                return false;
+            }
         }
-        throw new IllegalArgumentException(DUPLICATE_FILE_IDENTIFIER_ERROR);
+        return true;
     }
 
-    private boolean assertIdentifiersAreUnique(List<File> files) {
-        return isNull(files) || files.isEmpty() || files.stream()
-                .map(File::getIdentifier)
-                .distinct()
-                .count() == files.size();
+    private static Map<UUID, Integer> indexIdentifiers(List<File> files) {
+        if (isNull(files) || files.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<UUID, Integer> identifierIndex = new HashMap<>(capacityFor(files.size()));
+        for (int position = 0; position < files.size(); position++) {
+            if (!addToIndex(identifierIndex, files.get(position), position)) {
+                Instrumentation.recordError(ModelError.DUPLICATE_IDENTIFIER);
+                throw new IllegalArgumentException(DUPLICATE_FILE_IDENTIFIER_ERROR);
+            }
+        }
+        return identifierIndex;
     }
 
     public List<File> getFiles() {
         return isNull(files) ? Collections.emptyList() : files;
     }
 
+    /**
+     * Returns the aggregates of the files of the set, computed in a single pass over the files. The summary is cached
+     * if no file has a mutable license, since a change of a license would not be reflected otherwise. It is not part of
+     * the JSON of the set.
+     *
+     * @return the summary of the files.
+     */
+    @JsonIgnore
+    public FileSetSummary getSummary() {
+        if (!stableHashCode) {
+            return FileSetSummary.of(getFiles());
+        }
+        FileSetSummary current = summary;
+        if (isNull(current)) {
+            current = FileSetSummary.of(getFiles());
+            summary = current;
+        }
+        return current;
+    }
+
+    /**
+     * Looks up a file by its identifier without scanning the set.
+     *
+     * @param identifier the identifier of the file.
+     * @return the file, or empty if the set contains no file with the identifier.
+     */
+    public Optional<File> getFile(UUID identifier) {
+        int position = indexOf(identifier);
+        return position == NOT_FOUND ? Optional.empty() : Optional.of(files.get(position));
+    }
+
+    public boolean containsFile(UUID identifier) {
+        return identifierIndex.containsKey(identifier);
+    }
+
+    /**
+     * Returns the position of a file in {@link #getFiles()}.
+     *
+     * @param identifier the identifier of the file.
+     * @return the position of the file, or {@link #NOT_FOUND} if the set contains no file with the identifier.
+     */
+    public int indexOf(UUID identifier) {
+        return identifierIndex.getOrDefault(identifier, NOT_FOUND);
+    }
+
+    /**
+     * Returns a page of the files at an offset, in the order of {@link #getFiles()}.
+     *
+     * @param offset the position of the first file of the page.
+     * @param limit  the maximum number of files of the page.
+     * @return the page, which is empty if the offset is beyond the last file.
+     */
+    public FilePage getPage(int offset, int limit) {
+        return FilePage.of(this, offset, limit);
+    }
+
+    /**
+     * Returns the page of the files after the last file of a previous page, in the order of {@link #getFiles()}.
+     *
+     * @param cursor the {@link FilePage#getNextCursor() next cursor} of the previous page, or null for the first page.
+     * @param limit  the maximum number of files of the page.
+     * @return the page.
+     * @throws IllegalArgumentException if the cursor is not valid, or refers to a file that is not in the set.
+     */
+    public FilePage getPage(String cursor, int limit) {
+        return FilePage.after(this, cursor, limit);
+    }
+
+    public List<File> getFilesVisibleForNonOwner(Clock clock) {
+        return getFilesVisibleForNonOwner(clock.instant());
+    }
+
+    /**
+     * Returns the files that are visible for users other than the owner, with all embargo dates evaluated against the
+     * same point in time.
+     *
+     * @param now the point in time to evaluate the embargo dates against.
+     * @return the visible files, in the order of {@link #getFiles()}.
+     */
+    public List<File> getFilesVisibleForNonOwner(Instant now) {
+        List<File> visibleFiles = new ArrayList<>(getFiles().size());
+        for (File file : getFiles()) {
+            if (file.isVisibleForNonOwner(now)) {
+                visibleFiles.add(file);
+            }
+        }
+        return visibleFiles;
+    }
+
+    /**
+     * Evaluates the visibility of all files against the same point in time.
+     *
+     * @param now the point in time to evaluate the embargo dates against.
+     * @return a bit set where bit {@code i} is set if the file at position {@code i} of {@link #getFiles()} is visible
+     *     for users other than the owner.
+     */
+    public BitSet getVisibilityForNonOwner(Instant now) {
+        List<File> allFiles = getFiles();
+        BitSet visibility = new BitSet(allFiles.size());
+        for (int position = 0; position < allFiles.size(); position++) {
+            visibility.set(position, allFiles.get(position).isVisibleForNonOwner(now));
+        }
+        return visibility;
+    }
+
     @JacocoGenerated
     @Override
     public boolean equals(Object o) {
@@ -64,9 +248,33 @@ public class FileSet {
         return Objects.equals(getFiles(), fileSet.getFiles());
     }
 
-    @JacocoGenerated
+    /**
+     * Computes the hash code of the set. It is computed only once if every file has a stable hash code, which is the
+     * case for all files created from JSON or from the binary format. This is determined once, when the set is created,
+     * since the files cannot change apart from their licenses, and a mutable license never becomes immutable.
+     *
+     * @return the hash code.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getFiles());
+        if (!stableHashCode) {
+            return getFiles().hashCode();
+        }
+        int hash = cachedHashCode;
+        if (hash == 0) {
+            hash = getFiles().hashCode();
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Computes a fingerprint of the content of the set that is stable across JVMs and can be persisted.
+     *
+     * @return the fingerprint of the files of the set.
+     */
+    @JsonIgnore
+    public Fingerprint getFingerprint() {
+        return Fingerprint.of(this);
     }
 }
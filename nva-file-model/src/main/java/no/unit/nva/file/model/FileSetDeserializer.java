@@ -0,0 +1,145 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.file.model.FileDeserializer.deserializerFor;
+import static no.unit.nva.file.model.FileSet.DUPLICATE_FILE_IDENTIFIER_ERROR;
+import static no.unit.nva.file.model.FileSet.FILES;
+import static no.unit.nva.file.model.FileSet.SUMMARY;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelError;
+import no.unit.nva.file.model.metrics.ModelOperation;
+
+/**
+ * Streaming deserializer for {@link FileSet}. The files are read one element at a time and their identifiers are
+ * indexed while parsing, so a duplicate identifier aborts the parse at the first offending file instead of after the
+ * whole list has been built. The deserializer for the files is resolved once per mapper. An embedded
+ * {@code summary} property is skipped, see {@link FileSetSummary} for when it is used.
+ */
+public class FileSetDeserializer extends StdDeserializer<FileSet> implements ContextualDeserializer {
+
+    public static final String NULL_FILE_ERROR = "The FileSet cannot contain null files";
+    public static final String FILES_NOT_AN_ARRAY_ERROR = "The files of a FileSet must be an array";
+    public static final int INITIAL_CAPACITY = 64;
+    private static final long serialVersionUID = 1L;
+
+    private final JsonDeserializer<Object> fileDeserializer;
+
+    public FileSetDeserializer() {
+        this(null);
+    }
+
+    private FileSetDeserializer(JsonDeserializer<Object> fileDeserializer) {
+        super(FileSet.class);
+        this.fileDeserializer = fileDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+        throws JsonMappingException {
+        return new FileSetDeserializer(deserializerFor(context, File.class));
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public FileSet deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!Instrumentation.isEnabled()) {
+            return readFileSet(parser, context);
+        }
+        long startTime = Instrumentation.startTime();
+        long startOffset = parser.getTokenLocation().getByteOffset();
+        FileSet fileSet = readFileSet(parser, context);
+        Instrumentation.recordLatency(ModelOperation.FILE_SET_DESERIALIZATION, startTime);
+        long endOffset = parser.getCurrentLocation().getByteOffset();
+        if (startOffset >= 0 && endOffset >= startOffset) {
+            Instrumentation.recordBytes(ModelOperation.FILE_SET_DESERIALIZATION, endOffset - startOffset);
+        }
+        Instrumentation.recordFileSetSize(fileSet.getFiles().size());
+        return fileSet;
+    }
+
+    private FileSet readFileSet(JsonParser parser, DeserializationContext context) throws IOException {
+        FileSet fileSet = null;
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        while (token == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (FILES.equals(fieldName)) {
+                fileSet = readFiles(parser, context);
+            } else if (SUMMARY.equals(fieldName)) {
+                parser.skipChildren();
+            } else {
+                handleUnknownProperty(parser, context, FileSet.class, fieldName);
+            }
+            token = parser.nextToken();
+        }
+        return isNull(fileSet) ? emptyFileSet() : fileSet;
+    }
+
+    private FileSet readFiles(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return emptyFileSet();
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            context.reportWrongTokenException(this, JsonToken.START_ARRAY, FILES_NOT_AN_ARRAY_ERROR);
+        }
+        JsonDeserializer<Object> deserializer = isNull(fileDeserializer)
+                                                    ? deserializerFor(context, File.class)
+                                                    : fileDeserializer;
+        List<File> files = new ArrayList<>(INITIAL_CAPACITY);
+        Map<UUID, Integer> identifierIndex = new HashMap<>(FileSet.capacityFor(INITIAL_CAPACITY));
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            File file = readFile(parser, context, deserializer);
+            if (!FileSet.addToIndex(identifierIndex, file, files.size())) {
+                Instrumentation.recordError(ModelError.DUPLICATE_IDENTIFIER);
+                throw duplicateIdentifier(parser, context);
+            }
+            files.add(file);
+        }
+        return FileSet.fromUniqueFiles(files, identifierIndex);
+    }
+
+    /**
+     * Creates an empty set without the public constructor, which would record its construction and size, since
+     * {@link #deserialize} records the size of every set it reads.
+     */
+    private static FileSet emptyFileSet() {
+        return FileSet.fromUniqueFiles(new ArrayList<>(), new HashMap<>());
+    }
+
+    private File readFile(JsonParser parser, DeserializationContext context, JsonDeserializer<Object> deserializer)
+        throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return context.reportInputMismatch(this, NULL_FILE_ERROR);
+        }
+        return (File) deserializer.deserialize(parser, context);
+    }
+
+    private static ValueInstantiationException duplicateIdentifier(JsonParser parser, DeserializationContext context) {
+        return ValueInstantiationException.from(parser,
+                                                DUPLICATE_FILE_IDENTIFIER_ERROR,
+                                                context.constructType(FileSet.class),
+                                                new IllegalArgumentException(DUPLICATE_FILE_IDENTIFIER_ERROR));
+    }
+}
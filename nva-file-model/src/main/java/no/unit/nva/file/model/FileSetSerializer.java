@@ -0,0 +1,65 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.util.List;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelOperation;
+
+/**
+ * Serializes {@link FileSet} without reflection, writing the files with the serializer the mapper has for {@link File}.
+ */
+/* default */ final class FileSetSerializer extends ModelSerializer<FileSet> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonSerializer<Object> fileSerializer;
+
+    /* default */ FileSetSerializer() {
+        this(PropertyInclusion.ALWAYS, null);
+    }
+
+    private FileSetSerializer(PropertyInclusion inclusion, JsonSerializer<Object> fileSerializer) {
+        super(FileSet.class, inclusion);
+        this.fileSerializer = fileSerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+        return new FileSetSerializer(PropertyInclusion.forValues(provider, FileSet.class),
+                                     provider.findValueSerializer(File.class, null));
+    }
+
+    @Override
+    /* default */ boolean isResolved() {
+        return !isNull(fileSerializer);
+    }
+
+    @Override
+    /* default */ void writeProperties(FileSet fileSet, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        long startTime = Instrumentation.startTime();
+        writeFiles(fileSet, generator, provider);
+        Instrumentation.recordLatency(ModelOperation.FILE_SET_SERIALIZATION, startTime);
+    }
+
+    private void writeFiles(FileSet fileSet, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        List<File> files = fileSet.getFiles();
+        if (files.isEmpty() && !inclusion.includesEmpty()) {
+            return;
+        }
+        generator.writeFieldName(FileSet.FILES);
+        generator.writeStartArray(files, files.size());
+        for (File file : files) {
+            fileSerializer.serialize(file, generator, provider);
+        }
+        generator.writeEndArray();
+    }
+}
@@ -0,0 +1,270 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * Aggregates of the files of a set: the number of files, their total size, the number of files per file type, MIME
+ * type and license identifier, and the distinct embargo dates in ascending order. Files without a size, type, MIME
+ * type, license identifier or embargo date do not contribute to the respective aggregate.
+ *
+ * <p>The summary is derived data and is not part of the JSON of a {@link FileSet}, whose size would otherwise grow
+ * with the number of distinct embargo dates. A set that is stored with
+ * {@link no.unit.nva.file.model.paging.FileSetStreamWriter#withSummary()} has its summary embedded as a
+ * {@value FileSet#SUMMARY} property before the files. The embedded summary is authoritative for
+ * {@link #readFromFileSet}, which returns it without reading the files, and is therefore only as correct as the
+ * writer that embedded it. It is never authoritative for a deserialized FileSet, which skips it and computes its
+ * summary from its files.
+ */
+@JsonPropertyOrder({FileSetSummary.NUMBER_OF_FILES, FileSetSummary.TOTAL_SIZE, FileSetSummary.FILE_TYPES,
+    FileSetSummary.MIME_TYPES, FileSetSummary.LICENSES, FileSetSummary.EMBARGO_DATES})
+public final class FileSetSummary {
+
+    public static final String NUMBER_OF_FILES = "numberOfFiles";
+    public static final String TOTAL_SIZE = "totalSize";
+    public static final String FILE_TYPES = "fileTypes";
+    public static final String MIME_TYPES = "mimeTypes";
+    public static final String LICENSES = "licenses";
+    public static final String EMBARGO_DATES = "embargoDates";
+    public static final String NOT_A_FILE_SET_ERROR = "The input is not the JSON object of a FileSet";
+    private static final TypeReference<List<File>> FILE_LIST = new TypeReference<>() {
+    };
+
+    private final int numberOfFiles;
+    private final long totalSize;
+    private final Map<FileType, Integer> fileTypes;
+    private final Map<String, Integer> mimeTypes;
+    private final Map<String, Integer> licenses;
+    private final List<Instant> embargoDates;
+
+    private FileSetSummary(int numberOfFiles, long totalSize, Map<FileType, Integer> fileTypes,
+                           Map<String, Integer> mimeTypes, Map<String, Integer> licenses, List<Instant> embargoDates) {
+        this.numberOfFiles = numberOfFiles;
+        this.totalSize = totalSize;
+        this.fileTypes = Collections.unmodifiableMap(fileTypes);
+        this.mimeTypes = Collections.unmodifiableMap(mimeTypes);
+        this.licenses = Collections.unmodifiableMap(licenses);
+        this.embargoDates = Collections.unmodifiableList(embargoDates);
+    }
+
+    /**
+     * Computes the summary of a list of files in a single pass. License identifiers are read when the summary is
+     * computed, so a later change of a mutable license is not reflected.
+     *
+     * @param files the files to summarize.
+     * @return the summary of the files.
+     */
+    public static FileSetSummary of(List<File> files) {
+        Accumulator accumulator = new Accumulator();
+        for (File file : files) {
+            accumulator.add(file);
+        }
+        return accumulator.toSummary();
+    }
+
+    @JsonCreator
+    /* default */ static FileSetSummary fromJson(@JsonProperty(NUMBER_OF_FILES) int numberOfFiles,
+                                                 @JsonProperty(TOTAL_SIZE) long totalSize,
+                                                 @JsonProperty(FILE_TYPES) Map<FileType, Integer> fileTypes,
+                                                 @JsonProperty(MIME_TYPES) Map<String, Integer> mimeTypes,
+                                                 @JsonProperty(LICENSES) Map<String, Integer> licenses,
+                                                 @JsonProperty(EMBARGO_DATES) List<Instant> embargoDates) {
+        return new FileSetSummary(numberOfFiles,
+                                  totalSize,
+                                  isNull(fileTypes) ? new EnumMap<>(FileType.class) : new EnumMap<>(fileTypes),
+                                  isNull(mimeTypes) ? new TreeMap<>() : new TreeMap<>(mimeTypes),
+                                  isNull(licenses) ? new TreeMap<>() : new TreeMap<>(licenses),
+                                  isNull(embargoDates) ? List.of() : new ArrayList<>(new TreeSet<>(embargoDates)));
+    }
+
+    /**
+     * Reads the summary of a FileSet from its JSON. If a summary has been embedded before the files, it is read without
+     * deserializing the files. Otherwise, as for the JSON written by the model, the files are read and summarized.
+     *
+     * @param objectMapper the mapper that reads the JSON.
+     * @param fileSetJson  the JSON of a FileSet.
+     * @return the summary of the set.
+     * @throws IOException if the input is not the JSON of a FileSet.
+     */
+    public static FileSetSummary readFromFileSet(ObjectMapper objectMapper, String fileSetJson) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(fileSetJson)) {
+            return readFromFileSet(objectMapper, parser);
+        }
+    }
+
+    /**
+     * Reads the summary of a FileSet from its JSON, stopping as soon as an embedded summary has been read.
+     *
+     * @param objectMapper the mapper that reads the JSON.
+     * @param fileSetJson  the JSON of a FileSet. The stream is not closed.
+     * @return the summary of the set.
+     * @throws IOException if the input is not the JSON of a FileSet.
+     */
+    public static FileSetSummary readFromFileSet(ObjectMapper objectMapper, InputStream fileSetJson)
+        throws IOException {
+        try (JsonParser parser = objectMapper.createParser(fileSetJson)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            return readFromFileSet(objectMapper, parser);
+        }
+    }
+
+    private static FileSetSummary readFromFileSet(ObjectMapper objectMapper, JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw MismatchedInputException.from(parser, FileSet.class, NOT_A_FILE_SET_ERROR);
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (FileSet.SUMMARY.equals(fieldName) && parser.currentToken() != JsonToken.VALUE_NULL) {
+                return objectMapper.readValue(parser, FileSetSummary.class);
+            }
+            if (FileSet.FILES.equals(fieldName) && parser.currentToken() != JsonToken.VALUE_NULL) {
+                return of(objectMapper.readValue(parser, FILE_LIST));
+            }
+            parser.skipChildren();
+        }
+        return of(List.of());
+    }
+
+    @JsonProperty(NUMBER_OF_FILES)
+    public int getNumberOfFiles() {
+        return numberOfFiles;
+    }
+
+    @JsonProperty(TOTAL_SIZE)
+    public long getTotalSize() {
+        return totalSize;
+    }
+
+    @JsonProperty(FILE_TYPES)
+    public Map<FileType, Integer> getCountsPerFileType() {
+        return fileTypes;
+    }
+
+    @JsonProperty(MIME_TYPES)
+    public Map<String, Integer> getCountsPerMimeType() {
+        return mimeTypes;
+    }
+
+    @JsonProperty(LICENSES)
+    public Map<String, Integer> getCountsPerLicense() {
+        return licenses;
+    }
+
+    /**
+     * Returns the distinct embargo dates of the files.
+     *
+     * @return the embargo dates in ascending order.
+     */
+    @JsonProperty(EMBARGO_DATES)
+    public List<Instant> getEmbargoDates() {
+        return embargoDates;
+    }
+
+    public Optional<Instant> getEarliestUpcomingEmbargoDate(Clock clock) {
+        return getEarliestUpcomingEmbargoDate(clock.instant());
+    }
+
+    /**
+     * Finds the first embargo date that has not passed at a given point in time, i.e. the next time a file of the set
+     * may become visible for users other than the owner.
+     *
+     * @param now the point in time to evaluate the embargo dates against.
+     * @return the earliest embargo date that is not before the given time, or empty if all embargoes have ended.
+     */
+    public Optional<Instant> getEarliestUpcomingEmbargoDate(Instant now) {
+        int position = Collections.binarySearch(embargoDates, now);
+        int first = position >= 0 ? position : -position - 1;
+        return first < embargoDates.size() ? Optional.of(embargoDates.get(first)) : Optional.empty();
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileSetSummary)) {
+            return false;
+        }
+        FileSetSummary that = (FileSetSummary) o;
+        return numberOfFiles == that.numberOfFiles
+               && totalSize == that.totalSize
+               && fileTypes.equals(that.fileTypes)
+               && mimeTypes.equals(that.mimeTypes)
+               && licenses.equals(that.licenses)
+               && embargoDates.equals(that.embargoDates);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Objects.hash(numberOfFiles, totalSize, fileTypes, mimeTypes, licenses, embargoDates);
+    }
+
+    @JacocoGenerated
+    @Override
+    public String toString() {
+        return numberOfFiles + " files of " + totalSize + " bytes, types " + fileTypes + ", MIME types " + mimeTypes
+               + ", licenses " + licenses + ", embargo dates " + embargoDates;
+    }
+
+    /**
+     * Collects the aggregates of files one at a time, for computing a summary while the files are traversed for
+     * another purpose, e.g. in the constructor of {@link ColumnarFileSet}.
+     */
+    /* default */ static final class Accumulator {
+
+        private final Map<FileType, Integer> fileTypes = new EnumMap<>(FileType.class);
+        private final Map<String, Integer> mimeTypes = new TreeMap<>();
+        private final Map<String, Integer> licenses = new TreeMap<>();
+        private final Set<Instant> embargoDates = new TreeSet<>();
+        private int numberOfFiles;
+        private long totalSize;
+
+        /* default */ void add(File file) {
+            numberOfFiles++;
+            if (nonNull(file.getSize())) {
+                totalSize += file.getSize();
+            }
+            if (nonNull(file.getType())) {
+                fileTypes.merge(file.getType(), 1, Integer::sum);
+            }
+            if (nonNull(file.getMimeType())) {
+                mimeTypes.merge(file.getMimeType(), 1, Integer::sum);
+            }
+            if (nonNull(file.getLicense()) && nonNull(file.getLicense().getIdentifier())) {
+                licenses.merge(file.getLicense().getIdentifier(), 1, Integer::sum);
+            }
+            file.getEmbargoDate().ifPresent(embargoDates::add);
+        }
+
+        /* default */ FileSetSummary toSummary() {
+            return new FileSetSummary(numberOfFiles, totalSize, fileTypes, mimeTypes, licenses,
+                                      new ArrayList<>(embargoDates));
+        }
+    }
+}
@@ -2,11 +2,15 @@ package no.unit.nva.file.model;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
+import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.joining;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonValue;
-import nva.commons.core.SingletonCollector;
+import java.util.HashMap;
+import java.util.Map;
+import no.unit.nva.file.model.metrics.Instrumentation;
+import no.unit.nva.file.model.metrics.ModelOperation;
 
 public enum FileType {
     @Deprecated
@@ -21,6 +25,9 @@ public enum FileType {
 
     public static final String ERROR_MESSAGE_TEMPLATE = "%s not a valid FileType, expected one of: %s";
     public static final String DELIMITER = ", ";
+    private static final FileType[] VALUES = values();
+    private static final Map<String, FileType> BY_VALUE = byValue();
+    private static final String EXPECTED_VALUES = stream(VALUES).map(FileType::toString).collect(joining(DELIMITER));
 
     private final String value;
 
@@ -28,12 +35,22 @@ public enum FileType {
         this.value = value;
     }
 
+    /**
+     * Looks up a file type by its value, ignoring case. Values in their exact case are found in a precomputed table,
+     * other values by comparing them to every value. Neither allocates.
+     *
+     * @param value the value of a file type.
+     * @return the file type.
+     * @throws IllegalArgumentException if the value is not the value of a file type.
+     */
     @JsonCreator
     public static FileType lookUp(String value) {
-        return stream(values())
-                   .filter(nameType -> nameType.getValue().equalsIgnoreCase(value))
-                   .collect(SingletonCollector.tryCollect())
-                   .orElseThrow(failure -> throwException(value));
+        long startTime = Instrumentation.startTime();
+        try {
+            return find(value);
+        } finally {
+            Instrumentation.recordLatency(ModelOperation.FILE_TYPE_LOOKUP, startTime);
+        }
     }
 
     @JsonValue
@@ -41,9 +58,24 @@ public enum FileType {
         return value;
     }
 
-    private static RuntimeException throwException(String value) {
-        return new IllegalArgumentException(
-            format(ERROR_MESSAGE_TEMPLATE, value,
-                   stream(FileType.values()).map(FileType::toString).collect(joining(DELIMITER))));
+    private static FileType find(String value) {
+        FileType type = BY_VALUE.get(value);
+        if (nonNull(type)) {
+            return type;
+        }
+        for (FileType candidate : VALUES) {
+            if (candidate.value.equalsIgnoreCase(value)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(format(ERROR_MESSAGE_TEMPLATE, value, EXPECTED_VALUES));
+    }
+
+    private static Map<String, FileType> byValue() {
+        Map<String, FileType> types = new HashMap<>();
+        for (FileType type : VALUES) {
+            types.put(type.value, type);
+        }
+        return types;
     }
 }
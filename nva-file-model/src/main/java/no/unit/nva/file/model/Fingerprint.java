@@ -0,0 +1,221 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * A 128-bit fingerprint of the content of a model object. Fingerprints only depend on the content, not on the JVM, so
+ * they can be persisted and compared later, e.g. to skip writing or reindexing an object that has not changed.
+ *
+ * <p>The fingerprint is the MD5 digest of a canonical sequence of the fields of the object, in which every optional
+ * field is preceded by whether it is present and the labels of a license are sorted by language. It is meant for
+ * change detection, not for security.
+ */
+public final class Fingerprint {
+
+    public static final String INVALID_FINGERPRINT_ERROR = "A fingerprint must be 32 hexadecimal digits: ";
+    private static final String DIGEST_ALGORITHM = "MD5";
+    private static final int HEXADECIMAL_DIGITS = 32;
+    private static final int HALF = HEXADECIMAL_DIGITS / 2;
+    private static final int HEXADECIMAL = 16;
+    private static final int BITS_PER_BYTE = 8;
+    private static final byte FILE = 1;
+    private static final byte FILE_SET = 2;
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final Comparator<String> LANGUAGE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+
+    private Fingerprint(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+    }
+
+    /**
+     * Computes the fingerprint of some content.
+     *
+     * @param content the canonical encoding of an object.
+     * @return the fingerprint of the content.
+     */
+    public static Fingerprint of(byte[] content) {
+        return fromDigest(newDigest().digest(content));
+    }
+
+    /* default */ static Fingerprint of(File file) {
+        CanonicalDigest digest = new CanonicalDigest(FILE);
+        digest.updateFile(file);
+        return fromDigest(digest.digest());
+    }
+
+    /* default */ static Fingerprint of(FileSet fileSet) {
+        CanonicalDigest digest = new CanonicalDigest(FILE_SET);
+        digest.updateLong(fileSet.getFiles().size());
+        for (File file : fileSet.getFiles()) {
+            digest.updateFile(file);
+        }
+        return fromDigest(digest.digest());
+    }
+
+    /**
+     * Parses a fingerprint from its string representation.
+     *
+     * @param value 32 hexadecimal digits, as returned by {@link #toString()}.
+     * @return the fingerprint.
+     */
+    @JsonCreator
+    public static Fingerprint fromString(String value) {
+        if (value.length() != HEXADECIMAL_DIGITS) {
+            throw new IllegalArgumentException(INVALID_FINGERPRINT_ERROR + value);
+        }
+        try {
+            return new Fingerprint(Long.parseUnsignedLong(value.substring(0, HALF), HEXADECIMAL),
+                                   Long.parseUnsignedLong(value.substring(HALF), HEXADECIMAL));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(INVALID_FINGERPRINT_ERROR + value, e);
+        }
+    }
+
+    @JsonValue
+    @Override
+    public String toString() {
+        return hexadecimal(mostSignificantBits) + hexadecimal(leastSignificantBits);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Fingerprint)) {
+            return false;
+        }
+        Fingerprint that = (Fingerprint) o;
+        return mostSignificantBits == that.mostSignificantBits && leastSignificantBits == that.leastSignificantBits;
+    }
+
+    private static Fingerprint fromDigest(byte[] digest) {
+        ByteBuffer bits = ByteBuffer.wrap(digest);
+        return new Fingerprint(bits.getLong(), bits.getLong());
+    }
+
+    private static String hexadecimal(long bits) {
+        String digits = Long.toHexString(bits);
+        return "0".repeat(HALF - digits.length()) + digits;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support MD5
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Feeds the fields of model objects to a message digest in a canonical order.
+     */
+    private static final class CanonicalDigest {
+
+        private final MessageDigest digest = newDigest();
+
+        /* default */ CanonicalDigest(byte kind) {
+            digest.update(kind);
+        }
+
+        /* default */ void updateFile(File file) {
+            updateBoolean(file.isAdministrativeAgreement());
+            updateBoolean(file.isPublisherAuthority());
+            updateString(isNull(file.getType()) ? null : file.getType().getValue());
+            updateIdentifier(file.getIdentifier());
+            updateString(file.getName());
+            updateString(file.getMimeType());
+            updatePresence(file.getSize());
+            if (nonNull(file.getSize())) {
+                updateLong(file.getSize());
+            }
+            updateLicense(file.getLicense());
+            updateEmbargoDate(file.getEmbargoDate().orElse(null));
+        }
+
+        /* default */ void updateLong(long value) {
+            for (int shift = Long.SIZE - BITS_PER_BYTE; shift >= 0; shift -= BITS_PER_BYTE) {
+                digest.update((byte) (value >>> shift));
+            }
+        }
+
+        /* default */ byte[] digest() {
+            return digest.digest();
+        }
+
+        private void updateIdentifier(UUID identifier) {
+            updatePresence(identifier);
+            if (nonNull(identifier)) {
+                updateLong(identifier.getMostSignificantBits());
+                updateLong(identifier.getLeastSignificantBits());
+            }
+        }
+
+        private void updateLicense(License license) {
+            updatePresence(license);
+            if (isNull(license)) {
+                return;
+            }
+            updateString(license.getIdentifier());
+            updateString(isNull(license.getLink()) ? null : license.getLink().toString());
+            Map<String, String> labels = new TreeMap<>(LANGUAGE_ORDER);
+            labels.putAll(license.getLabels());
+            updateLong(labels.size());
+            labels.forEach((language, label) -> {
+                updateString(language);
+                updateString(label);
+            });
+        }
+
+        private void updateEmbargoDate(Instant embargoDate) {
+            updatePresence(embargoDate);
+            if (nonNull(embargoDate)) {
+                updateLong(embargoDate.getEpochSecond());
+                updateLong(embargoDate.getNano());
+            }
+        }
+
+        private void updateString(String value) {
+            updatePresence(value);
+            if (nonNull(value)) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                updateLong(bytes.length);
+                digest.update(bytes);
+            }
+        }
+
+        private void updateBoolean(boolean value) {
+            digest.update(value ? PRESENT : ABSENT);
+        }
+
+        private void updatePresence(Object value) {
+            digest.update(isNull(value) ? ABSENT : PRESENT);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.file.model.FileSet.DUPLICATE_FILE_IDENTIFIER_ERROR;
+import static no.unit.nva.file.model.FileSet.FILES;
+import static no.unit.nva.file.model.FileSet.NOT_FOUND;
+import static no.unit.nva.file.model.FileSetDeserializer.FILES_NOT_AN_ARRAY_ERROR;
+import static no.unit.nva.file.model.FileSetDeserializer.NULL_FILE_ERROR;
+import static no.unit.nva.file.model.FileSetSummary.NOT_A_FILE_SET_ERROR;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.UUID;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * A read-only view of the JSON of a {@link FileSet} that decodes files only when they are accessed. Creating the view
+ * scans the JSON once without creating any {@link File}: it records where each file starts and ends and reads the
+ * identifiers, so that the number of files is known, files can be found by identifier, and duplicate identifiers are
+ * rejected like when deserializing a FileSet. A file is decoded the first time it is accessed and cached after that.
+ *
+ * <p>Only the identifiers are validated by the scan. Any other problem with a file, e.g. an unknown file type, is
+ * reported as an {@link UncheckedIOException} when the file is accessed. Files are decoded with the mapper the view was
+ * created with. The view may be read from several threads, in which case a file may be decoded more than once.
+ */
+public final class LazyFileSet {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int CANONICAL_UUID_LENGTH = 36;
+
+    private final byte[] json;
+    private final ObjectReader fileReader;
+    private final int size;
+    private final int[] starts;
+    private final int[] ends;
+    private final File[] files;
+    private final Map<UUID, Integer> identifierIndex;
+
+    private LazyFileSet(byte[] json, ObjectReader fileReader, Scanner scan) {
+        this.json = json;
+        this.fileReader = fileReader;
+        this.size = scan.size;
+        this.starts = scan.starts;
+        this.ends = scan.ends;
+        this.files = scan.files;
+        this.identifierIndex = Collections.unmodifiableMap(scan.identifierIndex);
+    }
+
+    /**
+     * Scans the JSON of a FileSet.
+     *
+     * @param objectMapper the mapper that decodes the files.
+     * @param json         the JSON of a FileSet, encoded as UTF-8. The array is not copied and must not be modified.
+     * @return a view of the FileSet.
+     * @throws IOException if the input is not the JSON of a FileSet or contains duplicate file identifiers.
+     */
+    public static LazyFileSet fromJson(ObjectMapper objectMapper, byte[] json) throws IOException {
+        ObjectReader fileReader = objectMapper.readerFor(File.class);
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            return new LazyFileSet(json, fileReader, new Scanner(json, parser, fileReader).scanFileSet());
+        }
+    }
+
+    public static LazyFileSet fromJson(ObjectMapper objectMapper, String json) throws IOException {
+        return fromJson(objectMapper, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the file at a position, decoding it if it has not been accessed before.
+     *
+     * @param index the position of the file.
+     * @return the file.
+     * @throws UncheckedIOException if the JSON of the file cannot be deserialized.
+     */
+    public File getFile(int index) {
+        Objects.checkIndex(index, size);
+        File file = files[index];
+        if (isNull(file)) {
+            file = decode(index);
+            files[index] = file;
+        }
+        return file;
+    }
+
+    /**
+     * Looks up a file by its identifier, decoding only that file.
+     *
+     * @param identifier the identifier of the file.
+     * @return the file, or empty if the set contains no file with the identifier.
+     */
+    public Optional<File> getFile(UUID identifier) {
+        int position = indexOf(identifier);
+        return position == NOT_FOUND ? Optional.empty() : Optional.of(getFile(position));
+    }
+
+    public boolean containsFile(UUID identifier) {
+        return identifierIndex.containsKey(identifier);
+    }
+
+    public int indexOf(UUID identifier) {
+        return identifierIndex.getOrDefault(identifier, NOT_FOUND);
+    }
+
+    /**
+     * Returns an unmodifiable view of the files, where each file is decoded when it is first accessed.
+     *
+     * @return the files in the set.
+     */
+    public List<File> getFiles() {
+        return new FileView();
+    }
+
+    /**
+     * Decodes all files. The FileSet shares the read-only identifier index of the view instead of indexing the files
+     * again.
+     *
+     * @return a FileSet with the files of the view.
+     */
+    public FileSet toFileSet() {
+        return FileSet.fromUniqueFiles(new ArrayList<>(getFiles()), identifierIndex);
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyFileSet)) {
+            return false;
+        }
+        return getFiles().equals(((LazyFileSet) o).getFiles());
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return getFiles().hashCode();
+    }
+
+    private File decode(int index) {
+        try {
+            return fileReader.readValue(json, starts[index], ends[index] - starts[index]);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Scans the JSON of a FileSet for the positions and identifiers of its files. An identifier is taken directly from
+     * the JSON if it is a valid UUID string or null. Otherwise, and for files that are not JSON objects, the file is
+     * decoded right away, so that it is accepted or rejected exactly as when the FileSet is deserialized.
+     */
+    private static final class Scanner {
+
+        private final byte[] json;
+        private final JsonParser parser;
+        private final ObjectReader fileReader;
+        private final Map<UUID, Integer> identifierIndex = new HashMap<>(FileSet.capacityFor(INITIAL_CAPACITY));
+        private int size;
+        private int[] starts = new int[0];
+        private int[] ends = new int[0];
+        private File[] files = new File[0];
+
+        /* default */ Scanner(byte[] json, JsonParser parser, ObjectReader fileReader) {
+            this.json = json;
+            this.parser = parser;
+            this.fileReader = fileReader;
+        }
+
+        /* default */ Scanner scanFileSet() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw MismatchedInputException.from(parser, FileSet.class, NOT_A_FILE_SET_ERROR);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (FILES.equals(fieldName) && token != JsonToken.VALUE_NULL) {
+                    scanFiles();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return this;
+        }
+
+        private void scanFiles() throws IOException {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw MismatchedInputException.from(parser, FileSet.class, FILES_NOT_AN_ARRAY_ERROR);
+            }
+            JsonToken token = parser.nextToken();
+            while (token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.START_OBJECT) {
+                    scanFile();
+                } else if (token == JsonToken.VALUE_NULL) {
+                    throw MismatchedInputException.from(parser, FileSet.class, NULL_FILE_ERROR);
+                } else {
+                    File file = fileReader.readValue(parser);
+                    add(file.getIdentifier(), 0, 0, file);
+                }
+                token = parser.nextToken();
+            }
+        }
+
+        private void scanFile() throws IOException {
+            int start = (int) parser.getTokenLocation().getByteOffset();
+            UUID identifier = null;
+            boolean validIdentifier = true;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (File.IDENTIFIER.equals(fieldName)) {
+                    identifier = token == JsonToken.VALUE_STRING ? parseUuid(parser.getText()) : null;
+                    validIdentifier = token == JsonToken.VALUE_NULL || !isNull(identifier);
+                }
+                parser.skipChildren();
+            }
+            int end = (int) parser.getCurrentLocation().getByteOffset();
+            if (validIdentifier) {
+                add(identifier, start, end, null);
+            } else {
+                File file = fileReader.readValue(json, start, end - start);
+                add(file.getIdentifier(), start, end, file);
+            }
+        }
+
+        private void add(UUID identifier, int start, int end, File file) throws ValueInstantiationException {
+            if (!isNull(identifierIndex.putIfAbsent(identifier, size))) {
+                throw ValueInstantiationException.from(parser, DUPLICATE_FILE_IDENTIFIER_ERROR,
+                                                       fileReader.getTypeFactory().constructType(FileSet.class),
+                                                       new IllegalArgumentException(DUPLICATE_FILE_IDENTIFIER_ERROR));
+            }
+            if (size == starts.length) {
+                int capacity = Math.max(INITIAL_CAPACITY, 2 * size);
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                files = Arrays.copyOf(files, capacity);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            files[size] = file;
+            size++;
+        }
+
+        /**
+         * Parses an identifier in the canonical form of 36 characters, the only string form that the deserializer of
+         * UUIDs parses as text. Any other value is left to the deserializer, since {@link UUID#fromString} also
+         * accepts values that it rejects, e.g. {@code 1-1-1-1-1}.
+         */
+        private static UUID parseUuid(String value) {
+            if (value.length() != CANONICAL_UUID_LENGTH) {
+                return null;
+            }
+            for (int index = 0; index < CANONICAL_UUID_LENGTH; index++) {
+                char character = value.charAt(index);
+                boolean isDashPosition = index == 8 || index == 13 || index == 18 || index == 23;
+                if (isDashPosition ? character != '-' : !isHexDigit(character)) {
+                    return null;
+                }
+            }
+            return UUID.fromString(value);
+        }
+
+        private static boolean isHexDigit(char character) {
+            return character >= '0' && character <= '9'
+                   || character >= 'a' && character <= 'f'
+                   || character >= 'A' && character <= 'F';
+        }
+    }
+
+    private final class FileView extends AbstractList<File> implements RandomAccess {
+
+        @Override
+        public File get(int index) {
+            return getFile(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
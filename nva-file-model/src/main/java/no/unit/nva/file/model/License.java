@@ -5,15 +5,23 @@ import nva.commons.core.JacocoGenerated;
 
 import java.net.URI;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 public class License {
 
+    public static final String IMMUTABLE_LICENSE_ERROR = "The license is shared and cannot be modified";
+    /* default */ static final String IDENTIFIER = "identifier";
+    /* default */ static final String LABELS = "labels";
+    /* default */ static final String LINK = "link";
+
     private String identifier;
     private Map<String, String> labels;
     private URI link;
+    private boolean immutable;
+    private int cachedHashCode;
 
     @JacocoGenerated
     public License() {
@@ -26,11 +34,42 @@ public class License {
         setLink(builder.link);
     }
 
+    /**
+     * Creates an immutable copy of a license, whose labels are stored in a compact immutable map with interned
+     * language keys. Used by {@link LicensePool} for the instances it shares between files.
+     *
+     * @param license the license to copy.
+     * @return an immutable license equal to the given one.
+     */
+    /* default */ static License immutableCopyOf(License license) {
+        License copy = new License();
+        copy.identifier = license.getIdentifier();
+        copy.labels = compactLabels(license.labels);
+        copy.link = license.getLink();
+        copy.immutable = true;
+        return copy;
+    }
+
+    private static Map<String, String> compactLabels(Map<String, String> labels) {
+        if (Objects.isNull(labels)) {
+            return Map.of();
+        }
+        Map<String, String> internedLabels = new HashMap<>(FileSet.capacityFor(labels.size()));
+        boolean hasNulls = false;
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            String language = label.getKey();
+            hasNulls |= Objects.isNull(language) || Objects.isNull(label.getValue());
+            internedLabels.put(Objects.isNull(language) ? null : language.intern(), label.getValue());
+        }
+        return hasNulls ? Collections.unmodifiableMap(internedLabels) : Map.copyOf(internedLabels);
+    }
+
     public String getIdentifier() {
         return identifier;
     }
 
     public void setIdentifier(String identifier) {
+        assertMutable();
         this.identifier = identifier;
     }
 
@@ -39,6 +78,7 @@ public class License {
     }
 
     public void setLabels(Map<String, String> labels) {
+        assertMutable();
         this.labels = labels;
     }
 
@@ -47,13 +87,34 @@ public class License {
     }
 
     public void setLink(URI link) {
+        assertMutable();
         this.link = link;
     }
 
-    @JacocoGenerated
+    private void assertMutable() {
+        if (immutable) {
+            throw new UnsupportedOperationException(IMMUTABLE_LICENSE_ERROR);
+        }
+    }
+
+    /**
+     * Computes the hash code of the license. Immutable licenses, i.e. the ones shared through {@link LicensePool},
+     * compute it only once.
+     *
+     * @return the hash code.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(getIdentifier(), getLabels(), getLink());
+        int hash = cachedHashCode;
+        if (hash == 0 || !immutable) {
+            hash = 31 * (31 * Objects.hashCode(getIdentifier()) + getLabels().hashCode()) + Objects.hashCode(getLink());
+            cachedHashCode = hash;
+        }
+        return hash;
+    }
+
+    /* default */ boolean isImmutable() {
+        return immutable;
     }
 
     @JacocoGenerated
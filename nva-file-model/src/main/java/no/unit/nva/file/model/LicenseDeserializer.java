@@ -0,0 +1,121 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.file.model.FileDeserializer.deserializerFor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Deserializes {@link License} without reflection. The type property has already been consumed by the type
+ * deserializer of the mapper when this deserializer is called. Labels given as an object of strings are read directly
+ * from the parser, anything else is passed to the map deserializer of the mapper.
+ */
+/* default */ final class LicenseDeserializer extends StdDeserializer<License> implements ContextualDeserializer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final JsonDeserializer<Object> stringDeserializer;
+    private final JsonDeserializer<Object> labelsDeserializer;
+    private final JsonDeserializer<Object> linkDeserializer;
+
+    /* default */ LicenseDeserializer() {
+        this(null, null, null);
+    }
+
+    private LicenseDeserializer(JsonDeserializer<Object> stringDeserializer,
+                                JsonDeserializer<Object> labelsDeserializer,
+                                JsonDeserializer<Object> linkDeserializer) {
+        super(License.class);
+        this.stringDeserializer = stringDeserializer;
+        this.labelsDeserializer = labelsDeserializer;
+        this.linkDeserializer = linkDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+        throws JsonMappingException {
+        return new LicenseDeserializer(deserializerFor(context, String.class),
+                                       context.findRootValueDeserializer(context.getTypeFactory().constructMapType(
+                                           Map.class, String.class, String.class)),
+                                       deserializerFor(context, URI.class));
+    }
+
+    @Override
+    public boolean isCachable() {
+        return true;
+    }
+
+    @Override
+    public License deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (isNull(stringDeserializer)) {
+            return ((LicenseDeserializer) createContextual(context, null)).deserialize(parser, context);
+        }
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        } else if (token == JsonToken.START_ARRAY) {
+            return _deserializeFromArray(parser, context);
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (License) context.handleUnexpectedToken(License.class, parser);
+        }
+        License license = new License();
+        while (token == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case License.IDENTIFIER:
+                    license.setIdentifier(readString(parser, context));
+                    break;
+                case License.LABELS:
+                    license.setLabels(readLabels(parser, context));
+                    break;
+                case License.LINK:
+                    license.setLink(parser.currentToken() == JsonToken.VALUE_NULL
+                                        ? null
+                                        : (URI) linkDeserializer.deserialize(parser, context));
+                    break;
+                default:
+                    handleUnknownProperty(parser, context, license, fieldName);
+                    break;
+            }
+            token = parser.nextToken();
+        }
+        return license;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readLabels(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return Collections.emptyMap();
+        }
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return (Map<String, String>) labelsDeserializer.deserialize(parser, context);
+        }
+        Map<String, String> labels = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String language = parser.getCurrentName();
+            parser.nextToken();
+            labels.put(language, readString(parser, context));
+        }
+        return labels;
+    }
+
+    private String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        return token == JsonToken.VALUE_NULL ? null : (String) stringDeserializer.deserialize(parser, context);
+    }
+}
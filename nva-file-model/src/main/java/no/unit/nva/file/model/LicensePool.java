@@ -0,0 +1,106 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A bounded pool of shared, immutable {@link License} instances. Files that refer to the same license (same
+ * identifier, labels and link) are given the same instance instead of one copy per file. When the pool is full, a
+ * license that has not been used since the previous eviction is evicted, which approximates evicting the least
+ * recently used license; files that already refer to it keep their reference.
+ *
+ * <p>Looking up a license that is in the pool does not lock, so concurrent deserialization of files with the same
+ * licenses does not contend. Only adding a license, and evicting one to make room for it, is synchronized.
+ */
+public class LicensePool {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+    private static final LicensePool DEFAULT_POOL = new LicensePool(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final ConcurrentMap<License, SharedLicense> licenses;
+    private final Deque<SharedLicense> evictionOrder = new ArrayDeque<>();
+    private final Object lock = new Object();
+
+    public LicensePool(int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.licenses = new ConcurrentHashMap<>(FileSet.capacityFor(maximumSize));
+    }
+
+    public static LicensePool getDefault() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Returns the shared instance of a license.
+     *
+     * @param license a license, which is not modified and not retained by the pool.
+     * @return an immutable license equal to the given one, or null if the given license is null.
+     */
+    public License intern(License license) {
+        if (isNull(license)) {
+            return null;
+        }
+        SharedLicense shared = licenses.get(license);
+        return isNull(shared) ? add(license) : shared.use();
+    }
+
+    public int size() {
+        return licenses.size();
+    }
+
+    private License add(License license) {
+        synchronized (lock) {
+            SharedLicense shared = licenses.get(license);
+            if (nonNull(shared)) {
+                return shared.use();
+            }
+            shared = new SharedLicense(License.immutableCopyOf(license));
+            while (!evictionOrder.isEmpty() && evictionOrder.size() >= maximumSize) {
+                evictOne();
+            }
+            licenses.put(shared.license, shared);
+            evictionOrder.addLast(shared);
+            return shared.license;
+        }
+    }
+
+    /**
+     * Evicts the first license in insertion order that has not been used since it was last passed over, moving the
+     * used ones to the back and clearing their mark (the "clock" approximation of least recently used).
+     */
+    private void evictOne() {
+        SharedLicense eldest = evictionOrder.removeFirst();
+        while (eldest.recentlyUsed.getAndSet(false)) {
+            evictionOrder.addLast(eldest);
+            eldest = evictionOrder.removeFirst();
+        }
+        licenses.remove(eldest.license);
+    }
+
+    private static final class SharedLicense {
+
+        private final License license;
+        private final AtomicBoolean recentlyUsed = new AtomicBoolean();
+
+        /* default */ SharedLicense(License license) {
+            this.license = license;
+        }
+
+        /**
+         * Marks the license as used. The mark is only written when it is not set, so that threads reading the same
+         * license do not keep invalidating each other's cache line.
+         */
+        /* default */ License use() {
+            if (!recentlyUsed.get()) {
+                recentlyUsed.set(true);
+            }
+            return license;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Serializes {@link License} without reflection. The labels are filtered with the content inclusion of the mapper and
+ * ordered by language if the mapper orders map entries by key, like the reflection-based map serializer does.
+ */
+/* default */ final class LicenseSerializer extends ModelSerializer<License> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final PropertyInclusion labelInclusion;
+    private final JsonSerializer<Object> nullKeySerializer;
+
+    /* default */ LicenseSerializer() {
+        this(PropertyInclusion.ALWAYS, PropertyInclusion.ALWAYS, null);
+    }
+
+    private LicenseSerializer(PropertyInclusion inclusion, PropertyInclusion labelInclusion,
+                              JsonSerializer<Object> nullKeySerializer) {
+        super(License.class, inclusion);
+        this.labelInclusion = labelInclusion;
+        this.nullKeySerializer = nullKeySerializer;
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+        throws JsonMappingException {
+        return new LicenseSerializer(PropertyInclusion.forValues(provider, License.class),
+                                     PropertyInclusion.forContents(provider, License.class),
+                                     provider.findNullKeySerializer(provider.constructType(String.class), null));
+    }
+
+    @Override
+    /* default */ boolean isResolved() {
+        return !isNull(nullKeySerializer);
+    }
+
+    @Override
+    /* default */ void writeProperties(License license, JsonGenerator generator, SerializerProvider provider)
+        throws IOException {
+        writeString(generator, License.IDENTIFIER, license.getIdentifier());
+        writeLabels(generator, license.getLabels(), provider);
+        writeLink(generator, license.getLink());
+    }
+
+    /**
+     * Writes the link. Jackson considers a URI with an empty string representation empty, but not a default value, so
+     * it is left out for NON_EMPTY only.
+     */
+    private void writeLink(JsonGenerator generator, URI link) throws IOException {
+        if (isNull(link)) {
+            writeNull(generator, License.LINK);
+        } else if (inclusion != PropertyInclusion.NON_EMPTY || !link.toString().isEmpty()) {
+            generator.writeStringField(License.LINK, link.toString());
+        }
+    }
+
+    /**
+     * Writes the labels. For NON_EMPTY, labels that are all filtered out count as empty, while for NON_DEFAULT only
+     * null labels are taken into account, like with the reflection-based map serializer.
+     */
+    private void writeLabels(JsonGenerator generator, Map<String, String> labels, SerializerProvider provider)
+        throws IOException {
+        boolean empty = inclusion.includesDefault()
+                            ? !hasIncludedLabel(labels)
+                            : labels.values().stream().allMatch(Objects::isNull);
+        if (empty && !inclusion.includesEmpty()) {
+            return;
+        }
+        generator.writeFieldName(License.LABELS);
+        generator.writeStartObject(labels);
+        for (Map.Entry<String, String> label : orderedIfRequired(labels, provider).entrySet()) {
+            String value = label.getValue();
+            if (isIncluded(value)) {
+                writeLanguage(generator, label.getKey(), provider);
+                if (isNull(value)) {
+                    generator.writeNull();
+                } else {
+                    generator.writeString(value);
+                }
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private boolean hasIncludedLabel(Map<String, String> labels) {
+        for (String value : labels.values()) {
+            if (isIncluded(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isIncluded(String value) {
+        return isNull(value) ? labelInclusion.includesNull() : labelInclusion.includesEmpty() || !value.isEmpty();
+    }
+
+    private void writeLanguage(JsonGenerator generator, String language, SerializerProvider provider)
+        throws IOException {
+        if (isNull(language)) {
+            nullKeySerializer.serialize(null, generator, provider);
+        } else {
+            generator.writeFieldName(language);
+        }
+    }
+
+    private static Map<String, String> orderedIfRequired(Map<String, String> labels, SerializerProvider provider) {
+        if (labels.size() < 2 || !provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+            return labels;
+        }
+        Map<String, String> ordered = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        ordered.putAll(labels);
+        return ordered;
+    }
+}
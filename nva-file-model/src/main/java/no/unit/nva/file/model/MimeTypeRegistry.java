@@ -0,0 +1,132 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical instances of MIME types, so that files with the same MIME type share one string instead of one copy per
+ * file. Common MIME types have a compact id, which is their position in {@link #COMMON_MIME_TYPES} plus one, and are
+ * shared by every registry. Other MIME types are shared through a bounded table; when it is full, they are returned as
+ * they are. MIME types are compared exactly, so a MIME type is never changed by interning it.
+ *
+ * <p>The ids are stored by {@link no.unit.nva.file.model.binary.BinaryCodec} instead of the MIME types, so new common
+ * MIME types must be added at the end of the list.
+ */
+public class MimeTypeRegistry {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    public static final int NO_ID = 0;
+    public static final List<String> COMMON_MIME_TYPES = List.of(
+        "application/pdf",
+        "application/msword",
+        "application/vnd.openxmlformats-officedocument.wordprocessingml.document",
+        "application/vnd.ms-excel",
+        "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
+        "application/vnd.ms-powerpoint",
+        "application/vnd.openxmlformats-officedocument.presentationml.presentation",
+        "application/vnd.oasis.opendocument.text",
+        "application/vnd.oasis.opendocument.spreadsheet",
+        "application/rtf",
+        "application/zip",
+        "application/gzip",
+        "application/json",
+        "application/xml",
+        "application/octet-stream",
+        "text/plain",
+        "text/csv",
+        "text/html",
+        "text/xml",
+        "image/jpeg",
+        "image/png",
+        "image/gif",
+        "image/tiff",
+        "image/svg+xml",
+        "image/webp",
+        "audio/mpeg",
+        "audio/wav",
+        "video/mp4",
+        "video/mpeg",
+        "video/quicktime");
+    private static final Map<String, Integer> COMMON_IDS = commonIds();
+    private static final MimeTypeRegistry DEFAULT_REGISTRY = new MimeTypeRegistry(DEFAULT_MAXIMUM_SIZE);
+
+    private final ConcurrentMap<String, String> uncommonMimeTypes = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    public MimeTypeRegistry(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public static MimeTypeRegistry getDefault() {
+        return DEFAULT_REGISTRY;
+    }
+
+    /**
+     * Returns the compact id of a common MIME type.
+     *
+     * @param mimeType a MIME type.
+     * @return the id, or {@link #NO_ID} if the MIME type is null or not common.
+     */
+    public static int idOf(String mimeType) {
+        Integer id = COMMON_IDS.get(mimeType);
+        return isNull(id) ? NO_ID : id;
+    }
+
+    /**
+     * Returns the common MIME type with a compact id.
+     *
+     * @param id the id.
+     * @return the canonical instance of the MIME type, or null if the id is {@link #NO_ID} or unknown.
+     */
+    public static String forId(int id) {
+        return id > NO_ID && id <= COMMON_MIME_TYPES.size() ? COMMON_MIME_TYPES.get(id - 1) : null;
+    }
+
+    /**
+     * Returns the shared instance of a MIME type. Lookups do not lock.
+     *
+     * @param mimeType a MIME type.
+     * @return an equal string, which is the same instance for all equal MIME types unless the table of uncommon MIME
+     *     types is full, or null if the given MIME type is null.
+     */
+    public String intern(String mimeType) {
+        if (isNull(mimeType)) {
+            return null;
+        }
+        int id = idOf(mimeType);
+        if (id != NO_ID) {
+            return forId(id);
+        }
+        String shared = uncommonMimeTypes.get(mimeType);
+        if (isNull(shared)) {
+            if (uncommonMimeTypes.size() >= maximumSize) {
+                return mimeType;
+            }
+            String previous = uncommonMimeTypes.putIfAbsent(mimeType, mimeType);
+            shared = isNull(previous) ? mimeType : previous;
+        }
+        return shared;
+    }
+
+    /**
+     * Returns the number of uncommon MIME types in the registry.
+     *
+     * @return the number of MIME types, which exceeds the maximum size by at most the number of threads that add a
+     *     MIME type at the same time.
+     */
+    public int size() {
+        return uncommonMimeTypes.size();
+    }
+
+    private static Map<String, Integer> commonIds() {
+        Map<String, Integer> ids = new HashMap<>();
+        for (int index = 0; index < COMMON_MIME_TYPES.size(); index++) {
+            ids.put(COMMON_MIME_TYPES.get(index), index + 1);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,147 @@
+package no.unit.nva.file.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.diff.FileField;
+import no.unit.nva.file.model.diff.FilePatch;
+import no.unit.nva.file.model.diff.FileSetPatch;
+import no.unit.nva.file.model.paging.FilePage;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * Moves the one-time cost of using the model out of the first request, for short-lived processes such as AWS Lambda
+ * functions and native images.
+ *
+ * <p>{@link #objectMapper()} has the hand-written serializers of {@link FileModelModule} registered directly, so
+ * neither bean introspection nor a scan for modules is needed to bind the model. {@link #warmUp()} initializes the
+ * lookups of the model and resolves the serializers and deserializers of the root types, so that the remaining
+ * annotation processing of Jackson happens at startup, or before a snapshot of the process is taken, e.g. in a static
+ * initializer or a CRaC {@code beforeCheckpoint} hook:
+ *
+ * <pre>{@code
+ * static {
+ *     ModelBootstrap.warmUp();
+ * }
+ * }</pre>
+ *
+ * <p>The library ships a GraalVM native-image configuration in {@code META-INF/native-image} that registers
+ * {@link #REFLECTED_TYPES} for reflection.
+ */
+public final class ModelBootstrap {
+
+    /**
+     * The root types of the model that {@link #warmUp} resolves the serializers and deserializers of.
+     */
+    public static final List<Class<?>> ROOT_TYPES = List.of(FileSet.class, File.class, License.class);
+
+    /**
+     * The classes that Jackson accesses by reflection, which are registered in the native-image configuration.
+     */
+    public static final List<Class<?>> REFLECTED_TYPES = List.of(
+        File.class, FileSet.class, FileSetSummary.class, FileSetDeserializer.class, License.class, FileType.class,
+        Fingerprint.class, ColumnarFileSet.class, FileModelModule.class, FilePatch.class, FileSetPatch.class,
+        FileField.class, FilePage.class);
+
+    private static final Instant EMBARGO_DATE = Instant.parse("2000-01-01T00:00:00Z");
+    private static final URI LICENSE_LINK = URI.create("https://creativecommons.org/licenses/by/4.0/");
+
+    @JacocoGenerated
+    private ModelBootstrap() {
+    }
+
+    /**
+     * Returns a shared copy of {@code JsonUtils.dtoObjectMapper} with {@link FileModelModule} registered. It is created
+     * on first use.
+     *
+     * @return the mapper, which must not be reconfigured.
+     */
+    public static ObjectMapper objectMapper() {
+        return ObjectMapperHolder.OBJECT_MAPPER;
+    }
+
+    /**
+     * Warms up {@link #objectMapper()}.
+     */
+    public static void warmUp() {
+        warmUp(objectMapper());
+    }
+
+    /**
+     * Initializes the file type lookup and the license pool, and writes and reads a sample of every root type with a
+     * mapper, which makes the mapper resolve and cache their serializers and deserializers. Warming up a mapper more
+     * than once is harmless but does not make it faster.
+     *
+     * @param objectMapper the mapper that the application uses, with or without {@link FileModelModule}.
+     */
+    public static void warmUp(ObjectMapper objectMapper) {
+        for (FileType type : FileType.values()) {
+            FileType.lookUp(type.getValue());
+        }
+        License license = LicensePool.getDefault().intern(sampleLicense());
+        FileSet fileSet = sampleFileSet(license);
+        roundTrip(objectMapper, FileSet.class, fileSet);
+        roundTrip(objectMapper, File.class, fileSet.getFiles().get(0));
+        roundTrip(objectMapper, License.class, license);
+    }
+
+    private static <T> void roundTrip(ObjectMapper objectMapper, Class<T> type, T value) {
+        ObjectWriter writer = objectMapper.writerFor(type);
+        ObjectReader reader = objectMapper.readerFor(type);
+        try {
+            reader.readValue(writer.writeValueAsBytes(value));
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static License sampleLicense() {
+        return new License.Builder()
+                   .withIdentifier("CC-BY")
+                   .withLabels(Map.of("en", "CC-BY 4.0"))
+                   .withLink(LICENSE_LINK)
+                   .build();
+    }
+
+    /**
+     * Creates files with every kind of property value, so that every delegate of the serializers is resolved.
+     */
+    private static FileSet sampleFileSet(License license) {
+        File published = new File.Builder()
+                             .withType(FileType.PUBLISHED_FILE)
+                             .withIdentifier(new UUID(0, 1))
+                             .withName("published.pdf")
+                             .withMimeType("application/pdf")
+                             .withSize(1L)
+                             .withLicense(license)
+                             .withPublisherAuthority(true)
+                             .withEmbargoDate(EMBARGO_DATE)
+                             .build();
+        File unpublished = published.copy()
+                               .withType(FileType.UNPUBLISHED_FILE)
+                               .withIdentifier(new UUID(0, 2))
+                               .withEmbargoDate(null)
+                               .build();
+        File agreement = published.copy()
+                             .withType(FileType.UNPUBLISHABLE_FILE)
+                             .withIdentifier(new UUID(0, 3))
+                             .withLicense(null)
+                             .withAdministrativeAgreement(true)
+                             .build();
+        return new FileSet(List.of(published, unpublished, agreement));
+    }
+
+    private static final class ObjectMapperHolder {
+
+        private static final ObjectMapper OBJECT_MAPPER =
+            JsonUtils.dtoObjectMapper.copy().registerModule(new FileModelModule());
+    }
+}
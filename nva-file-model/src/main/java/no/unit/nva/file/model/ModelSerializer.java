@@ -0,0 +1,104 @@
+package no.unit.nva.file.model;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Base class of the hand-written serializers of {@link FileModelModule}. Subclasses write the properties of an object
+ * directly to the generator, in the order of the reflection-based serializers, and resolve the serializers they
+ * delegate to once per mapper in {@link #createContextual}.
+ *
+ * @param <T> the serialized type.
+ */
+/* default */ abstract class ModelSerializer<T> extends StdSerializer<T> implements ContextualSerializer {
+
+    private static final long serialVersionUID = 1L;
+
+    /* default */ final PropertyInclusion inclusion;
+
+    /* default */ ModelSerializer(Class<T> type, PropertyInclusion inclusion) {
+        super(type);
+        this.inclusion = inclusion;
+    }
+
+    /**
+     * Writes the properties of the object, without the enclosing braces.
+     */
+    /* default */ abstract void writeProperties(T value, JsonGenerator generator, SerializerProvider provider)
+        throws IOException;
+
+    /**
+     * Tells whether the serializer was created by {@link #createContextual} and has resolved its delegates.
+     */
+    /* default */ abstract boolean isResolved();
+
+    @Override
+    public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        ModelSerializer<T> serializer = resolved(provider);
+        generator.writeStartObject(value);
+        serializer.writeProperties(value, generator, provider);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(T value, JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        ModelSerializer<T> serializer = resolved(provider);
+        WritableTypeId typeId = typeSerializer.writeTypePrefix(generator,
+                                                               typeSerializer.typeId(value, JsonToken.START_OBJECT));
+        serializer.writeProperties(value, generator, provider);
+        typeSerializer.writeTypeSuffix(generator, typeId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ModelSerializer<T> resolved(SerializerProvider provider) throws IOException {
+        return isResolved() ? this : (ModelSerializer<T>) createContextual(provider, null);
+    }
+
+    /* default */ void writeString(JsonGenerator generator, String name, String value) throws IOException {
+        if (isNull(value)) {
+            writeNull(generator, name);
+        } else if (inclusion.includesEmpty() || !value.isEmpty()) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /* default */ void writeNumber(JsonGenerator generator, String name, Long value) throws IOException {
+        if (isNull(value)) {
+            writeNull(generator, name);
+        } else if (inclusion.includesDefault() || value != 0L) {
+            generator.writeNumberField(name, value.longValue());
+        }
+    }
+
+    /* default */ void writeBoolean(JsonGenerator generator, String name, boolean value) throws IOException {
+        if (inclusion.includesDefault() || value) {
+            generator.writeBooleanField(name, value);
+        }
+    }
+
+    /* default */ void writeObject(JsonGenerator generator, String name, Object value,
+                                   JsonSerializer<Object> serializer, SerializerProvider provider)
+        throws IOException {
+        if (isNull(value)) {
+            writeNull(generator, name);
+        } else {
+            generator.writeFieldName(name);
+            serializer.serialize(value, generator, provider);
+        }
+    }
+
+    /* default */ void writeNull(JsonGenerator generator, String name) throws IOException {
+        if (inclusion.includesNull()) {
+            generator.writeNullField(name);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package no.unit.nva.file.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * The property inclusion rules of Jackson, as far as they apply to the properties of the model, ordered from the most
+ * to the least inclusive. Used by the hand-written serializers of {@link FileModelModule} to leave out the same
+ * properties as the reflection-based serializers.
+ */
+/* default */ enum PropertyInclusion {
+    ALWAYS,
+    NON_NULL,
+    NON_ABSENT,
+    NON_EMPTY,
+    NON_DEFAULT;
+
+    /* default */ static PropertyInclusion forValues(SerializerProvider provider, Class<?> type) {
+        return of(provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion());
+    }
+
+    /* default */ static PropertyInclusion forContents(SerializerProvider provider, Class<?> type) {
+        return of(provider.getConfig().getDefaultPropertyInclusion(type).getContentInclusion());
+    }
+
+    private static PropertyInclusion of(JsonInclude.Include include) {
+        switch (include) {
+            case NON_NULL:
+                return NON_NULL;
+            case NON_ABSENT:
+                return NON_ABSENT;
+            case NON_EMPTY:
+                return NON_EMPTY;
+            case NON_DEFAULT:
+                return NON_DEFAULT;
+            default:
+                return ALWAYS;
+        }
+    }
+
+    /* default */ boolean includesNull() {
+        return this == ALWAYS;
+    }
+
+    /* default */ boolean includesAbsent() {
+        return compareTo(NON_ABSENT) < 0;
+    }
+
+    /* default */ boolean includesEmpty() {
+        return compareTo(NON_EMPTY) < 0;
+    }
+
+    /* default */ boolean includesDefault() {
+        return compareTo(NON_DEFAULT) < 0;
+    }
+}
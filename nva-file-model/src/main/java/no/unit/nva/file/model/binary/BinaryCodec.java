@@ -0,0 +1,336 @@
+package no.unit.nva.file.model.binary;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+import no.unit.nva.file.model.LicensePool;
+import no.unit.nva.file.model.MimeTypeRegistry;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * A compact binary format for {@link File}, {@link FileSet} and {@link License}, as an alternative to JSON for storage.
+ * Decoding an encoded object gives an object equal to the original.
+ *
+ * <p>Every record starts with a two-byte magic number, a format version and the kind of record. In the body,
+ * identifiers are stored as two longs, sizes and counts as variable-length integers, the file type as its ordinal,
+ * embargo dates as epoch seconds and nanoseconds, and strings as UTF-8. A common MIME type is stored as its
+ * {@link MimeTypeRegistry#idOf(String) id}, and other MIME types as strings. A license is written in full the first
+ * time it occurs in a record and is referred to by its position in the record's license dictionary after that. The
+ * labels of a license are written sorted by language, so that equal objects always have the same encoding.
+ *
+ * <p>Records are written in the current {@link #FORMAT_VERSION}. Records of version 1, where every MIME type is a
+ * string, can still be decoded. New file types must be added at the end of {@link FileType}, and new common MIME types
+ * at the end of {@link MimeTypeRegistry#COMMON_MIME_TYPES}, since their positions are part of the format.
+ */
+public final class BinaryCodec {
+
+    public static final int MAGIC = 0x4E46;
+    public static final int FORMAT_VERSION = 2;
+    public static final String NOT_BINARY_FILE_MODEL_ERROR = "The input is not a binary file model record";
+    public static final String UNSUPPORTED_VERSION_ERROR = "Unsupported binary file model version: %d";
+    public static final String UNEXPECTED_RECORD_ERROR = "Expected a record of kind %d, but found %d";
+    public static final String UNKNOWN_FILE_TYPE_ERROR = "Unknown file type ordinal: %d";
+    public static final String UNKNOWN_LICENSE_ERROR = "Unknown license reference: %d";
+    public static final String UNKNOWN_MIME_TYPE_ERROR = "Unknown MIME type reference: %d";
+    public static final String TRAILING_BYTES_ERROR = "The binary input contains trailing bytes";
+
+    /* default */ static final int FILE_RECORD = 1;
+    /* default */ static final int FILE_SET_RECORD = 2;
+    /* default */ static final int LICENSE_RECORD = 3;
+
+    private static final int ADMINISTRATIVE_AGREEMENT = 1;
+    private static final int PUBLISHER_AUTHORITY = 1 << 1;
+    private static final int HAS_TYPE = 1 << 2;
+    private static final int HAS_IDENTIFIER = 1 << 3;
+    private static final int HAS_SIZE = 1 << 4;
+    private static final int HAS_EMBARGO_DATE = 1 << 5;
+    private static final int NO_LICENSE = 0;
+    private static final int NEW_LICENSE = 1;
+    private static final int FIRST_LICENSE_REFERENCE = 2;
+    private static final int NO_MIME_TYPE = 0;
+    private static final int UNCOMMON_MIME_TYPE = 1;
+    private static final int COMMON_MIME_TYPE_OFFSET = 1;
+    private static final int FIRST_FORMAT_VERSION = 1;
+    private static final int MAGIC_SHIFT = 8;
+    private static final int BYTE_MASK = 0xFF;
+    private static final FileType[] FILE_TYPES = FileType.values();
+    private static final Comparator<String> LANGUAGE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    @JacocoGenerated
+    private BinaryCodec() {
+    }
+
+    public static byte[] encode(File file) {
+        Encoder encoder = new Encoder(FILE_RECORD);
+        encoder.writeFile(file);
+        return encoder.toByteArray();
+    }
+
+    public static byte[] encode(FileSet fileSet) {
+        Encoder encoder = new Encoder(FILE_SET_RECORD);
+        encoder.writeFileSet(fileSet);
+        return encoder.toByteArray();
+    }
+
+    public static byte[] encode(License license) {
+        Encoder encoder = new Encoder(LICENSE_RECORD);
+        encoder.writeLicense(license);
+        return encoder.toByteArray();
+    }
+
+    public static File decodeFile(byte[] bytes) {
+        return decodeFile(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decodes a file record stored in a part of a byte array.
+     *
+     * @param bytes  the array containing the record.
+     * @param offset the position of the first byte of the record.
+     * @param length the length of the record.
+     * @return the decoded file.
+     */
+    public static File decodeFile(byte[] bytes, int offset, int length) {
+        Decoder decoder = new Decoder(bytes, offset, length, FILE_RECORD);
+        return decoder.finish(decoder.readFile());
+    }
+
+    public static FileSet decodeFileSet(byte[] bytes) {
+        Decoder decoder = new Decoder(bytes, 0, bytes.length, FILE_SET_RECORD);
+        return decoder.finish(decoder.readFileSet());
+    }
+
+    public static License decodeLicense(byte[] bytes) {
+        Decoder decoder = new Decoder(bytes, 0, bytes.length, LICENSE_RECORD);
+        return decoder.finish(decoder.readLicense());
+    }
+
+    private static final class Encoder {
+
+        private final BinaryWriter writer = new BinaryWriter();
+        private final Map<License, Integer> licenseDictionary = new HashMap<>();
+
+        /* default */ Encoder(int recordKind) {
+            writer.writeByte(MAGIC >>> MAGIC_SHIFT);
+            writer.writeByte(MAGIC & BYTE_MASK);
+            writer.writeByte(FORMAT_VERSION);
+            writer.writeByte(recordKind);
+        }
+
+        /* default */ void writeFileSet(FileSet fileSet) {
+            List<File> files = fileSet.getFiles();
+            writer.writeUnsignedVarLong(files.size());
+            for (File file : files) {
+                writeFile(file);
+            }
+        }
+
+        /* default */ void writeFile(File file) {
+            writer.writeByte(flagsOf(file));
+            if (nonNull(file.getType())) {
+                writer.writeByte(file.getType().ordinal());
+            }
+            if (nonNull(file.getIdentifier())) {
+                writer.writeLong(file.getIdentifier().getMostSignificantBits());
+                writer.writeLong(file.getIdentifier().getLeastSignificantBits());
+            }
+            writer.writeString(file.getName());
+            writeMimeType(file.getMimeType());
+            if (nonNull(file.getSize())) {
+                writer.writeSignedVarLong(file.getSize());
+            }
+            writeLicenseReference(file.getLicense());
+            if (file.getEmbargoDate().isPresent()) {
+                Instant embargoDate = file.getEmbargoDate().get();
+                writer.writeSignedVarLong(embargoDate.getEpochSecond());
+                writer.writeUnsignedVarLong(embargoDate.getNano());
+            }
+        }
+
+        /* default */ void writeLicense(License license) {
+            writer.writeString(license.getIdentifier());
+            writer.writeString(isNull(license.getLink()) ? null : license.getLink().toString());
+            Map<String, String> labels = new TreeMap<>(LANGUAGE_ORDER);
+            labels.putAll(license.getLabels());
+            writer.writeUnsignedVarLong(labels.size());
+            labels.forEach((language, label) -> {
+                writer.writeString(language);
+                writer.writeString(label);
+            });
+        }
+
+        /* default */ byte[] toByteArray() {
+            return writer.toByteArray();
+        }
+
+        private void writeLicenseReference(License license) {
+            if (isNull(license)) {
+                writer.writeUnsignedVarLong(NO_LICENSE);
+                return;
+            }
+            Integer reference = licenseDictionary.get(license);
+            if (nonNull(reference)) {
+                writer.writeUnsignedVarLong(FIRST_LICENSE_REFERENCE + (long) reference);
+                return;
+            }
+            licenseDictionary.put(license, licenseDictionary.size());
+            writer.writeUnsignedVarLong(NEW_LICENSE);
+            writeLicense(license);
+        }
+
+        /**
+         * Writes a common MIME type as its id offset by one, and any other MIME type as a string after a marker.
+         */
+        private void writeMimeType(String mimeType) {
+            if (isNull(mimeType)) {
+                writer.writeUnsignedVarLong(NO_MIME_TYPE);
+                return;
+            }
+            int id = MimeTypeRegistry.idOf(mimeType);
+            if (id != MimeTypeRegistry.NO_ID) {
+                writer.writeUnsignedVarLong(COMMON_MIME_TYPE_OFFSET + (long) id);
+                return;
+            }
+            writer.writeUnsignedVarLong(UNCOMMON_MIME_TYPE);
+            writer.writeString(mimeType);
+        }
+
+        private static int flagsOf(File file) {
+            int flags = 0;
+            flags |= file.isAdministrativeAgreement() ? ADMINISTRATIVE_AGREEMENT : 0;
+            flags |= file.isPublisherAuthority() ? PUBLISHER_AUTHORITY : 0;
+            flags |= nonNull(file.getType()) ? HAS_TYPE : 0;
+            flags |= nonNull(file.getIdentifier()) ? HAS_IDENTIFIER : 0;
+            flags |= nonNull(file.getSize()) ? HAS_SIZE : 0;
+            flags |= file.getEmbargoDate().isPresent() ? HAS_EMBARGO_DATE : 0;
+            return flags;
+        }
+    }
+
+    private static final class Decoder {
+
+        private final BinaryReader reader;
+        private final List<License> licenseDictionary = new ArrayList<>();
+        private final int version;
+
+        /* default */ Decoder(byte[] bytes, int offset, int length, int expectedRecordKind) {
+            this.reader = new BinaryReader(bytes, offset, length);
+            if (reader.readByte() != MAGIC >>> MAGIC_SHIFT || reader.readByte() != (MAGIC & BYTE_MASK)) {
+                throw new IllegalArgumentException(NOT_BINARY_FILE_MODEL_ERROR);
+            }
+            this.version = reader.readByte();
+            if (version < FIRST_FORMAT_VERSION || version > FORMAT_VERSION) {
+                throw new IllegalArgumentException(format(UNSUPPORTED_VERSION_ERROR, version));
+            }
+            int recordKind = reader.readByte();
+            if (recordKind != expectedRecordKind) {
+                throw new IllegalArgumentException(format(UNEXPECTED_RECORD_ERROR, expectedRecordKind, recordKind));
+            }
+        }
+
+        /* default */ FileSet readFileSet() {
+            int numberOfFiles = reader.readLength();
+            List<File> files = new ArrayList<>(numberOfFiles);
+            for (int index = 0; index < numberOfFiles; index++) {
+                files.add(readFile());
+            }
+            return new FileSet(files);
+        }
+
+        /* default */ File readFile() {
+            int flags = reader.readByte();
+            FileType type = hasFlag(flags, HAS_TYPE) ? readFileType() : null;
+            UUID identifier = hasFlag(flags, HAS_IDENTIFIER) ? new UUID(reader.readLong(), reader.readLong()) : null;
+            String name = reader.readString();
+            String mimeType = readMimeType();
+            Long size = hasFlag(flags, HAS_SIZE) ? reader.readSignedVarLong() : null;
+            License license = readLicenseReference();
+            Instant embargoDate = hasFlag(flags, HAS_EMBARGO_DATE)
+                                      ? Instant.ofEpochSecond(reader.readSignedVarLong(), reader.readUnsignedVarLong())
+                                      : null;
+            return new File(type, identifier, name, mimeType, size, license,
+                            hasFlag(flags, ADMINISTRATIVE_AGREEMENT), hasFlag(flags, PUBLISHER_AUTHORITY),
+                            embargoDate);
+        }
+
+        /* default */ License readLicense() {
+            String identifier = reader.readString();
+            String link = reader.readString();
+            int numberOfLabels = reader.readLength();
+            Map<String, String> labels = new HashMap<>();
+            for (int index = 0; index < numberOfLabels; index++) {
+                labels.put(reader.readString(), reader.readString());
+            }
+            License license = new License.Builder()
+                                  .withIdentifier(identifier)
+                                  .withLink(isNull(link) ? null : URI.create(link))
+                                  .withLabels(labels)
+                                  .build();
+            return LicensePool.getDefault().intern(license);
+        }
+
+        /* default */ <T> T finish(T value) {
+            if (reader.hasRemaining()) {
+                throw new IllegalArgumentException(TRAILING_BYTES_ERROR);
+            }
+            return value;
+        }
+
+        private License readLicenseReference() {
+            long reference = reader.readUnsignedVarLong();
+            if (reference == NO_LICENSE) {
+                return null;
+            }
+            if (reference == NEW_LICENSE) {
+                License license = readLicense();
+                licenseDictionary.add(license);
+                return license;
+            }
+            long position = reference - FIRST_LICENSE_REFERENCE;
+            if (position >= licenseDictionary.size()) {
+                throw new IllegalArgumentException(format(UNKNOWN_LICENSE_ERROR, reference));
+            }
+            return licenseDictionary.get((int) position);
+        }
+
+        private String readMimeType() {
+            long reference = version == FIRST_FORMAT_VERSION ? UNCOMMON_MIME_TYPE : reader.readUnsignedVarLong();
+            if (reference == NO_MIME_TYPE) {
+                return null;
+            }
+            if (reference == UNCOMMON_MIME_TYPE) {
+                return MimeTypeRegistry.getDefault().intern(reader.readString());
+            }
+            long id = reference - COMMON_MIME_TYPE_OFFSET;
+            if (id > MimeTypeRegistry.COMMON_MIME_TYPES.size()) {
+                throw new IllegalArgumentException(format(UNKNOWN_MIME_TYPE_ERROR, reference));
+            }
+            return MimeTypeRegistry.forId((int) id);
+        }
+
+        private FileType readFileType() {
+            int ordinal = reader.readByte();
+            if (ordinal >= FILE_TYPES.length) {
+                throw new IllegalArgumentException(format(UNKNOWN_FILE_TYPE_ERROR, ordinal));
+            }
+            return FILE_TYPES[ordinal];
+        }
+
+        private static boolean hasFlag(int flags, int flag) {
+            return (flags & flag) != 0;
+        }
+    }
+}
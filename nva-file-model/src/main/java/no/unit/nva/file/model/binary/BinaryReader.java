@@ -0,0 +1,94 @@
+package no.unit.nva.file.model.binary;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by {@link BinaryWriter}.
+ */
+/* default */ class BinaryReader {
+
+    public static final String TRUNCATED_INPUT_ERROR = "The binary input is truncated";
+    public static final String MALFORMED_NUMBER_ERROR = "The binary input contains a malformed number";
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAXIMUM_SHIFT = 63;
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    /* default */ BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /* default */ int readByte() {
+        require(1);
+        return buffer[position++] & BYTE_MASK;
+    }
+
+    /* default */ long readLong() {
+        require(Long.BYTES);
+        long value = 0;
+        for (int index = 0; index < Long.BYTES; index++) {
+            value = value << Byte.SIZE | buffer[position++] & BYTE_MASK;
+        }
+        return value;
+    }
+
+    /* default */ long readUnsignedVarLong() {
+        long value = 0;
+        for (int shift = 0; shift <= MAXIMUM_SHIFT; shift += 7) {
+            int current = readByte();
+            value |= (long) (current & SEVEN_BITS) << shift;
+            if ((current & CONTINUATION_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException(MALFORMED_NUMBER_ERROR);
+    }
+
+    /* default */ long readSignedVarLong() {
+        long encoded = readUnsignedVarLong();
+        return encoded >>> 1 ^ -(encoded & 1);
+    }
+
+    /**
+     * Reads a length or a count, which cannot be larger than the number of remaining bytes.
+     *
+     * @return the length.
+     */
+    /* default */ int readLength() {
+        return checkedLength(readUnsignedVarLong());
+    }
+
+    /* default */ String readString() {
+        long lengthPlusOne = readUnsignedVarLong();
+        if (lengthPlusOne == 0) {
+            return null;
+        }
+        int length = checkedLength(lengthPlusOne - 1);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    /* default */ boolean hasRemaining() {
+        return position < limit;
+    }
+
+    private int checkedLength(long length) {
+        if (length < 0 || length > limit - position) {
+            throw new IllegalArgumentException(TRUNCATED_INPUT_ERROR);
+        }
+        return (int) length;
+    }
+
+    private void require(int bytes) {
+        if (limit - position < bytes) {
+            throw new IllegalArgumentException(TRUNCATED_INPUT_ERROR);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package no.unit.nva.file.model.binary;
+
+import static java.util.Objects.isNull;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Appends primitive values to a growable byte array. Integers are written as variable-length quantities of seven bits
+ * per byte, with zig-zag encoding where the value may be negative.
+ */
+/* default */ class BinaryWriter {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int SEVEN_BITS = 0x7F;
+    private static final int CONTINUATION_BIT = 0x80;
+    private static final int BYTE_MASK = 0xFF;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int position;
+
+    /* default */ void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    /* default */ void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+            buffer[position++] = (byte) (value >>> shift & BYTE_MASK);
+        }
+    }
+
+    /* default */ void writeUnsignedVarLong(long value) {
+        ensureCapacity(Long.BYTES + 2);
+        long remaining = value;
+        while ((remaining & ~SEVEN_BITS) != 0) {
+            buffer[position++] = (byte) (remaining & SEVEN_BITS | CONTINUATION_BIT);
+            remaining >>>= 7;
+        }
+        buffer[position++] = (byte) remaining;
+    }
+
+    /* default */ void writeSignedVarLong(long value) {
+        writeUnsignedVarLong(value << 1 ^ value >> Long.SIZE - 1);
+    }
+
+    /**
+     * Writes a nullable string as its UTF-8 length plus one, followed by its UTF-8 bytes. Null is written as length 0.
+     *
+     * @param value the string, may be null.
+     */
+    /* default */ void writeString(String value) {
+        if (isNull(value)) {
+            writeUnsignedVarLong(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarLong(bytes.length + 1L);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    /* default */ byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (position + additionalBytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additionalBytes));
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package no.unit.nva.file.model.catalog;
+
+import static java.lang.String.format;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An open-addressing hash table from identifiers to record positions, stored in a memory-mapped file. The file starts
+ * with a header that holds the segment size, the capacity and the number of entries of the table, and the end position
+ * of the segments, followed by the slots. A slot is three longs: the most and least significant bits of the identifier
+ * and the position of the record, where position 0 marks an empty slot. Collisions are resolved by linear probing from
+ * a slot chosen by Fibonacci hashing of both halves of the identifier, so that identifiers that are not random, e.g.
+ * with equal halves, are spread as well.
+ *
+ * <p>The slots are mapped in chunks, so that the table is not limited by the size of a single mapping. The capacity is
+ * a power of two, and the table is rebuilt in a new file with twice the capacity when it is half full.
+ */
+final class CatalogIndex {
+
+    /* default */ static final int MAGIC = 0x4E464349;
+    /* default */ static final int FORMAT_VERSION = 1;
+    /* default */ static final int INITIAL_CAPACITY = 1 << 10;
+    /* default */ static final long EMPTY = 0;
+    /* default */ static final String NOT_AN_INDEX_ERROR = "Not a catalog index: %s";
+    private static final int HEADER_SIZE = 64;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SEGMENT_SIZE_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+    private static final int END_OFFSET = 24;
+    private static final int SLOT_SIZE = 3 * Long.BYTES;
+    private static final int LEAST_SIGNIFICANT_BITS_OFFSET = Long.BYTES;
+    private static final int POSITION_OFFSET = 2 * Long.BYTES;
+    private static final int MAXIMUM_SLOTS_PER_CHUNK = 1 << 16;
+    private static final long GOLDEN_RATIO = 0x9E37_79B9_7F4A_7C15L;
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] chunks;
+    private final int capacity;
+    private final int hashShift;
+    private final int chunkShift;
+    private final int chunkMask;
+    private long count;
+
+    private CatalogIndex(FileChannel channel, MappedByteBuffer header) throws IOException {
+        this.header = header;
+        this.capacity = header.getInt(CAPACITY_OFFSET);
+        this.count = header.getLong(COUNT_OFFSET);
+        this.hashShift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+        int slotsPerChunk = Math.min(capacity, MAXIMUM_SLOTS_PER_CHUNK);
+        this.chunkShift = Integer.numberOfTrailingZeros(slotsPerChunk);
+        this.chunkMask = slotsPerChunk - 1;
+        this.chunks = new MappedByteBuffer[capacity / slotsPerChunk];
+        long chunkSize = (long) slotsPerChunk * SLOT_SIZE;
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            chunks[chunk] = channel.map(MapMode.READ_WRITE, HEADER_SIZE + chunk * chunkSize, chunkSize);
+        }
+    }
+
+    /**
+     * Maps an existing index, reading only its header.
+     */
+    /* default */ static CatalogIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException(format(NOT_AN_INDEX_ERROR, file));
+            }
+            MappedByteBuffer header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            if (header.getInt(0) != MAGIC || header.getInt(VERSION_OFFSET) != FORMAT_VERSION
+                || Integer.bitCount(capacity) != 1 || channel.size() < HEADER_SIZE + (long) capacity * SLOT_SIZE) {
+                throw new IOException(format(NOT_AN_INDEX_ERROR, file));
+            }
+            return new CatalogIndex(channel, header);
+        }
+    }
+
+    /**
+     * Creates an empty index, replacing any existing file.
+     */
+    /* default */ static CatalogIndex create(Path file, int segmentSize, int capacity, long end) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.putInt(0, MAGIC);
+            header.putInt(VERSION_OFFSET, FORMAT_VERSION);
+            header.putInt(SEGMENT_SIZE_OFFSET, segmentSize);
+            header.putInt(CAPACITY_OFFSET, capacity);
+            header.putLong(COUNT_OFFSET, 0);
+            header.putLong(END_OFFSET, end);
+            return new CatalogIndex(channel, header);
+        }
+    }
+
+    /* default */ int getSegmentSize() {
+        return header.getInt(SEGMENT_SIZE_OFFSET);
+    }
+
+    /* default */ long getEnd() {
+        return header.getLong(END_OFFSET);
+    }
+
+    /* default */ long getCount() {
+        return count;
+    }
+
+    /* default */ boolean isFull() {
+        return count >= capacity / 2;
+    }
+
+    /**
+     * Finds the slot of an identifier.
+     *
+     * @return the slot that holds the identifier, or the empty slot where it would be put.
+     */
+    /* default */ int find(long mostSignificantBits, long leastSignificantBits) {
+        int mask = capacity - 1;
+        long mixed = Long.rotateLeft(mostSignificantBits * GOLDEN_RATIO, Integer.SIZE) ^ leastSignificantBits;
+        int slot = (int) (mixed * GOLDEN_RATIO >>> hashShift);
+        while (!isEmpty(slot) && !holds(slot, mostSignificantBits, leastSignificantBits)) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    /* default */ long getPosition(int slot) {
+        return chunk(slot).getLong(offset(slot) + POSITION_OFFSET);
+    }
+
+    /**
+     * Puts an identifier in the empty slot returned by {@link #find(long, long)}. The header is not updated until
+     * {@link #commit(long)}.
+     */
+    /* default */ void put(int slot, long mostSignificantBits, long leastSignificantBits, long position) {
+        MappedByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        chunk.putLong(offset, mostSignificantBits);
+        chunk.putLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET, leastSignificantBits);
+        chunk.putLong(offset + POSITION_OFFSET, position);
+        count++;
+    }
+
+    /**
+     * Writes the end of the data and the number of entries to the header, together and after the slots they cover, so
+     * that the header never counts an entry whose slot has not been written.
+     *
+     * @param end the end position of the segments.
+     */
+    /* default */ void commit(long end) {
+        header.putLong(END_OFFSET, end);
+        header.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Copies the entries into a new index with twice the capacity, which then replaces the file of this index.
+     *
+     * @param file the file of this index.
+     * @return the new index.
+     */
+    /* default */ CatalogIndex grow(Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + TEMPORARY_SUFFIX);
+        CatalogIndex grown = create(temporary, getSegmentSize(), 2 * capacity, getEnd());
+        for (int slot = 0; slot < capacity; slot++) {
+            if (!isEmpty(slot)) {
+                MappedByteBuffer chunk = chunk(slot);
+                int offset = offset(slot);
+                long mostSignificantBits = chunk.getLong(offset);
+                long leastSignificantBits = chunk.getLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET);
+                grown.put(grown.find(mostSignificantBits, leastSignificantBits), mostSignificantBits,
+                          leastSignificantBits, getPosition(slot));
+            }
+        }
+        grown.commit(getEnd());
+        grown.force();
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return grown;
+    }
+
+    /* default */ void force() {
+        for (MappedByteBuffer chunk : chunks) {
+            chunk.force();
+        }
+        header.force();
+    }
+
+    private boolean isEmpty(int slot) {
+        return getPosition(slot) == EMPTY;
+    }
+
+    private boolean holds(int slot, long mostSignificantBits, long leastSignificantBits) {
+        MappedByteBuffer chunk = chunk(slot);
+        int offset = offset(slot);
+        return chunk.getLong(offset) == mostSignificantBits
+               && chunk.getLong(offset + LEAST_SIGNIFICANT_BITS_OFFSET) == leastSignificantBits;
+    }
+
+    private MappedByteBuffer chunk(int slot) {
+        return chunks[slot >>> chunkShift];
+    }
+
+    private int offset(int slot) {
+        return (slot & chunkMask) * SLOT_SIZE;
+    }
+}
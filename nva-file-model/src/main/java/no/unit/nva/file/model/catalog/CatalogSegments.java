@@ -0,0 +1,182 @@
+package no.unit.nva.file.model.catalog;
+
+import static java.lang.String.format;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The data files of a catalog: a sequence of segment files of the same size, each mapped into memory in full. A segment
+ * starts with a header and holds records back to back, each as its length followed by its bytes. A record never spans
+ * two segments. When it does not fit in the rest of the current segment, a zero length is written in its place and the
+ * record is written at the start of the next segment.
+ *
+ * <p>The position of a record is its segment number in the upper 32 bits and its offset in the segment in the lower 32
+ * bits, so positions grow in the order the records were appended, and no record is at position 0.
+ */
+final class CatalogSegments {
+
+    /* default */ static final int MAGIC = 0x4E464353;
+    /* default */ static final int FORMAT_VERSION = 1;
+    /* default */ static final int HEADER_SIZE = 8;
+    /* default */ static final int LENGTH_SIZE = Integer.BYTES;
+    /* default */ static final long FIRST_POSITION = HEADER_SIZE;
+    /* default */ static final String NOT_A_SEGMENT_ERROR = "Not a catalog segment: %s";
+    /* default */ static final String RECORD_TOO_LARGE_ERROR = "A record of %d bytes does not fit in a segment";
+    private static final String SEGMENT_FILE_NAME = "segment-%05d.dat";
+    private static final int VERSION_OFFSET = Integer.BYTES;
+    private static final int OFFSET_BITS = Integer.SIZE;
+    private static final long OFFSET_MASK = 0xFFFF_FFFFL;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private long end;
+
+    private CatalogSegments(Path directory, int segmentSize, long end) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.end = end;
+    }
+
+    /**
+     * Maps the segments of a catalog up to the segment that contains the end position, creating the first segment if it
+     * does not exist. Only the header of each segment is read.
+     */
+    /* default */ static CatalogSegments open(Path directory, int segmentSize, long end) throws IOException {
+        CatalogSegments catalogSegments = new CatalogSegments(directory, segmentSize, end);
+        int lastSegment = segmentOf(end);
+        for (int segment = 0; segment <= lastSegment; segment++) {
+            catalogSegments.segments.add(catalogSegments.mapExisting(segment));
+        }
+        return catalogSegments;
+    }
+
+    /* default */ static CatalogSegments create(Path directory, int segmentSize) throws IOException {
+        CatalogSegments catalogSegments = new CatalogSegments(directory, segmentSize, FIRST_POSITION);
+        catalogSegments.segments.add(catalogSegments.mapNew(0));
+        return catalogSegments;
+    }
+
+    /* default */ static int maximumRecordSize(int segmentSize) {
+        return segmentSize - HEADER_SIZE - LENGTH_SIZE;
+    }
+
+    /* default */ long getEnd() {
+        return end;
+    }
+
+    /**
+     * Writes a record after the last record.
+     *
+     * @return the position of the record.
+     */
+    /* default */ long append(byte[] record) throws IOException {
+        if (record.length > maximumRecordSize(segmentSize)) {
+            throw new IllegalArgumentException(format(RECORD_TOO_LARGE_ERROR, record.length));
+        }
+        int segment = segmentOf(end);
+        int offset = offsetOf(end);
+        int required = LENGTH_SIZE + record.length;
+        if (required > segmentSize - offset) {
+            if (LENGTH_SIZE <= segmentSize - offset) {
+                segments.get(segment).putInt(offset, 0);
+            }
+            segment++;
+            segments.add(mapNew(segment));
+            offset = HEADER_SIZE;
+        }
+        ByteBuffer buffer = segments.get(segment).duplicate();
+        buffer.putInt(offset, record.length);
+        buffer.position(offset + LENGTH_SIZE);
+        buffer.put(record);
+        end = position(segment, offset + required);
+        return position(segment, offset);
+    }
+
+    /* default */ byte[] read(long position) {
+        ByteBuffer buffer = segments.get(segmentOf(position)).duplicate();
+        int offset = offsetOf(position);
+        byte[] record = new byte[buffer.getInt(offset)];
+        buffer.position(offset + LENGTH_SIZE);
+        buffer.get(record);
+        return record;
+    }
+
+    /**
+     * Returns the position of the first record, or the end position if there are no records.
+     */
+    /* default */ long first() {
+        return skipUnusedSpace(FIRST_POSITION);
+    }
+
+    /**
+     * Returns the position of the record after the record at a position, or the end position if it is the last record.
+     */
+    /* default */ long next(long position) {
+        int length = segments.get(segmentOf(position)).getInt(offsetOf(position));
+        return skipUnusedSpace(position + LENGTH_SIZE + length);
+    }
+
+    /* default */ void force() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    private long skipUnusedSpace(long position) {
+        if (position == end) {
+            return position;
+        }
+        int segment = segmentOf(position);
+        int offset = offsetOf(position);
+        if (LENGTH_SIZE > segmentSize - offset || segments.get(segment).getInt(offset) == 0) {
+            return position(segment + 1, HEADER_SIZE);
+        }
+        return position;
+    }
+
+    private MappedByteBuffer mapNew(int segment) throws IOException {
+        MappedByteBuffer buffer = map(segment, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(VERSION_OFFSET, FORMAT_VERSION);
+        return buffer;
+    }
+
+    private MappedByteBuffer mapExisting(int segment) throws IOException {
+        MappedByteBuffer buffer = map(segment, StandardOpenOption.READ);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(VERSION_OFFSET) != FORMAT_VERSION) {
+            throw new IOException(format(NOT_A_SEGMENT_ERROR, segmentFile(segment)));
+        }
+        return buffer;
+    }
+
+    private MappedByteBuffer map(int segment, StandardOpenOption option) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentFile(segment), StandardOpenOption.CREATE,
+                                                    StandardOpenOption.READ, StandardOpenOption.WRITE, option)) {
+            return channel.map(MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private Path segmentFile(int segment) {
+        return directory.resolve(format(SEGMENT_FILE_NAME, segment));
+    }
+
+    private static long position(int segment, int offset) {
+        return (long) segment << OFFSET_BITS | offset;
+    }
+
+    private static int segmentOf(long position) {
+        return (int) (position >>> OFFSET_BITS);
+    }
+
+    private static int offsetOf(long position) {
+        return (int) (position & OFFSET_MASK);
+    }
+}
@@ -0,0 +1,188 @@
+package no.unit.nva.file.model.catalog;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.binary.BinaryCodec;
+
+/**
+ * A file-backed store of {@link File} records for catalogs too large to keep on the heap. Files are encoded with
+ * {@link BinaryCodec} and appended to memory-mapped segment files in a directory, and an open-addressing index from the
+ * identifier bits to the position of each record is kept in a memory-mapped index file in the same directory. Neither
+ * the records nor the index are held on the heap: a lookup probes the mapped index and decodes a single record, and a
+ * scan decodes the records in the order they were appended.
+ *
+ * <p>Opening an existing catalog maps its files and reads only their headers, so it takes the same time whatever the
+ * number of records. An append writes the record and its index slot first, and then the end of the data and the
+ * number of records in the index header, so a catalog whose process ended without closing it is opened as it was after
+ * the last completed append. Data is written to disk by the operating system; {@link #flush()} forces it.
+ *
+ * <p>A catalog is not thread-safe. Lookups and scans may run concurrently with each other, but not with an append.
+ * Mapped memory is released when the catalog is garbage collected, not when it is closed.
+ */
+public final class FileCatalog implements Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    public static final int MINIMUM_SEGMENT_SIZE = 4 * 1024;
+    public static final String INDEX_FILE_NAME = "catalog.idx";
+    public static final String INVALID_SEGMENT_SIZE_ERROR = "The segment size must be at least %d bytes";
+    public static final String MISSING_IDENTIFIER_ERROR = "A file without an identifier cannot be added to a catalog";
+    public static final String DUPLICATE_IDENTIFIER_ERROR = "The catalog already contains a file with identifier %s";
+
+    private final Path indexFile;
+    private final CatalogSegments segments;
+    private CatalogIndex index;
+
+    private FileCatalog(Path indexFile, CatalogSegments segments, CatalogIndex index) {
+        this.indexFile = indexFile;
+        this.segments = segments;
+        this.index = index;
+    }
+
+    /**
+     * Opens the catalog in a directory, or creates it with segments of the default size.
+     *
+     * @param directory the directory of the catalog.
+     * @return the catalog.
+     * @throws IOException if the directory contains files that are not those of a catalog, or cannot be written.
+     */
+    public static FileCatalog open(Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the catalog in a directory, or creates it.
+     *
+     * @param directory   the directory of the catalog, which is created if it does not exist.
+     * @param segmentSize the size of the segment files of a new catalog. An existing catalog keeps the size it was
+     *                    created with.
+     * @return the catalog.
+     * @throws IOException if the directory contains files that are not those of a catalog, or cannot be written.
+     */
+    public static FileCatalog open(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MINIMUM_SEGMENT_SIZE) {
+            throw new IllegalArgumentException(format(INVALID_SEGMENT_SIZE_ERROR, MINIMUM_SEGMENT_SIZE));
+        }
+        Files.createDirectories(directory);
+        Path indexFile = directory.resolve(INDEX_FILE_NAME);
+        if (Files.exists(indexFile)) {
+            CatalogIndex index = CatalogIndex.open(indexFile);
+            CatalogSegments segments = CatalogSegments.open(directory, index.getSegmentSize(), index.getEnd());
+            return new FileCatalog(indexFile, segments, index);
+        }
+        CatalogSegments segments = CatalogSegments.create(directory, segmentSize);
+        CatalogIndex index = CatalogIndex.create(indexFile, segmentSize, CatalogIndex.INITIAL_CAPACITY,
+                                                 segments.getEnd());
+        return new FileCatalog(indexFile, segments, index);
+    }
+
+    /**
+     * Appends a file to the catalog.
+     *
+     * @param file the file, which must have an identifier that is not already in the catalog.
+     * @throws IOException if a new segment or a larger index cannot be created.
+     */
+    public void append(File file) throws IOException {
+        UUID identifier = file.getIdentifier();
+        if (isNull(identifier)) {
+            throw new IllegalArgumentException(MISSING_IDENTIFIER_ERROR);
+        }
+        if (index.isFull()) {
+            index = index.grow(indexFile);
+        }
+        long mostSignificantBits = identifier.getMostSignificantBits();
+        long leastSignificantBits = identifier.getLeastSignificantBits();
+        int slot = index.find(mostSignificantBits, leastSignificantBits);
+        if (index.getPosition(slot) != CatalogIndex.EMPTY) {
+            throw new IllegalArgumentException(format(DUPLICATE_IDENTIFIER_ERROR, identifier));
+        }
+        long position = segments.append(BinaryCodec.encode(file));
+        index.put(slot, mostSignificantBits, leastSignificantBits, position);
+        index.commit(segments.getEnd());
+    }
+
+    /**
+     * Looks up a file by its identifier, decoding only that file.
+     *
+     * @param identifier the identifier of the file.
+     * @return the file, or empty if the catalog contains no file with the identifier.
+     */
+    public Optional<File> getFile(UUID identifier) {
+        long position = positionOf(identifier);
+        return position == CatalogIndex.EMPTY ? Optional.empty() : Optional.of(decode(position));
+    }
+
+    public boolean containsFile(UUID identifier) {
+        return positionOf(identifier) != CatalogIndex.EMPTY;
+    }
+
+    public long size() {
+        return index.getCount();
+    }
+
+    /**
+     * Returns the files in the order they were appended, decoding each file as it is pulled from the stream.
+     *
+     * @return a sequential stream of the files.
+     */
+    public Stream<File> stream() {
+        Spliterator<File> spliterator = Spliterators.spliterator(new RecordIterator(), size(),
+                                                                 Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    /**
+     * Forces the records and the index to be written to disk.
+     */
+    public void flush() {
+        segments.force();
+        index.force();
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private long positionOf(UUID identifier) {
+        int slot = index.find(identifier.getMostSignificantBits(), identifier.getLeastSignificantBits());
+        return index.getPosition(slot);
+    }
+
+    private File decode(long position) {
+        return BinaryCodec.decodeFile(segments.read(position));
+    }
+
+    private final class RecordIterator implements Iterator<File> {
+
+        private final long end = segments.getEnd();
+        private long position = segments.first();
+
+        @Override
+        public boolean hasNext() {
+            return position != end;
+        }
+
+        @Override
+        public File next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            File file = decode(position);
+            position = segments.next(position);
+            return file;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package no.unit.nva.file.model.diff;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Objects;
+import java.util.function.Function;
+import no.unit.nva.file.model.File;
+
+/**
+ * The fields of a {@link File} that can be changed by a {@link FilePatch}. The identifier is not among them, since it
+ * is what a patch uses to find the file.
+ */
+public enum FileField {
+    @JsonProperty("type")
+    TYPE(File::getType),
+    @JsonProperty("name")
+    NAME(File::getName),
+    @JsonProperty("mimeType")
+    MIME_TYPE(File::getMimeType),
+    @JsonProperty("size")
+    SIZE(File::getSize),
+    @JsonProperty("license")
+    LICENSE(File::getLicense),
+    @JsonProperty("administrativeAgreement")
+    ADMINISTRATIVE_AGREEMENT(File::isAdministrativeAgreement),
+    @JsonProperty("publisherAuthority")
+    PUBLISHER_AUTHORITY(File::isPublisherAuthority),
+    @JsonProperty("embargoDate")
+    EMBARGO_DATE(file -> file.getEmbargoDate().orElse(null));
+
+    private final Function<File, Object> accessor;
+
+    FileField(Function<File, Object> accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * Compares the field of two files.
+     *
+     * @param before the file before the change.
+     * @param after  the file after the change.
+     * @return true if the field has different values in the two files.
+     */
+    public boolean differs(File before, File after) {
+        return !Objects.equals(accessor.apply(before), accessor.apply(after));
+    }
+}
@@ -0,0 +1,232 @@
+package no.unit.nva.file.model.diff;
+
+import static java.util.Objects.isNull;
+import static no.unit.nva.file.model.diff.FileField.ADMINISTRATIVE_AGREEMENT;
+import static no.unit.nva.file.model.diff.FileField.EMBARGO_DATE;
+import static no.unit.nva.file.model.diff.FileField.LICENSE;
+import static no.unit.nva.file.model.diff.FileField.MIME_TYPE;
+import static no.unit.nva.file.model.diff.FileField.NAME;
+import static no.unit.nva.file.model.diff.FileField.PUBLISHER_AUTHORITY;
+import static no.unit.nva.file.model.diff.FileField.SIZE;
+import static no.unit.nva.file.model.diff.FileField.TYPE;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+import no.unit.nva.file.model.LicensePool;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * The changes of a single file, keyed by the file identifier. Only the fields listed in {@link #getChangedFields()}
+ * are part of the patch and the values of all other fields are left out of the JSON representation. A changed field
+ * without a value, e.g. a lifted embargo, means that the field is cleared.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({FilePatch.IDENTIFIER, FilePatch.CHANGED_FIELDS})
+public class FilePatch {
+
+    public static final String IDENTIFIER = "identifier";
+    public static final String CHANGED_FIELDS = "changedFields";
+    public static final String DIFFERENT_FILE_ERROR = "The patch cannot be applied to a file with identifier: ";
+
+    private final UUID identifier;
+    private final Set<FileField> changedFields;
+    private final FileType type;
+    private final String name;
+    private final String mimeType;
+    private final Long size;
+    private final License license;
+    private final Boolean administrativeAgreement;
+    private final Boolean publisherAuthority;
+    private final Instant embargoDate;
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private FilePatch(UUID identifier, Set<FileField> changedFields, FileType type, String name, String mimeType,
+                      Long size, License license, Boolean administrativeAgreement, Boolean publisherAuthority,
+                      Instant embargoDate) {
+        this.identifier = identifier;
+        this.changedFields = changedFields;
+        this.type = valueOf(TYPE, type);
+        this.name = valueOf(NAME, name);
+        this.mimeType = valueOf(MIME_TYPE, mimeType);
+        this.size = valueOf(SIZE, size);
+        this.license = valueOf(LICENSE, license);
+        this.administrativeAgreement = valueOf(ADMINISTRATIVE_AGREEMENT, administrativeAgreement);
+        this.publisherAuthority = valueOf(PUBLISHER_AUTHORITY, publisherAuthority);
+        this.embargoDate = valueOf(EMBARGO_DATE, embargoDate);
+    }
+
+    /**
+     * Creates a patch from its JSON representation. Licenses are shared through the {@link LicensePool}, like the
+     * licenses of files read from JSON.
+     *
+     * @return the patch.
+     */
+    @JsonCreator
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public static FilePatch fromJson(@JsonProperty(IDENTIFIER) UUID identifier,
+                                     @JsonProperty(CHANGED_FIELDS) Collection<FileField> changedFields,
+                                     @JsonProperty("type") FileType type,
+                                     @JsonProperty("name") String name,
+                                     @JsonProperty("mimeType") String mimeType,
+                                     @JsonProperty("size") Long size,
+                                     @JsonProperty("license") License license,
+                                     @JsonProperty("administrativeAgreement") Boolean administrativeAgreement,
+                                     @JsonProperty("publisherAuthority") Boolean publisherAuthority,
+                                     @JsonProperty("embargoDate") Instant embargoDate) {
+        return new FilePatch(identifier, toEnumSet(changedFields), type, name, mimeType, size,
+                             LicensePool.getDefault().intern(license), administrativeAgreement, publisherAuthority,
+                             embargoDate);
+    }
+
+    /**
+     * Computes the changes between two versions of a file.
+     *
+     * @param before the file before the change.
+     * @param after  the file after the change, with the same identifier.
+     * @return a patch that turns {@code before} into {@code after}.
+     */
+    public static FilePatch between(File before, File after) {
+        Set<FileField> changedFields = EnumSet.noneOf(FileField.class);
+        for (FileField field : FileField.values()) {
+            if (field.differs(before, after)) {
+                changedFields.add(field);
+            }
+        }
+        return new FilePatch(after.getIdentifier(), changedFields, after.getType(), after.getName(),
+                             after.getMimeType(), after.getSize(), after.getLicense(),
+                             after.isAdministrativeAgreement(), after.isPublisherAuthority(),
+                             after.getEmbargoDate().orElse(null));
+    }
+
+    private static Set<FileField> toEnumSet(Collection<FileField> changedFields) {
+        return isNull(changedFields) || changedFields.isEmpty()
+                   ? EnumSet.noneOf(FileField.class)
+                   : EnumSet.copyOf(changedFields);
+    }
+
+    /**
+     * Applies the changes to a file.
+     *
+     * @param file the file to change, which must have the identifier of the patch.
+     * @return a new file with the changed fields replaced.
+     */
+    public File applyTo(File file) {
+        if (!Objects.equals(identifier, file.getIdentifier())) {
+            throw new IllegalArgumentException(DIFFERENT_FILE_ERROR + file.getIdentifier());
+        }
+        File.Builder builder = file.copy();
+        if (changedFields.contains(TYPE)) {
+            builder.withType(type);
+        }
+        if (changedFields.contains(NAME)) {
+            builder.withName(name);
+        }
+        if (changedFields.contains(MIME_TYPE)) {
+            builder.withMimeType(mimeType);
+        }
+        if (changedFields.contains(SIZE)) {
+            builder.withSize(size);
+        }
+        if (changedFields.contains(LICENSE)) {
+            builder.withLicense(license);
+        }
+        return applyFlagsAndDates(builder).build();
+    }
+
+    private File.Builder applyFlagsAndDates(File.Builder builder) {
+        if (changedFields.contains(ADMINISTRATIVE_AGREEMENT)) {
+            builder.withAdministrativeAgreement(Boolean.TRUE.equals(administrativeAgreement));
+        }
+        if (changedFields.contains(PUBLISHER_AUTHORITY)) {
+            builder.withPublisherAuthority(Boolean.TRUE.equals(publisherAuthority));
+        }
+        if (changedFields.contains(EMBARGO_DATE)) {
+            builder.withEmbargoDate(embargoDate);
+        }
+        return builder;
+    }
+
+    private <T> T valueOf(FileField field, T value) {
+        return changedFields.contains(field) ? value : null;
+    }
+
+    public UUID getIdentifier() {
+        return identifier;
+    }
+
+    public Set<FileField> getChangedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    public FileType getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    public Long getSize() {
+        return size;
+    }
+
+    public License getLicense() {
+        return license;
+    }
+
+    public Boolean getAdministrativeAgreement() {
+        return administrativeAgreement;
+    }
+
+    public Boolean getPublisherAuthority() {
+        return publisherAuthority;
+    }
+
+    public Instant getEmbargoDate() {
+        return embargoDate;
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FilePatch)) {
+            return false;
+        }
+        FilePatch that = (FilePatch) o;
+        return Objects.equals(identifier, that.identifier)
+               && Objects.equals(changedFields, that.changedFields)
+               && Objects.equals(type, that.type)
+               && Objects.equals(name, that.name)
+               && Objects.equals(mimeType, that.mimeType)
+               && Objects.equals(size, that.size)
+               && Objects.equals(license, that.license)
+               && Objects.equals(administrativeAgreement, that.administrativeAgreement)
+               && Objects.equals(publisherAuthority, that.publisherAuthority)
+               && Objects.equals(embargoDate, that.embargoDate);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Objects.hash(identifier, changedFields, type, name, mimeType, size, license, administrativeAgreement,
+                            publisherAuthority, embargoDate);
+    }
+}
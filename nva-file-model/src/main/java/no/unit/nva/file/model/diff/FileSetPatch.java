@@ -0,0 +1,235 @@
+package no.unit.nva.file.model.diff;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * The difference between two versions of a {@link FileSet}, keyed by the file identifiers. A patch lists the files
+ * that were added, the identifiers of the files that were removed and the field-level changes of the files that were
+ * modified, so that persistence and downstream consumers can process only what changed.
+ *
+ * <p>Applying a patch keeps the remaining files in place and appends the added files. If the new version orders its
+ * files differently, the patch also carries the complete order of the file identifiers.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+@JsonPropertyOrder({FileSetPatch.ADDED, FileSetPatch.REMOVED, FileSetPatch.MODIFIED, FileSetPatch.ORDER})
+public class FileSetPatch {
+
+    public static final String ADDED = "added";
+    public static final String REMOVED = "removed";
+    public static final String MODIFIED = "modified";
+    public static final String ORDER = "order";
+    public static final String UNKNOWN_FILE_ERROR = "The FileSet does not contain a file with identifier: ";
+    public static final String INVALID_ORDER_ERROR = "The order of the patch does not match the files of the FileSet";
+
+    private final List<File> added;
+    private final List<UUID> removed;
+    private final List<FilePatch> modified;
+    private final List<UUID> order;
+
+    /**
+     * Creates a patch.
+     *
+     * @param added    the files that were added.
+     * @param removed  the identifiers of the files that were removed.
+     * @param modified the changes of the files that were modified.
+     * @param order    the identifiers of all files in their new order, or empty if the order follows from applying
+     *                 the patch.
+     */
+    @JsonCreator
+    public FileSetPatch(@JsonProperty(ADDED) List<File> added,
+                        @JsonProperty(REMOVED) List<UUID> removed,
+                        @JsonProperty(MODIFIED) List<FilePatch> modified,
+                        @JsonProperty(ORDER) List<UUID> order) {
+        this.added = copyOf(added);
+        this.removed = copyOf(removed);
+        this.modified = copyOf(modified);
+        this.order = copyOf(order);
+    }
+
+    /**
+     * Computes the difference between two versions of a FileSet in time linear in the number of files.
+     *
+     * @param before the FileSet before the change.
+     * @param after  the FileSet after the change.
+     * @return a patch that turns {@code before} into {@code after}.
+     */
+    public static FileSetPatch between(FileSet before, FileSet after) {
+        List<File> added = new ArrayList<>();
+        List<FilePatch> modified = new ArrayList<>();
+        for (File file : after.getFiles()) {
+            int position = before.indexOf(file.getIdentifier());
+            if (position == FileSet.NOT_FOUND) {
+                added.add(file);
+            } else {
+                File previous = before.getFiles().get(position);
+                if (!previous.equals(file)) {
+                    modified.add(FilePatch.between(previous, file));
+                }
+            }
+        }
+        List<UUID> removed = new ArrayList<>();
+        for (File file : before.getFiles()) {
+            if (!after.containsFile(file.getIdentifier())) {
+                removed.add(file.getIdentifier());
+            }
+        }
+        List<UUID> order = keepsOrder(before, after) ? Collections.emptyList() : identifiers(after);
+        return new FileSetPatch(added, removed, modified, order);
+    }
+
+    private static <T> List<T> copyOf(List<T> values) {
+        return isNull(values) || values.isEmpty()
+                   ? Collections.emptyList()
+                   : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    /**
+     * Checks whether applying the patch yields the files in the order of {@code after}, i.e. whether the files that
+     * are kept appear first and in their original order. The added files are listed in the order of {@code after} and
+     * fill the remaining positions.
+     */
+    private static boolean keepsOrder(FileSet before, FileSet after) {
+        List<File> afterFiles = after.getFiles();
+        int position = 0;
+        for (File file : before.getFiles()) {
+            UUID identifier = file.getIdentifier();
+            if (after.containsFile(identifier)) {
+                if (!Objects.equals(identifier, afterFiles.get(position).getIdentifier())) {
+                    return false;
+                }
+                position++;
+            }
+        }
+        return true;
+    }
+
+    private static List<UUID> identifiers(FileSet fileSet) {
+        List<UUID> identifiers = new ArrayList<>(fileSet.getFiles().size());
+        for (File file : fileSet.getFiles()) {
+            identifiers.add(file.getIdentifier());
+        }
+        return identifiers;
+    }
+
+    /**
+     * Applies the patch to a FileSet.
+     *
+     * @param fileSet the FileSet to change.
+     * @return a new FileSet with the changes applied.
+     * @throws IllegalArgumentException if the patch removes or modifies a file that is not in the FileSet, adds a file
+     *                                  that is already in it, or has an order that does not match the files.
+     */
+    public FileSet applyTo(FileSet fileSet) {
+        Set<UUID> removedIdentifiers = new HashSet<>(removed);
+        Map<UUID, FilePatch> patches = new HashMap<>();
+        for (FilePatch patch : modified) {
+            patches.put(patch.getIdentifier(), patch);
+        }
+        assertContainsAll(fileSet, removedIdentifiers);
+        assertContainsAll(fileSet, patches.keySet());
+
+        List<File> files = new ArrayList<>(fileSet.getFiles().size() + added.size());
+        for (File file : fileSet.getFiles()) {
+            if (!removedIdentifiers.contains(file.getIdentifier())) {
+                FilePatch patch = patches.get(file.getIdentifier());
+                files.add(isNull(patch) ? file : patch.applyTo(file));
+            }
+        }
+        files.addAll(added);
+        FileSet patched = new FileSet(files);
+        return order.isEmpty() ? patched : reorder(patched);
+    }
+
+    private static void assertContainsAll(FileSet fileSet, Set<UUID> identifiers) {
+        for (UUID identifier : identifiers) {
+            if (!fileSet.containsFile(identifier)) {
+                throw new IllegalArgumentException(UNKNOWN_FILE_ERROR + identifier);
+            }
+        }
+    }
+
+    private FileSet reorder(FileSet fileSet) {
+        List<File> files = fileSet.getFiles();
+        if (order.size() != files.size()) {
+            throw new IllegalArgumentException(INVALID_ORDER_ERROR);
+        }
+        BitSet placed = new BitSet(files.size());
+        List<File> reordered = new ArrayList<>(files.size());
+        for (UUID identifier : order) {
+            int position = fileSet.indexOf(identifier);
+            if (position == FileSet.NOT_FOUND || placed.get(position)) {
+                throw new IllegalArgumentException(INVALID_ORDER_ERROR);
+            }
+            placed.set(position);
+            reordered.add(files.get(position));
+        }
+        return new FileSet(reordered);
+    }
+
+    @JsonProperty(ADDED)
+    public List<File> getAdded() {
+        return added;
+    }
+
+    @JsonProperty(REMOVED)
+    public List<UUID> getRemoved() {
+        return removed;
+    }
+
+    @JsonProperty(MODIFIED)
+    public List<FilePatch> getModified() {
+        return modified;
+    }
+
+    @JsonProperty(ORDER)
+    public List<UUID> getOrder() {
+        return order;
+    }
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && modified.isEmpty() && order.isEmpty();
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FileSetPatch)) {
+            return false;
+        }
+        FileSetPatch that = (FileSetPatch) o;
+        return Objects.equals(added, that.added)
+               && Objects.equals(removed, that.removed)
+               && Objects.equals(modified, that.modified)
+               && Objects.equals(order, that.order);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Objects.hash(added, removed, modified, order);
+    }
+}
@@ -0,0 +1,166 @@
+package no.unit.nva.file.model.duplicates;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * Finds file identifiers that occur in more than one {@link FileSet} of a corpus, e.g. the file sets of all
+ * publications, in two passes over the corpus:
+ *
+ * <ol>
+ *     <li>the identifiers of all files are added to an {@link IdentifierSketch}, which tells which identifiers may
+ *     occur more than once;</li>
+ *     <li>the corpus is read again, and the keys of the sets that contain a possible duplicate are recorded by this
+ *     detector, which confirms the duplicates exactly.</li>
+ * </ol>
+ *
+ * <p>Only possible duplicates are stored exactly, and at most a maximum number of them. If there are more, the
+ * remaining possible duplicates are counted but not confirmed, and the result is incomplete.
+ *
+ * <p>Both passes can run on shards of the corpus on different workers: the sketches of the first pass are merged with
+ * {@link IdentifierSketch#merge}, and every worker runs the second pass against the merged sketch with a detector of
+ * its own, which are combined with {@link #merge}. A detector is not thread-safe.
+ *
+ * @param <K> the type of the key of a set, e.g. the identifier of its publication.
+ */
+public final class DuplicateIdentifierDetector<K> {
+
+    public static final String INVALID_MAXIMUM_ERROR = "The maximum number of possible duplicates must be positive: %d";
+
+    private final IdentifierSketch sketch;
+    private final int maximumNumberOfSuspects;
+    private final Map<UUID, List<K>> suspects = new HashMap<>();
+    private long numberOfUnconfirmedOccurrences;
+
+    /**
+     * Creates a detector for the second pass.
+     *
+     * @param sketch                  the sketch of the whole corpus.
+     * @param maximumNumberOfSuspects the maximum number of possible duplicates to store.
+     */
+    public DuplicateIdentifierDetector(IdentifierSketch sketch, int maximumNumberOfSuspects) {
+        if (maximumNumberOfSuspects <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_MAXIMUM_ERROR, maximumNumberOfSuspects));
+        }
+        this.sketch = sketch;
+        this.maximumNumberOfSuspects = maximumNumberOfSuspects;
+    }
+
+    /**
+     * Runs both passes over a corpus that can be read twice.
+     *
+     * @param corpus                   supplies the sets of the corpus with their keys, once per pass.
+     * @param expectedNumberOfFiles    the number of files of the corpus.
+     * @param falsePositiveProbability the probability that an identifier that occurs once is stored as a possible
+     *                                 duplicate.
+     * @param maximumNumberOfSuspects  the maximum number of possible duplicates to store.
+     * @param <K>                      the type of the key of a set.
+     * @return the detector after the second pass.
+     */
+    public static <K> DuplicateIdentifierDetector<K> detect(Supplier<Stream<Map.Entry<K, FileSet>>> corpus,
+                                                            long expectedNumberOfFiles,
+                                                            double falsePositiveProbability,
+                                                            int maximumNumberOfSuspects) {
+        IdentifierSketch sketch = IdentifierSketch.create(expectedNumberOfFiles, falsePositiveProbability);
+        try (Stream<Map.Entry<K, FileSet>> fileSets = corpus.get()) {
+            fileSets.forEach(entry -> sketch.addAll(entry.getValue()));
+        }
+        DuplicateIdentifierDetector<K> detector = new DuplicateIdentifierDetector<>(sketch, maximumNumberOfSuspects);
+        try (Stream<Map.Entry<K, FileSet>> fileSets = corpus.get()) {
+            fileSets.forEach(entry -> detector.add(entry.getKey(), entry.getValue()));
+        }
+        return detector;
+    }
+
+    /**
+     * Records the key of a set for every file of the set whose identifier may be a duplicate.
+     *
+     * @param key     the key of the set.
+     * @param fileSet the set.
+     */
+    public void add(K key, FileSet fileSet) {
+        for (File file : fileSet.getFiles()) {
+            UUID identifier = file.getIdentifier();
+            if (nonNull(identifier) && sketch.mightBeDuplicate(identifier)) {
+                addOccurrence(identifier, List.of(key));
+            }
+        }
+    }
+
+    /**
+     * Adds the occurrences recorded by a detector for another shard of the corpus, which used the same sketch.
+     *
+     * @param other the other detector.
+     */
+    public void merge(DuplicateIdentifierDetector<K> other) {
+        other.suspects.forEach(this::addOccurrence);
+        numberOfUnconfirmedOccurrences += other.numberOfUnconfirmedOccurrences;
+    }
+
+    /**
+     * Returns the identifiers that occur in more than one set.
+     *
+     * @return the keys of the sets that contain each duplicate identifier, in the order they were added.
+     */
+    public Map<UUID, List<K>> getDuplicates() {
+        Map<UUID, List<K>> duplicates = new LinkedHashMap<>();
+        suspects.forEach((identifier, keys) -> {
+            if (keys.size() > 1) {
+                duplicates.put(identifier, Collections.unmodifiableList(keys));
+            }
+        });
+        return duplicates;
+    }
+
+    /**
+     * Returns the number of possible duplicates that are stored, including those that occur only once.
+     *
+     * @return the number of possible duplicates.
+     */
+    public int getNumberOfSuspects() {
+        return suspects.size();
+    }
+
+    /**
+     * Returns the number of occurrences of possible duplicates that were not recorded because the maximum number of
+     * possible duplicates was stored already.
+     *
+     * @return the number of occurrences that were not confirmed.
+     */
+    public long getNumberOfUnconfirmedOccurrences() {
+        return numberOfUnconfirmedOccurrences;
+    }
+
+    /**
+     * Tells whether all possible duplicates have been confirmed or ruled out.
+     *
+     * @return false if the maximum number of possible duplicates was too low, so some duplicates may be missing.
+     */
+    public boolean isComplete() {
+        return numberOfUnconfirmedOccurrences == 0;
+    }
+
+    private void addOccurrence(UUID identifier, List<K> keys) {
+        List<K> occurrences = suspects.get(identifier);
+        if (isNull(occurrences)) {
+            if (suspects.size() >= maximumNumberOfSuspects) {
+                numberOfUnconfirmedOccurrences += keys.size();
+                return;
+            }
+            occurrences = new ArrayList<>(keys.size());
+            suspects.put(identifier, occurrences);
+        }
+        occurrences.addAll(keys);
+    }
+}
@@ -0,0 +1,243 @@
+package no.unit.nva.file.model.duplicates;
+
+import static java.util.Objects.nonNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * A probabilistic sketch of the file identifiers in a corpus that tells which identifiers may occur more than once. It
+ * is a partitioned Bloom filter with two bits per position: one set by every identifier that is added, and one set by
+ * identifiers whose positions were all set already when they were added. An identifier that occurs more than once is
+ * always reported as a possible duplicate; an identifier that occurs once is reported with a probability close to the
+ * configured false positive probability.
+ *
+ * <p>Sketches with the same dimensions can be merged, so that shards of a corpus can be sketched on different workers
+ * and combined, and {@link #toByteArray()} serializes a sketch to send it between them. An identifier that occurs once
+ * in each of two merged sketches is a possible duplicate of the merged sketch.
+ *
+ * <p>A sketch is not thread-safe.
+ */
+public final class IdentifierSketch {
+
+    public static final String INVALID_EXPECTED_NUMBER_ERROR =
+        "The expected number of identifiers must be positive: %d";
+    public static final String INVALID_PROBABILITY_ERROR =
+        "The false positive probability must be between 0 and 1, exclusive: %s";
+    public static final String INCOMPATIBLE_SKETCH_ERROR = "Only sketches with the same dimensions can be merged";
+    public static final String INVALID_SKETCH_ERROR = "The bytes are not a serialized identifier sketch";
+    private static final int MAGIC = 0x4E464953;
+    private static final int HEADER_LENGTH = 3 * Integer.BYTES;
+    private static final int MAXIMUM_NUMBER_OF_PARTITIONS = 64;
+    private static final double LN_2 = Math.log(2);
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private final int numberOfPartitions;
+    private final int wordsPerPartition;
+    private final long bitsPerPartition;
+    private final long[] added;
+    private final long[] repeated;
+
+    private IdentifierSketch(int numberOfPartitions, int wordsPerPartition) {
+        this.numberOfPartitions = numberOfPartitions;
+        this.wordsPerPartition = wordsPerPartition;
+        this.bitsPerPartition = (long) wordsPerPartition * Long.SIZE;
+        this.added = new long[numberOfPartitions * wordsPerPartition];
+        this.repeated = new long[numberOfPartitions * wordsPerPartition];
+    }
+
+    /**
+     * Creates a sketch dimensioned like an optimal Bloom filter for a number of identifiers. It uses about
+     * {@code -2 * n * ln(p) / ln(2)^2} bits, e.g. 72 MB for 20 million identifiers with a probability of 0.1 %, half of
+     * it for each of its two bit arrays.
+     *
+     * @param expectedNumberOfIdentifiers the number of identifiers of the corpus.
+     * @param falsePositiveProbability    the probability that an identifier that occurs once is reported as a possible
+     *                                    duplicate, when the expected number of identifiers has been added.
+     * @return an empty sketch.
+     */
+    public static IdentifierSketch create(long expectedNumberOfIdentifiers, double falsePositiveProbability) {
+        if (expectedNumberOfIdentifiers <= 0) {
+            throw new IllegalArgumentException(
+                String.format(INVALID_EXPECTED_NUMBER_ERROR, expectedNumberOfIdentifiers));
+        }
+        if (!(falsePositiveProbability > 0 && falsePositiveProbability < 1)) {
+            throw new IllegalArgumentException(String.format(INVALID_PROBABILITY_ERROR, falsePositiveProbability));
+        }
+        double bits = -expectedNumberOfIdentifiers * Math.log(falsePositiveProbability) / (LN_2 * LN_2);
+        int numberOfPartitions = (int) Math.max(1, Math.min(MAXIMUM_NUMBER_OF_PARTITIONS,
+                                                            Math.round(bits / expectedNumberOfIdentifiers * LN_2)));
+        long words = (long) Math.ceil(bits / numberOfPartitions / Long.SIZE);
+        return new IdentifierSketch(numberOfPartitions, (int) Math.min(words, Integer.MAX_VALUE / numberOfPartitions));
+    }
+
+    /**
+     * Deserializes a sketch written by {@link #toByteArray()}.
+     *
+     * @param bytes the serialized sketch.
+     * @return the sketch.
+     * @throws IllegalArgumentException if the bytes are not a serialized sketch.
+     */
+    public static IdentifierSketch fromByteArray(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException(INVALID_SKETCH_ERROR);
+            }
+            int numberOfPartitions = buffer.getInt();
+            int wordsPerPartition = buffer.getInt();
+            if (numberOfPartitions <= 0 || numberOfPartitions > MAXIMUM_NUMBER_OF_PARTITIONS || wordsPerPartition <= 0
+                || bytes.length != HEADER_LENGTH + 2L * numberOfPartitions * wordsPerPartition * Long.BYTES) {
+                throw new IllegalArgumentException(INVALID_SKETCH_ERROR);
+            }
+            IdentifierSketch sketch = new IdentifierSketch(numberOfPartitions, wordsPerPartition);
+            buffer.asLongBuffer().get(sketch.added).get(sketch.repeated);
+            return sketch;
+        } catch (BufferUnderflowException exception) {
+            throw new IllegalArgumentException(INVALID_SKETCH_ERROR, exception);
+        }
+    }
+
+    /**
+     * Adds an identifier.
+     *
+     * @param identifier the identifier.
+     * @return true if the identifier may have been added before.
+     */
+    public boolean add(UUID identifier) {
+        long first = firstHash(identifier);
+        long second = secondHash(identifier);
+        boolean mayHaveBeenAdded = true;
+        for (int partition = 0; partition < numberOfPartitions; partition++) {
+            long position = position(partition, first, second);
+            mayHaveBeenAdded &= isSet(added, position);
+            set(added, position);
+        }
+        if (mayHaveBeenAdded) {
+            for (int partition = 0; partition < numberOfPartitions; partition++) {
+                set(repeated, position(partition, first, second));
+            }
+        }
+        return mayHaveBeenAdded;
+    }
+
+    /**
+     * Adds the identifiers of the files of a set. Files without an identifier are skipped.
+     *
+     * @param fileSet the set.
+     */
+    public void addAll(FileSet fileSet) {
+        for (File file : fileSet.getFiles()) {
+            if (nonNull(file.getIdentifier())) {
+                add(file.getIdentifier());
+            }
+        }
+    }
+
+    public boolean mightContain(UUID identifier) {
+        return allSet(added, identifier);
+    }
+
+    /**
+     * Tells whether an identifier may have been added more than once.
+     *
+     * @param identifier the identifier.
+     * @return false if the identifier has definitely been added at most once.
+     */
+    public boolean mightBeDuplicate(UUID identifier) {
+        return allSet(repeated, identifier);
+    }
+
+    /**
+     * Adds the identifiers of another sketch to this one.
+     *
+     * @param other a sketch created with the same expected number of identifiers and false positive probability.
+     * @throws IllegalArgumentException if the sketches have different dimensions.
+     */
+    public void merge(IdentifierSketch other) {
+        if (other.numberOfPartitions != numberOfPartitions || other.wordsPerPartition != wordsPerPartition) {
+            throw new IllegalArgumentException(INCOMPATIBLE_SKETCH_ERROR);
+        }
+        for (int word = 0; word < added.length; word++) {
+            repeated[word] |= other.repeated[word] | added[word] & other.added[word];
+            added[word] |= other.added[word];
+        }
+    }
+
+    /**
+     * Serializes the sketch, e.g. to merge it with the sketch of another shard on another worker.
+     *
+     * @return the serialized sketch.
+     */
+    public byte[] toByteArray() {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + 2 * added.length * Long.BYTES);
+        buffer.putInt(MAGIC).putInt(numberOfPartitions).putInt(wordsPerPartition);
+        buffer.asLongBuffer().put(added).put(repeated);
+        return buffer.array();
+    }
+
+    public int getNumberOfPartitions() {
+        return numberOfPartitions;
+    }
+
+    /**
+     * Returns the size of the sketch.
+     *
+     * @return the number of positions of the sketch, each of which has two bits.
+     */
+    public long getNumberOfPositions() {
+        return bitsPerPartition * numberOfPartitions;
+    }
+
+    private boolean allSet(long[] bits, UUID identifier) {
+        long first = firstHash(identifier);
+        long second = secondHash(identifier);
+        for (int partition = 0; partition < numberOfPartitions; partition++) {
+            if (!isSet(bits, position(partition, first, second))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the position of an identifier in a partition, derived from two hashes as {@code h1 + i * h2}.
+     */
+    private long position(int partition, long first, long second) {
+        return partition * bitsPerPartition + Math.floorMod(first + partition * second, bitsPerPartition);
+    }
+
+    private static boolean isSet(long[] bits, long position) {
+        return (bits[(int) (position >>> 6)] & 1L << position) != 0;
+    }
+
+    private static void set(long[] bits, long position) {
+        bits[(int) (position >>> 6)] |= 1L << position;
+    }
+
+    /**
+     * Mixes both halves of an identifier, since identifiers are not always random, e.g. in tests and benchmarks.
+     */
+    private static long firstHash(UUID identifier) {
+        return mix(identifier.getMostSignificantBits() ^ mix(identifier.getLeastSignificantBits()));
+    }
+
+    private static long secondHash(UUID identifier) {
+        return mix(identifier.getLeastSignificantBits() + GOLDEN * identifier.getMostSignificantBits()) | 1L;
+    }
+
+    /**
+     * The finalizer of MurmurHash3.
+     */
+    private static long mix(long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,40 @@
+package no.unit.nva.file.model.embargo;
+
+import java.time.Instant;
+import no.unit.nva.file.model.File;
+
+/**
+ * Signals that the embargo of a file has passed and that the file has become visible for users other than the owner.
+ *
+ * @param <K> the type of the key that identifies the owner of the file set, e.g. a publication identifier.
+ */
+public class EmbargoReleaseEvent<K> {
+
+    private final K owner;
+    private final File file;
+    private final Instant embargoDate;
+    private final long sequenceNumber;
+
+    /* default */ EmbargoReleaseEvent(K owner, File file, Instant embargoDate, long sequenceNumber) {
+        this.owner = owner;
+        this.file = file;
+        this.embargoDate = embargoDate;
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public K getOwner() {
+        return owner;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public Instant getEmbargoDate() {
+        return embargoDate;
+    }
+
+    /* default */ long getSequenceNumber() {
+        return sequenceNumber;
+    }
+}
@@ -0,0 +1,149 @@
+package no.unit.nva.file.model.embargo;
+
+import static java.util.Objects.nonNull;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * A time-ordered index of the embargo dates of registered file sets. The files of a set are indexed when the set is
+ * registered, and {@link #releaseUntil(Instant)} returns, as one batch, every file whose embargo has passed since the
+ * previous call. Registering and unregistering a file costs O(log n), where n is the number of pending releases, and
+ * {@link #nextRelease()} lets the caller schedule the next call without scanning.
+ *
+ * <p>Only files that will be visible once their embargo has passed are indexed; administrative agreements and
+ * unpublished files are not. Neither are files whose embargo has already passed when the set is registered, since they
+ * were visible before the registration, and releasing them would report them as having just become visible.
+ *
+ * @param <K> the type of the key that identifies the owner of a file set, e.g. a publication identifier.
+ */
+public class EmbargoScheduler<K> {
+
+    private static final Comparator<EmbargoReleaseEvent<?>> CHRONOLOGICAL_ORDER =
+        Comparator.<EmbargoReleaseEvent<?>, Instant>comparing(EmbargoReleaseEvent::getEmbargoDate)
+            .thenComparingLong(EmbargoReleaseEvent::getSequenceNumber);
+
+    private final NavigableSet<EmbargoReleaseEvent<K>> pendingReleases = new TreeSet<>(CHRONOLOGICAL_ORDER);
+    private final Map<K, Set<EmbargoReleaseEvent<K>>> pendingReleasesByOwner = new HashMap<>();
+    private final Object lock = new Object();
+    private long sequenceNumber;
+
+    /**
+     * Registers the embargoed files of a file set at the current time, replacing any previous registration for the same
+     * owner.
+     *
+     * @param owner   the key of the owner of the file set.
+     * @param fileSet the file set.
+     */
+    public void register(K owner, FileSet fileSet) {
+        register(owner, fileSet, Instant.now());
+    }
+
+    public void register(K owner, FileSet fileSet, Clock clock) {
+        register(owner, fileSet, clock.instant());
+    }
+
+    /**
+     * Registers the files of a file set that are still embargoed at a given point in time, replacing any previous
+     * registration for the same owner.
+     *
+     * @param owner   the key of the owner of the file set.
+     * @param fileSet the file set.
+     * @param now     the point in time of the registration.
+     */
+    public void register(K owner, FileSet fileSet, Instant now) {
+        synchronized (lock) {
+            removePendingReleases(owner);
+            Set<EmbargoReleaseEvent<K>> releases = new HashSet<>();
+            for (File file : fileSet.getFiles()) {
+                if (becomesVisibleWhenEmbargoEnds(file, now)) {
+                    var release = new EmbargoReleaseEvent<>(owner, file, file.getEmbargoDate().get(), sequenceNumber++);
+                    pendingReleases.add(release);
+                    releases.add(release);
+                }
+            }
+            if (!releases.isEmpty()) {
+                pendingReleasesByOwner.put(owner, releases);
+            }
+        }
+    }
+
+    /**
+     * Removes all pending releases of an owner.
+     *
+     * @param owner the key of the owner of the file set.
+     */
+    public void unregister(K owner) {
+        synchronized (lock) {
+            removePendingReleases(owner);
+        }
+    }
+
+    /**
+     * Returns the earliest embargo date of all pending releases.
+     *
+     * @return the next embargo date, or empty if there are no pending releases.
+     */
+    public Optional<Instant> nextRelease() {
+        synchronized (lock) {
+            return pendingReleases.isEmpty()
+                       ? Optional.empty()
+                       : Optional.of(pendingReleases.first().getEmbargoDate());
+        }
+    }
+
+    /**
+     * Removes and returns, in chronological order, every pending release whose embargo date is before the given
+     * instant, i.e. every file that is visible at that instant.
+     *
+     * @param now the current point in time.
+     * @return the files that have become visible, possibly empty.
+     */
+    public List<EmbargoReleaseEvent<K>> releaseUntil(Instant now) {
+        synchronized (lock) {
+            List<EmbargoReleaseEvent<K>> released = new ArrayList<>();
+            while (!pendingReleases.isEmpty() && now.isAfter(pendingReleases.first().getEmbargoDate())) {
+                var release = pendingReleases.pollFirst();
+                removeFromOwner(release);
+                released.add(release);
+            }
+            return released;
+        }
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return pendingReleases.size();
+        }
+    }
+
+    private static boolean becomesVisibleWhenEmbargoEnds(File file, Instant now) {
+        return file.isVisibleForNonOwner(Instant.MAX) && !file.isVisibleForNonOwner(now);
+    }
+
+    private void removePendingReleases(K owner) {
+        Set<EmbargoReleaseEvent<K>> releases = pendingReleasesByOwner.remove(owner);
+        if (nonNull(releases)) {
+            pendingReleases.removeAll(releases);
+        }
+    }
+
+    private void removeFromOwner(EmbargoReleaseEvent<K> release) {
+        Set<EmbargoReleaseEvent<K>> releases = pendingReleasesByOwner.get(release.getOwner());
+        releases.remove(release);
+        if (releases.isEmpty()) {
+            pendingReleasesByOwner.remove(release.getOwner());
+        }
+    }
+}
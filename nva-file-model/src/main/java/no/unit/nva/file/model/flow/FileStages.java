@@ -0,0 +1,131 @@
+package no.unit.nva.file.model.flow;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.License;
+import no.unit.nva.file.model.LicensePool;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * The steps of ingesting files, as functions for {@link Pipeline#map} and {@link Pipeline#filter}, e.g.
+ *
+ * <pre>{@code
+ * Pipeline.fromStream(lines, executor, 256)
+ *     .map(FileStages.decode(objectMapper))
+ *     .map(FileStages.validate())
+ *     .filter(FileStages.visibleForNonOwner(Instant.now()))
+ *     .map(FileStages.normalizeLicense())
+ *     .map(FileStages.encode(objectMapper))
+ *     .batch(25)
+ *     .forEach(storage::write);
+ * }</pre>
+ *
+ * <p>A stage that throws fails the pipeline, so invalid files stop the ingestion instead of being dropped. Filter with
+ * {@link File#isMissingLicense()} first to skip them instead.
+ */
+public final class FileStages {
+
+    @JacocoGenerated
+    private FileStages() {
+    }
+
+    /**
+     * Deserializes a file from JSON.
+     *
+     * @param objectMapper the mapper.
+     * @return a function that throws an {@link UncheckedIOException} if the JSON is not a file.
+     */
+    public static Function<byte[], File> decode(ObjectMapper objectMapper) {
+        ObjectReader reader = objectMapper.readerFor(File.class);
+        return json -> {
+            try {
+                return reader.readValue(json);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        };
+    }
+
+    /**
+     * Validates a file with {@link File#validate()}.
+     *
+     * @return a function that returns the file if it is valid.
+     */
+    public static UnaryOperator<File> validate() {
+        return file -> {
+            file.validate();
+            return file;
+        };
+    }
+
+    /**
+     * Keeps the files that are visible for users other than the owner. All files are evaluated against the same point
+     * in time, however long the pipeline runs.
+     *
+     * @param now the point in time to evaluate embargo dates against.
+     * @return a predicate for {@link Pipeline#filter}.
+     */
+    public static Predicate<File> visibleForNonOwner(Instant now) {
+        return file -> file.isVisibleForNonOwner(now);
+    }
+
+    /**
+     * Keeps the files that are visible for users other than the owner when they are processed.
+     *
+     * @param clock the clock to evaluate embargo dates against.
+     * @return a predicate for {@link Pipeline#filter}.
+     */
+    public static Predicate<File> visibleForNonOwner(Clock clock) {
+        return file -> file.isVisibleForNonOwner(clock);
+    }
+
+    /**
+     * Replaces the license of a file with the shared instance from the default {@link LicensePool}.
+     *
+     * @return a function that returns the file itself if its license is already shared or null.
+     */
+    public static UnaryOperator<File> normalizeLicense() {
+        return normalizeLicense(LicensePool.getDefault());
+    }
+
+    /**
+     * Replaces the license of a file with the shared instance from a pool. Files that are deserialized already refer to
+     * the default pool, but files that are built elsewhere refer to licenses of their own.
+     *
+     * @param licensePool the pool.
+     * @return a function that returns the file itself if its license is already shared or null.
+     */
+    public static UnaryOperator<File> normalizeLicense(LicensePool licensePool) {
+        return file -> {
+            License license = licensePool.intern(file.getLicense());
+            return license == file.getLicense() ? file : file.copy().withLicense(license).build();
+        };
+    }
+
+    /**
+     * Serializes a file to JSON.
+     *
+     * @param objectMapper the mapper.
+     * @return a function that returns the JSON encoded as UTF-8.
+     */
+    public static Function<File, byte[]> encode(ObjectMapper objectMapper) {
+        ObjectWriter writer = objectMapper.writerFor(File.class);
+        return file -> {
+            try {
+                return writer.writeValueAsBytes(file);
+            } catch (JsonProcessingException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package no.unit.nva.file.model.flow;
+
+import java.util.function.Consumer;
+
+/**
+ * The work done by a {@link Stage}. An operator is created per subscription and is only called by one thread at a
+ * time, so it may keep state without synchronization.
+ *
+ * @param <T> the type of the items it receives.
+ * @param <R> the type of the items it emits.
+ */
+interface Operator<T, R> {
+
+    void onNext(T item, Consumer<? super R> downstream);
+
+    /**
+     * Emits anything the operator holds back when there are no more items.
+     *
+     * @param downstream receives the remaining items.
+     */
+    default void onComplete(Consumer<? super R> downstream) {
+        // nothing is held back by default
+    }
+}
@@ -0,0 +1,244 @@
+package no.unit.nva.file.model.flow;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A chain of processing stages on top of a {@link Flow.Publisher}, for streaming many files through decoding,
+ * validation, filtering and encoding without collecting them in a list between the steps. See {@link FileStages} for
+ * the stages of the model.
+ *
+ * <p>Every stage has a bounded buffer and runs its items on the executor of the pipeline, so the stages overlap on
+ * different threads while the memory used stays flat. When a subscriber is slower than the stages before it, the
+ * buffers fill up and the source is asked for no more items than fit. Items keep their order.
+ *
+ * <p>A pipeline is immutable, and nothing happens before it is subscribed to. Every subscription creates its own
+ * stages, which are connected from the end, so no item is published before its subscriber is in place.
+ *
+ * <p>Stages block while the buffer downstream is full. The executor must therefore be able to run all stages at once,
+ * e.g. the common fork-join pool, which compensates for blocked threads, or an executor with one virtual thread per
+ * task on Java 21 and later.
+ *
+ * @param <T> the type of the items that are published.
+ */
+public final class Pipeline<T> implements Flow.Publisher<T> {
+
+    public static final String INVALID_BUFFER_CAPACITY_ERROR = "The buffer capacity must be positive: %d";
+    public static final String INVALID_BATCH_SIZE_ERROR = "The batch size must be positive: %d";
+
+    private final Flow.Publisher<T> publisher;
+    private final Executor executor;
+    private final int bufferCapacity;
+
+    private Pipeline(Flow.Publisher<T> publisher, Executor executor, int bufferCapacity) {
+        this.publisher = publisher;
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    /**
+     * Creates a pipeline that runs on the common fork-join pool with the default buffer size.
+     *
+     * @param source the publisher of the items.
+     * @param <T>    the type of the items.
+     * @return a pipeline that publishes the items of the source.
+     */
+    public static <T> Pipeline<T> from(Flow.Publisher<T> source) {
+        return from(source, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param source         the publisher of the items.
+     * @param executor       runs the stages of the pipeline.
+     * @param bufferCapacity the maximum number of items each stage holds for its subscriber, rounded up to a power of
+     *                       two.
+     * @param <T>            the type of the items.
+     * @return a pipeline that publishes the items of the source.
+     */
+    public static <T> Pipeline<T> from(Flow.Publisher<T> source, Executor executor, int bufferCapacity) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_BUFFER_CAPACITY_ERROR, bufferCapacity));
+        }
+        return new Pipeline<>(source, executor, bufferCapacity);
+    }
+
+    /**
+     * Creates a pipeline that publishes the items of a stream. The stream is read on the executor as fast as the
+     * subscriber consumes the items, and is closed when it is exhausted or the subscriber cancels. Since a stream can
+     * only be read once, the pipeline can only be subscribed to once.
+     *
+     * @param items          the items, e.g. the lines of an upload.
+     * @param executor       reads the stream and runs the stages of the pipeline.
+     * @param bufferCapacity the maximum number of items each stage holds for its subscriber.
+     * @param <T>            the type of the items.
+     * @return a pipeline that publishes the items of the stream.
+     */
+    public static <T> Pipeline<T> fromStream(Stream<? extends T> items, Executor executor, int bufferCapacity) {
+        Flow.Publisher<T> source = subscriber -> {
+            SubmissionPublisher<T> publisher = new SubmissionPublisher<>(executor, bufferCapacity);
+            publisher.subscribe(subscriber);
+            executor.execute(() -> publish(items, publisher));
+        };
+        return from(source, executor, bufferCapacity);
+    }
+
+    public <R> Pipeline<R> map(Function<? super T, ? extends R> function) {
+        return then(() -> (item, downstream) -> downstream.accept(function.apply(item)));
+    }
+
+    public Pipeline<T> filter(Predicate<? super T> predicate) {
+        return then(() -> (item, downstream) -> {
+            if (predicate.test(item)) {
+                downstream.accept(item);
+            }
+        });
+    }
+
+    /**
+     * Replaces every item with any number of items.
+     *
+     * @param function gives the items that replace an item.
+     * @param <R>      the type of the items that replace an item.
+     * @return a pipeline that publishes the replacing items in order.
+     */
+    public <R> Pipeline<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> function) {
+        return then(() -> (item, downstream) -> function.apply(item).forEach(downstream));
+    }
+
+    /**
+     * Groups consecutive items, e.g. to write them to storage in batches.
+     *
+     * @param batchSize the number of items in a batch.
+     * @return a pipeline that publishes lists of {@code batchSize} items, followed by a shorter list of the remaining
+     *     items, if any, when the source completes.
+     */
+    public Pipeline<List<T>> batch(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_BATCH_SIZE_ERROR, batchSize));
+        }
+        return then(() -> new Batcher<>(batchSize));
+    }
+
+    /**
+     * Subscribes to the pipeline with an action that is run for every item, one at a time.
+     *
+     * @param action the action.
+     * @return a future that completes when all items are processed, or completes exceptionally if a stage or the action
+     *     fails.
+     */
+    public CompletableFuture<Void> forEach(Consumer<? super T> action) {
+        ForEach<T> subscriber = new ForEach<>(action, bufferCapacity);
+        subscribe(subscriber);
+        return subscriber.completion;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    private <R> Pipeline<R> then(Supplier<Operator<T, R>> operator) {
+        Flow.Publisher<R> stages = subscriber -> {
+            Stage<T, R> stage = new Stage<>(operator.get(), executor, bufferCapacity);
+            stage.subscribe(subscriber);
+            publisher.subscribe(stage);
+        };
+        return new Pipeline<>(stages, executor, bufferCapacity);
+    }
+
+    private static <T> void publish(Stream<? extends T> items, SubmissionPublisher<T> publisher) {
+        try (items) {
+            Iterator<? extends T> iterator = items.iterator();
+            while (publisher.hasSubscribers() && iterator.hasNext()) {
+                publisher.submit(iterator.next());
+            }
+            publisher.close();
+        } catch (RuntimeException exception) {
+            publisher.closeExceptionally(exception);
+        }
+    }
+
+    private static final class Batcher<T> implements Operator<T, List<T>> {
+
+        private final int batchSize;
+        private List<T> batch;
+
+        /* default */ Batcher(int batchSize) {
+            this.batchSize = batchSize;
+            this.batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void onNext(T item, Consumer<? super List<T>> downstream) {
+            batch.add(item);
+            if (batch.size() == batchSize) {
+                downstream.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+
+        @Override
+        public void onComplete(Consumer<? super List<T>> downstream) {
+            if (!batch.isEmpty()) {
+                downstream.accept(batch);
+            }
+        }
+    }
+
+    private static final class ForEach<T> implements Flow.Subscriber<T> {
+
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final Consumer<? super T> action;
+        private final int bufferCapacity;
+        private Flow.Subscription subscription;
+
+        /* default */ ForEach(Consumer<? super T> action, int bufferCapacity) {
+            this.action = action;
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(bufferCapacity);
+        }
+
+        @Override
+        public void onNext(T item) {
+            if (completion.isDone()) {
+                return;
+            }
+            try {
+                action.accept(item);
+            } catch (RuntimeException exception) {
+                subscription.cancel();
+                completion.completeExceptionally(exception);
+                return;
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completion.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            completion.complete(null);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package no.unit.nva.file.model.flow;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * A step of a {@link Pipeline}. It requests as many items from upstream as its buffer can hold, and one more for every
+ * item it has passed on. Passing an item on blocks while the buffer of the subscriber downstream is full, so a slow
+ * subscriber slows down every stage before it instead of letting the buffers grow.
+ *
+ * <p>If the operator throws, the stage cancels its subscription and passes the exception downstream. If the subscriber
+ * downstream cancels, the stage cancels its own subscription.
+ */
+final class Stage<T, R> extends SubmissionPublisher<R> implements Flow.Processor<T, R> {
+
+    private final Operator<T, R> operator;
+    private final int bufferCapacity;
+    private Flow.Subscription subscription;
+
+    /* default */ Stage(Operator<T, R> operator, Executor executor, int bufferCapacity) {
+        super(executor, bufferCapacity);
+        this.operator = operator;
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(bufferCapacity);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (isClosed()) {
+            return;
+        }
+        try {
+            operator.onNext(item, this::submit);
+        } catch (RuntimeException exception) {
+            subscription.cancel();
+            closeExceptionally(exception);
+            return;
+        }
+        if (hasSubscribers()) {
+            subscription.request(1);
+        } else {
+            subscription.cancel();
+            close();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (isClosed()) {
+            return;
+        }
+        try {
+            operator.onComplete(this::submit);
+        } catch (RuntimeException exception) {
+            closeExceptionally(exception);
+            return;
+        }
+        close();
+    }
+}
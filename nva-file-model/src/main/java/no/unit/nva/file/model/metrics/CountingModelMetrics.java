@@ -0,0 +1,78 @@
+package no.unit.nva.file.model.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the metrics of the model in memory, with lock-free counters and histograms, e.g. to publish them periodically.
+ * Install it as described in {@link Instrumentation}, and read it with
+ * {@code (CountingModelMetrics) Instrumentation.getMetrics()}.
+ */
+public final class CountingModelMetrics implements ModelMetrics {
+
+    private final Map<ModelOperation, Histogram> latencies = new EnumMap<>(ModelOperation.class);
+    private final Map<ModelOperation, LongAdder> bytes = new EnumMap<>(ModelOperation.class);
+    private final Map<ModelError, LongAdder> errors = new EnumMap<>(ModelError.class);
+    private final Histogram fileSetSizes = new Histogram();
+
+    /**
+     * Creates metrics with all counters at 0.
+     */
+    public CountingModelMetrics() {
+        for (ModelOperation operation : ModelOperation.values()) {
+            latencies.put(operation, new Histogram());
+            bytes.put(operation, new LongAdder());
+        }
+        for (ModelError error : ModelError.values()) {
+            errors.put(error, new LongAdder());
+        }
+    }
+
+    @Override
+    public void recordLatency(ModelOperation operation, long nanoseconds) {
+        latencies.get(operation).record(nanoseconds);
+    }
+
+    @Override
+    public void recordBytes(ModelOperation operation, long bytes) {
+        this.bytes.get(operation).add(bytes);
+    }
+
+    @Override
+    public void recordFileSetSize(int numberOfFiles) {
+        fileSetSizes.record(numberOfFiles);
+    }
+
+    @Override
+    public void recordError(ModelError error) {
+        errors.get(error).increment();
+    }
+
+    /**
+     * Returns the latencies of an operation.
+     *
+     * @param operation the operation.
+     * @return a histogram of the latencies in nanoseconds, whose count is the number of times the operation ran.
+     */
+    public Histogram getLatencies(ModelOperation operation) {
+        return latencies.get(operation);
+    }
+
+    public long getBytes(ModelOperation operation) {
+        return bytes.get(operation).sum();
+    }
+
+    /**
+     * Returns the sizes of the FileSets that were constructed or deserialized.
+     *
+     * @return a histogram of the numbers of files, whose sum is the total number of files.
+     */
+    public Histogram getFileSetSizes() {
+        return fileSetSizes;
+    }
+
+    public long getErrorCount(ModelError error) {
+        return errors.get(error).sum();
+    }
+}
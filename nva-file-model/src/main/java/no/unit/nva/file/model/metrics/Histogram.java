@@ -0,0 +1,69 @@
+package no.unit.nva.file.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values in buckets of powers of two. Bucket {@code b} holds the values with
+ * {@code b} significant bits, so a percentile is reported as the upper bound of its bucket, at most twice the actual
+ * value.
+ */
+public final class Histogram {
+
+    private static final int NUMBER_OF_BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUMBER_OF_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    /* default */ Histogram() {
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the value. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recorded = Math.max(0, value);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(recorded));
+        count.increment();
+        sum.add(recorded);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns an upper bound of a percentile of the recorded values.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the upper bound of the bucket that contains the percentile, or 0 if no value is recorded.
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        long[] counts = new long[NUMBER_OF_BUCKETS];
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            counts[bucket] = buckets.get(bucket);
+            total += counts[bucket];
+        }
+        long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int bucket = 0; bucket < NUMBER_OF_BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && counts[bucket] > 0) {
+                return upperBound(bucket);
+            }
+        }
+        return 0;
+    }
+
+    private static long upperBound(int bucket) {
+        return bucket == Long.SIZE ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,97 @@
+package no.unit.nva.file.model.metrics;
+
+import static java.util.Objects.nonNull;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * The hooks through which the model records its metrics. The {@link ModelMetrics} implementation is chosen when this
+ * class is initialized: none if the system property {@value #DISABLED_PROPERTY} is {@code true}, otherwise the class
+ * named by the system property {@value #IMPLEMENTATION_PROPERTY}, otherwise the first one found by
+ * {@link ServiceLoader}. Without an implementation, metrics are disabled: since {@link #isEnabled()} is then a
+ * constant, the JIT compiler removes the hooks, including the reading of the clock, from the code they are in.
+ *
+ * <p>To install an implementation, e.g. {@link CountingModelMetrics}, list it in
+ * {@code META-INF/services/no.unit.nva.file.model.metrics.ModelMetrics}, or name it in the system property when it
+ * should only be installed in some JVMs, e.g. in a benchmark fork.
+ */
+public final class Instrumentation {
+
+    public static final String DISABLED_PROPERTY = "no.unit.nva.file.model.metrics.disabled";
+    public static final String IMPLEMENTATION_PROPERTY = "no.unit.nva.file.model.metrics.implementation";
+    public static final String INVALID_IMPLEMENTATION_ERROR = "Cannot install the metrics implementation %s";
+    private static final ModelMetrics METRICS = loadMetrics();
+    private static final boolean ENABLED = !(METRICS instanceof NoOpModelMetrics);
+
+    @JacocoGenerated
+    private Instrumentation() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static ModelMetrics getMetrics() {
+        return METRICS;
+    }
+
+    /**
+     * Returns the start time of an operation, for {@link #recordLatency}.
+     *
+     * @return the current value of {@link System#nanoTime()}, or 0 if metrics are disabled.
+     */
+    public static long startTime() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the latency of an operation that has just completed.
+     *
+     * @param operation the operation.
+     * @param startTime the value of {@link #startTime()} when the operation started.
+     */
+    public static void recordLatency(ModelOperation operation, long startTime) {
+        if (ENABLED) {
+            METRICS.recordLatency(operation, System.nanoTime() - startTime);
+        }
+    }
+
+    public static void recordBytes(ModelOperation operation, long bytes) {
+        if (ENABLED) {
+            METRICS.recordBytes(operation, bytes);
+        }
+    }
+
+    public static void recordFileSetSize(int numberOfFiles) {
+        if (ENABLED) {
+            METRICS.recordFileSetSize(numberOfFiles);
+        }
+    }
+
+    public static void recordError(ModelError error) {
+        if (ENABLED) {
+            METRICS.recordError(error);
+        }
+    }
+
+    /**
+     * Chooses the implementation from the current system properties and services. Called once, when this class is
+     * initialized.
+     */
+    /* default */ static ModelMetrics loadMetrics() {
+        if (Boolean.getBoolean(DISABLED_PROPERTY)) {
+            return new NoOpModelMetrics();
+        }
+        String implementation = System.getProperty(IMPLEMENTATION_PROPERTY);
+        if (nonNull(implementation)) {
+            try {
+                return (ModelMetrics) Class.forName(implementation).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalArgumentException(String.format(INVALID_IMPLEMENTATION_ERROR, implementation), e);
+            }
+        }
+        Iterator<ModelMetrics> implementations = ServiceLoader.load(ModelMetrics.class).iterator();
+        return implementations.hasNext() ? implementations.next() : new NoOpModelMetrics();
+    }
+}
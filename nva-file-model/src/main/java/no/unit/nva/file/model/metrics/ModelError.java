@@ -0,0 +1,16 @@
+package no.unit.nva.file.model.metrics;
+
+/**
+ * The errors of the model that are counted by {@link ModelMetrics}.
+ */
+public enum ModelError {
+    /**
+     * A {@link no.unit.nva.file.model.exception.MissingLicenseException} thrown by
+     * {@link no.unit.nva.file.model.File#validate()}.
+     */
+    MISSING_LICENSE,
+    /**
+     * A FileSet that was rejected because two of its files have the same identifier.
+     */
+    DUPLICATE_IDENTIFIER
+}
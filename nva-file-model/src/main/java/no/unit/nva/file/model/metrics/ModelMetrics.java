@@ -0,0 +1,35 @@
+package no.unit.nva.file.model.metrics;
+
+/**
+ * A service provider interface for recording metrics of the model, e.g. to publish them to CloudWatch. The
+ * implementation is discovered with {@link java.util.ServiceLoader} when the model is first used, see
+ * {@link Instrumentation}. Implementations must have a public no-argument constructor and be thread-safe, and should
+ * not block, since they are called on the paths they measure.
+ */
+public interface ModelMetrics {
+
+    /**
+     * Records how long an operation took.
+     *
+     * @param operation   the operation.
+     * @param nanoseconds the duration of the operation.
+     */
+    void recordLatency(ModelOperation operation, long nanoseconds);
+
+    /**
+     * Records the number of bytes an operation processed.
+     *
+     * @param operation the operation.
+     * @param bytes     the number of bytes.
+     */
+    void recordBytes(ModelOperation operation, long bytes);
+
+    /**
+     * Records the size of a FileSet that was constructed or deserialized.
+     *
+     * @param numberOfFiles the number of files of the set.
+     */
+    void recordFileSetSize(int numberOfFiles);
+
+    void recordError(ModelError error);
+}
@@ -0,0 +1,29 @@
+package no.unit.nva.file.model.metrics;
+
+/**
+ * The operations of the model that are measured by {@link ModelMetrics}.
+ */
+public enum ModelOperation {
+    /**
+     * Copying and indexing the files of a new {@link no.unit.nva.file.model.FileSet}.
+     */
+    FILE_SET_CONSTRUCTION,
+    /**
+     * {@link no.unit.nva.file.model.File#validate()}.
+     */
+    FILE_VALIDATION,
+    /**
+     * {@link no.unit.nva.file.model.FileType#lookUp(String)}.
+     */
+    FILE_TYPE_LOOKUP,
+    /**
+     * Serializing a {@link no.unit.nva.file.model.FileSet} with {@link no.unit.nva.file.model.FileModelModule}.
+     */
+    FILE_SET_SERIALIZATION,
+    /**
+     * Deserializing a {@link no.unit.nva.file.model.FileSet} with Jackson, with or without
+     * {@link no.unit.nva.file.model.FileModelModule}. The bytes are counted from the first property after the type of
+     * the file set, which Jackson has already read when the deserializer is called.
+     */
+    FILE_SET_DESERIALIZATION
+}
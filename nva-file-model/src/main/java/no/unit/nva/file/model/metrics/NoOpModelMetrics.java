@@ -0,0 +1,33 @@
+package no.unit.nva.file.model.metrics;
+
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * The metrics that are used when no implementation is installed. {@link Instrumentation} does not call them.
+ */
+/* default */ final class NoOpModelMetrics implements ModelMetrics {
+
+    @JacocoGenerated
+    @Override
+    public void recordLatency(ModelOperation operation, long nanoseconds) {
+        // metrics are disabled
+    }
+
+    @JacocoGenerated
+    @Override
+    public void recordBytes(ModelOperation operation, long bytes) {
+        // metrics are disabled
+    }
+
+    @JacocoGenerated
+    @Override
+    public void recordFileSetSize(int numberOfFiles) {
+        // metrics are disabled
+    }
+
+    @JacocoGenerated
+    @Override
+    public void recordError(ModelError error) {
+        // metrics are disabled
+    }
+}
@@ -0,0 +1,287 @@
+package no.unit.nva.file.model.migration;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+
+/**
+ * Rewrites the file types in stored JSON documents to the types that {@link File} would give them, without creating
+ * any object of the model. A document is copied token by token. An object is taken to be a file if its {@code type} is
+ * the value of a {@link FileType}, ignoring case. Its type is replaced by {@link FileType#UNPUBLISHABLE_FILE} if it is
+ * an administrative agreement, by {@link FileType#PUBLISHED_FILE} if it is the deprecated {@link FileType#FILE}, and
+ * otherwise by the exact value of its type. Only the rest of a file object is buffered, since whether it is an
+ * administrative agreement may not be known until its end. Everything else is copied unchanged, apart from whitespace,
+ * and field order is preserved.
+ *
+ * <p>Objects without a type, e.g. files in documents written before the type was introduced, are left as they are.
+ */
+public final class FileTypeMigration {
+
+    public static final String EMPTY_DOCUMENT_ERROR = "The document is empty";
+    public static final String TRAILING_CONTENT_ERROR = "The document contains more than one JSON value";
+    private static final String TYPE = "type";
+    private static final String ADMINISTRATIVE_AGREEMENT = "administrativeAgreement";
+    private static final Map<String, FileType> FILE_TYPES = fileTypesByLowerCaseValue();
+
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Creates a migration that reads and writes documents with the JSON factory of a mapper.
+     *
+     * @param objectMapper the mapper.
+     */
+    public FileTypeMigration(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * Migrates a single document.
+     *
+     * @param json the document, encoded as UTF-8.
+     * @return the migrated document, which is the original array if no type was rewritten.
+     * @throws IOException if the document is not a single JSON value.
+     */
+    public MigratedDocument migrate(byte[] json) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(json.length);
+        int numberOfRewrittenTypes;
+        try (JsonParser parser = jsonFactory.createParser(json);
+             JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+            if (isNull(parser.nextToken())) {
+                throw new JsonParseException(parser, EMPTY_DOCUMENT_ERROR);
+            }
+            Rewriter rewriter = new Rewriter(parser);
+            rewriter.copyValue(generator);
+            if (!isNull(parser.nextToken())) {
+                throw new JsonParseException(parser, TRAILING_CONTENT_ERROR);
+            }
+            numberOfRewrittenTypes = rewriter.numberOfRewrittenTypes;
+        }
+        return numberOfRewrittenTypes == 0
+                   ? new MigratedDocument(json, 0)
+                   : new MigratedDocument(output.toByteArray(), numberOfRewrittenTypes);
+    }
+
+    /**
+     * Migrates a stream of documents in parallel, on the common fork-join pool. Documents that are not valid JSON are
+     * reported and skipped.
+     *
+     * @param documents        the documents, encoded as UTF-8, with the keys they are stored under.
+     * @param changedDocuments receives the key and the migrated JSON of every document that was changed, from several
+     *                         threads at once, e.g. to write it back to storage.
+     * @param <K>              the type of the key of a document.
+     * @return the number of documents that were read and changed.
+     */
+    public <K> MigrationReport<K> migrateAll(Stream<? extends Map.Entry<K, byte[]>> documents,
+                                             BiConsumer<? super K, byte[]> changedDocuments) {
+        return documents.parallel()
+                   .collect(Accumulator<K>::new,
+                            (accumulator, document) -> migrateInto(accumulator, document, changedDocuments),
+                            Accumulator::combine)
+                   .toReport();
+    }
+
+    private <K> void migrateInto(Accumulator<K> accumulator, Map.Entry<K, byte[]> document,
+                                 BiConsumer<? super K, byte[]> changedDocuments) {
+        accumulator.numberOfDocuments++;
+        MigratedDocument migrated;
+        try {
+            migrated = migrate(document.getValue());
+        } catch (IOException exception) {
+            accumulator.failedKeys.add(document.getKey());
+            return;
+        }
+        if (migrated.isChanged()) {
+            changedDocuments.accept(document.getKey(), migrated.getJson());
+            accumulator.numberOfChangedDocuments++;
+            accumulator.numberOfRewrittenTypes += migrated.getNumberOfRewrittenTypes();
+        }
+    }
+
+    /**
+     * Returns the type a file gets in its constructor, see {@code File#getAppropriateFileType}.
+     */
+    @SuppressWarnings("deprecation")
+    private static FileType appropriateFileType(FileType type, boolean administrativeAgreement) {
+        if (administrativeAgreement) {
+            return FileType.UNPUBLISHABLE_FILE;
+        }
+        return type == FileType.FILE ? FileType.PUBLISHED_FILE : type;
+    }
+
+    private static Map<String, FileType> fileTypesByLowerCaseValue() {
+        Map<String, FileType> fileTypes = new HashMap<>();
+        for (FileType type : FileType.values()) {
+            fileTypes.put(type.getValue().toLowerCase(Locale.ROOT), type);
+        }
+        return fileTypes;
+    }
+
+    /**
+     * Copies a document from a parser to a generator, rewriting the types of file objects.
+     */
+    private static final class Rewriter {
+
+        private final JsonParser parser;
+        private int numberOfRewrittenTypes;
+
+        /* default */ Rewriter(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        /* default */ void copyValue(JsonGenerator generator) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT) {
+                copyObject(generator);
+            } else if (token == JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    copyValue(generator);
+                }
+                generator.writeEndArray();
+            } else {
+                copyEvent(parser, generator);
+            }
+        }
+
+        private void copyObject(JsonGenerator generator) throws IOException {
+            generator.writeStartObject();
+            boolean administrativeAgreement = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (TYPE.equals(fieldName) && token == JsonToken.VALUE_STRING) {
+                    String value = parser.getText();
+                    FileType type = FILE_TYPES.get(value.toLowerCase(Locale.ROOT));
+                    if (!isNull(type)) {
+                        copyRestOfFile(generator, type, value, administrativeAgreement);
+                        return;
+                    }
+                } else if (ADMINISTRATIVE_AGREEMENT.equals(fieldName)) {
+                    administrativeAgreement = isTrue(token);
+                }
+                generator.writeFieldName(fieldName);
+                copyValue(generator);
+            }
+            generator.writeEndObject();
+        }
+
+        /**
+         * Buffers the fields of a file object after its type, then writes the appropriate type followed by the buffered
+         * fields.
+         */
+        private void copyRestOfFile(JsonGenerator generator, FileType type, String value,
+                                    boolean administrativeAgreementSoFar) throws IOException {
+            boolean administrativeAgreement = administrativeAgreementSoFar;
+            TokenBuffer rest = new TokenBuffer(parser);
+            rest.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (ADMINISTRATIVE_AGREEMENT.equals(fieldName)) {
+                    administrativeAgreement = isTrue(token);
+                }
+                rest.writeFieldName(fieldName);
+                copyValue(rest);
+            }
+            rest.writeEndObject();
+
+            String appropriateValue = appropriateFileType(type, administrativeAgreement).getValue();
+            if (!appropriateValue.equals(value)) {
+                numberOfRewrittenTypes++;
+            }
+            generator.writeStringField(TYPE, appropriateValue);
+            try (JsonParser buffered = rest.asParser()) {
+                buffered.nextToken();
+                while (buffered.nextToken() == JsonToken.FIELD_NAME) {
+                    generator.writeFieldName(buffered.getCurrentName());
+                    buffered.nextToken();
+                    copyStructure(buffered, generator);
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        /**
+         * Copies the current value of a parser, which may be an object or an array, like
+         * {@link JsonGenerator#copyCurrentStructure(JsonParser)} but without changing its numbers.
+         */
+        private static void copyStructure(JsonParser source, JsonGenerator generator) throws IOException {
+            int depth = 0;
+            do {
+                JsonToken token = source.currentToken();
+                copyEvent(source, generator);
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+            } while (depth > 0 && !isNull(source.nextToken()));
+        }
+
+        /**
+         * Copies the current token of a parser. Numbers are copied from their text, since the generator would otherwise
+         * write a decimal as a double, e.g. {@code 1.10} as {@code 1.1}.
+         */
+        private static void copyEvent(JsonParser source, JsonGenerator generator) throws IOException {
+            JsonToken token = source.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                generator.writeNumber(source.getText());
+            } else {
+                generator.copyCurrentEvent(source);
+            }
+        }
+
+        /**
+         * Reads a boolean like the deserializer of a file does, which also accepts strings and numbers.
+         */
+        private boolean isTrue(JsonToken token) throws IOException {
+            if (token == JsonToken.VALUE_STRING) {
+                return Boolean.parseBoolean(parser.getText().trim());
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return parser.getLongValue() != 0;
+            }
+            return token == JsonToken.VALUE_TRUE;
+        }
+    }
+
+    /**
+     * Counts migrated documents per thread of a parallel migration.
+     */
+    private static final class Accumulator<K> {
+
+        private final List<K> failedKeys = new ArrayList<>();
+        private long numberOfDocuments;
+        private long numberOfChangedDocuments;
+        private long numberOfRewrittenTypes;
+
+        /* default */ void combine(Accumulator<K> other) {
+            numberOfDocuments += other.numberOfDocuments;
+            numberOfChangedDocuments += other.numberOfChangedDocuments;
+            numberOfRewrittenTypes += other.numberOfRewrittenTypes;
+            failedKeys.addAll(other.failedKeys);
+        }
+
+        /* default */ MigrationReport<K> toReport() {
+            return new MigrationReport<>(numberOfDocuments, numberOfChangedDocuments, numberOfRewrittenTypes,
+                                         failedKeys);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package no.unit.nva.file.model.migration;
+
+/**
+ * A JSON document after {@link FileTypeMigration}, with the number of file types that were rewritten.
+ */
+public final class MigratedDocument {
+
+    private final byte[] json;
+    private final int numberOfRewrittenTypes;
+
+    /* default */ MigratedDocument(byte[] json, int numberOfRewrittenTypes) {
+        this.json = json;
+        this.numberOfRewrittenTypes = numberOfRewrittenTypes;
+    }
+
+    /**
+     * Returns the migrated document.
+     *
+     * @return the JSON of the document, encoded as UTF-8. If nothing was rewritten, it is the original array.
+     */
+    public byte[] getJson() {
+        return json;
+    }
+
+    public int getNumberOfRewrittenTypes() {
+        return numberOfRewrittenTypes;
+    }
+
+    public boolean isChanged() {
+        return numberOfRewrittenTypes > 0;
+    }
+}
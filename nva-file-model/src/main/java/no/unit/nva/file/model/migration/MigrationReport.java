@@ -0,0 +1,51 @@
+package no.unit.nva.file.model.migration;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of migrating many documents with {@link FileTypeMigration#migrateAll}.
+ *
+ * @param <K> the type of the key of a document.
+ */
+public class MigrationReport<K> {
+
+    private final long numberOfDocuments;
+    private final long numberOfChangedDocuments;
+    private final long numberOfRewrittenTypes;
+    private final List<K> failedKeys;
+
+    /* default */ MigrationReport(long numberOfDocuments, long numberOfChangedDocuments, long numberOfRewrittenTypes,
+                                  List<K> failedKeys) {
+        this.numberOfDocuments = numberOfDocuments;
+        this.numberOfChangedDocuments = numberOfChangedDocuments;
+        this.numberOfRewrittenTypes = numberOfRewrittenTypes;
+        this.failedKeys = Collections.unmodifiableList(failedKeys);
+    }
+
+    /**
+     * Returns the number of documents that were read, including those that failed.
+     *
+     * @return the number of documents.
+     */
+    public long getNumberOfDocuments() {
+        return numberOfDocuments;
+    }
+
+    public long getNumberOfChangedDocuments() {
+        return numberOfChangedDocuments;
+    }
+
+    public long getNumberOfRewrittenTypes() {
+        return numberOfRewrittenTypes;
+    }
+
+    /**
+     * Returns the keys of the documents that could not be migrated because they are not valid JSON.
+     *
+     * @return the keys, in no particular order.
+     */
+    public List<K> getFailedKeys() {
+        return failedKeys;
+    }
+}
@@ -0,0 +1,40 @@
+package no.unit.nva.file.model.ndjson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression of a newline-delimited JSON dump.
+ */
+public enum Compression {
+
+    NONE,
+    GZIP;
+
+    public static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Wraps a stream of compressed input in a stream that decompresses it.
+     *
+     * @param input the compressed input.
+     * @return the uncompressed input.
+     * @throws IOException if the header of the compressed input cannot be read.
+     */
+    public InputStream decompress(InputStream input) throws IOException {
+        return this == GZIP ? new GZIPInputStream(input, GZIP_BUFFER_SIZE) : input;
+    }
+
+    /**
+     * Wraps an output stream in a stream that compresses what is written to it.
+     *
+     * @param output the target of the compressed output.
+     * @return the stream to write uncompressed output to.
+     * @throws IOException if the header of the compressed output cannot be written.
+     */
+    public OutputStream compress(OutputStream output) throws IOException {
+        return this == GZIP ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE) : output;
+    }
+}
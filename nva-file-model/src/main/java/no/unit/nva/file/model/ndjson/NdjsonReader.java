@@ -0,0 +1,118 @@
+package no.unit.nva.file.model.ndjson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a dump of newline-delimited JSON records, e.g. {@link no.unit.nva.file.model.FileSet}s or
+ * {@link no.unit.nva.file.model.File}s written by {@link NdjsonWriter}. A single parser and deserialization context
+ * are used for the whole dump, and a record is only parsed when it is pulled, so the memory used does not depend on the
+ * size of the dump.
+ *
+ * <p>Parse and mapping errors are thrown as {@link UncheckedIOException}s, whose cause contains the line and column of
+ * the offending record. The reader is not thread-safe, and closing it closes the underlying input.
+ *
+ * @param <T> the type of the records.
+ */
+public final class NdjsonReader<T> implements Iterator<T>, Closeable {
+
+    private final InputStream input;
+    private final MappingIterator<T> records;
+
+    private NdjsonReader(InputStream input, MappingIterator<T> records) {
+        this.input = input;
+        this.records = records;
+    }
+
+    /**
+     * Opens a reader for a dump read from an input stream.
+     *
+     * @param objectMapper the mapper that deserializes the records.
+     * @param type         the type of the records.
+     * @param input        the dump.
+     * @param compression  the compression of the dump.
+     * @param <T>          the type of the records.
+     * @return a reader positioned before the first record.
+     * @throws IOException if the input cannot be read.
+     */
+    public static <T> NdjsonReader<T> open(ObjectMapper objectMapper, Class<T> type, InputStream input,
+                                           Compression compression) throws IOException {
+        InputStream uncompressed = compression.decompress(input);
+        JsonParser parser = objectMapper.getFactory().createParser(uncompressed);
+        return new NdjsonReader<>(uncompressed, objectMapper.readerFor(type).readValues(parser));
+    }
+
+    /**
+     * Opens a reader for a dump read from a channel, e.g. a {@link java.nio.channels.FileChannel}.
+     *
+     * @param objectMapper the mapper that deserializes the records.
+     * @param type         the type of the records.
+     * @param channel      the dump.
+     * @param compression  the compression of the dump.
+     * @param <T>          the type of the records.
+     * @return a reader positioned before the first record.
+     * @throws IOException if the channel cannot be read.
+     */
+    public static <T> NdjsonReader<T> open(ObjectMapper objectMapper, Class<T> type, ReadableByteChannel channel,
+                                           Compression compression) throws IOException {
+        return open(objectMapper, type, Channels.newInputStream(channel), compression);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return records.hasNextValue();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public T next() {
+        try {
+            return records.nextValue();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Returns the remaining records as a sequential stream, which pulls records from the dump as they are consumed.
+     * Closing the stream closes the reader.
+     *
+     * @return the remaining records.
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED);
+        return StreamSupport.stream(spliterator, false).onClose(this::closeUnchecked);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            records.close();
+        } finally {
+            input.close();
+        }
+    }
+
+    private void closeUnchecked() {
+        try {
+            close();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
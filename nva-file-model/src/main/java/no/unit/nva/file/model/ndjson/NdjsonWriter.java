@@ -0,0 +1,130 @@
+package no.unit.nva.file.model.ndjson;
+
+import static java.util.Objects.isNull;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes records as newline-delimited JSON, one compact JSON document per line. A single generator, and with it a
+ * single output buffer, is used for the whole dump, and records are not flushed one by one, so a dump of any size is
+ * written with constant memory.
+ *
+ * <p>The writer is not thread-safe. Closing it closes the underlying output, which also completes a compressed dump.
+ *
+ * @param <T> the type of the records.
+ */
+public final class NdjsonWriter<T> implements Closeable, Flushable {
+
+    public static final String NULL_RECORD_ERROR = "A newline-delimited JSON dump cannot contain null records";
+    private static final char LINE_SEPARATOR = '\n';
+
+    private final OutputStream output;
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private long numberOfRecords;
+
+    private NdjsonWriter(OutputStream output, JsonGenerator generator, ObjectWriter writer) {
+        this.output = output;
+        this.generator = generator;
+        this.writer = writer;
+    }
+
+    /**
+     * Opens a writer for a dump written to an output stream.
+     *
+     * @param objectMapper the mapper that serializes the records. Indentation is turned off for the dump.
+     * @param type         the type of the records, which decides e.g. whether a type discriminator is written.
+     * @param output       the target of the dump.
+     * @param compression  the compression of the dump.
+     * @param <T>          the type of the records.
+     * @return a writer for the dump.
+     * @throws IOException if the output cannot be written.
+     */
+    public static <T> NdjsonWriter<T> open(ObjectMapper objectMapper, Class<T> type, OutputStream output,
+                                           Compression compression) throws IOException {
+        OutputStream compressed = compression.compress(output);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(compressed, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(null);
+        ObjectWriter writer = objectMapper.writerFor(type)
+                                  .without(SerializationFeature.INDENT_OUTPUT,
+                                           SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        return new NdjsonWriter<>(compressed, generator, writer);
+    }
+
+    /**
+     * Opens a writer for a dump written to a channel, e.g. a {@link java.nio.channels.FileChannel}.
+     *
+     * @param objectMapper the mapper that serializes the records. Indentation is turned off for the dump.
+     * @param type         the type of the records, which decides e.g. whether a type discriminator is written.
+     * @param channel      the target of the dump.
+     * @param compression  the compression of the dump.
+     * @param <T>          the type of the records.
+     * @return a writer for the dump.
+     * @throws IOException if the channel cannot be written.
+     */
+    public static <T> NdjsonWriter<T> open(ObjectMapper objectMapper, Class<T> type, WritableByteChannel channel,
+                                           Compression compression) throws IOException {
+        return open(objectMapper, type, Channels.newOutputStream(channel), compression);
+    }
+
+    /**
+     * Writes a record on a line of its own.
+     *
+     * @param record the record to write.
+     * @throws IOException if the record cannot be serialized or written.
+     */
+    public void write(T record) throws IOException {
+        if (isNull(record)) {
+            throw new IllegalArgumentException(NULL_RECORD_ERROR);
+        }
+        writer.writeValue(generator, record);
+        generator.writeRaw(LINE_SEPARATOR);
+        numberOfRecords++;
+    }
+
+    /**
+     * Writes the records of a stream as they are pulled from it.
+     *
+     * @param records the records to write.
+     * @return the number of records written.
+     * @throws IOException if a record cannot be serialized or written.
+     */
+    public long writeAll(Stream<? extends T> records) throws IOException {
+        long written = 0;
+        Iterator<? extends T> iterator = records.iterator();
+        while (iterator.hasNext()) {
+            write(iterator.next());
+            written++;
+        }
+        return written;
+    }
+
+    public long getNumberOfRecords() {
+        return numberOfRecords;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            generator.close();
+        } finally {
+            output.close();
+        }
+    }
+}
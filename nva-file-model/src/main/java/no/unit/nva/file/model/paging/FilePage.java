@@ -0,0 +1,164 @@
+package no.unit.nva.file.model.paging;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * A page of the files of a {@link FileSet}, in the order of {@link FileSet#getFiles()}. A page is either taken at an
+ * offset, or after the file that an opaque cursor refers to. The cursor of the next page refers to the last file of
+ * this page by its identifier, so that a client that pages through a set that changes between requests continues
+ * after the last file it has received, as long as that file is still in the set.
+ */
+@JsonPropertyOrder({FilePage.OFFSET, FilePage.TOTAL_NUMBER_OF_FILES, FilePage.FILES, FilePage.NEXT_CURSOR})
+public final class FilePage {
+
+    public static final String OFFSET = "offset";
+    public static final String TOTAL_NUMBER_OF_FILES = "totalNumberOfFiles";
+    public static final String FILES = "files";
+    public static final String NEXT_CURSOR = "nextCursor";
+    public static final String INVALID_OFFSET_ERROR = "The offset cannot be negative: %d";
+    public static final String INVALID_LIMIT_ERROR = "The limit must be positive: %d";
+    public static final String INVALID_CURSOR_ERROR = "The cursor is not valid: %s";
+    public static final String UNKNOWN_CURSOR_ERROR = "The cursor refers to a file that is not in the set: %s";
+    private static final int IDENTIFIER_CURSOR_LENGTH = 2 * Long.BYTES;
+    private static final int POSITION_CURSOR_LENGTH = Integer.BYTES;
+
+    private final List<File> files;
+    private final int offset;
+    private final int totalNumberOfFiles;
+    private final String nextCursor;
+
+    private FilePage(List<File> files, int offset, int totalNumberOfFiles, String nextCursor) {
+        this.files = files;
+        this.offset = offset;
+        this.totalNumberOfFiles = totalNumberOfFiles;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Takes a page at an offset, see {@link FileSet#getPage(int, int)}.
+     *
+     * @param fileSet the set.
+     * @param offset  the position of the first file of the page.
+     * @param limit   the maximum number of files of the page.
+     * @return the page, which is empty if the offset is beyond the last file.
+     */
+    public static FilePage of(FileSet fileSet, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_OFFSET_ERROR, offset));
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_LIMIT_ERROR, limit));
+        }
+        List<File> allFiles = fileSet.getFiles();
+        int from = Math.min(offset, allFiles.size());
+        int to = (int) Math.min((long) from + limit, allFiles.size());
+        List<File> files = allFiles.subList(from, to);
+        String nextCursor = to < allFiles.size() ? cursorAfter(allFiles, to - 1) : null;
+        return new FilePage(files, from, allFiles.size(), nextCursor);
+    }
+
+    /**
+     * Takes the page after a cursor, see {@link FileSet#getPage(String, int)}.
+     *
+     * @param fileSet the set.
+     * @param cursor  the next cursor of the previous page, or null for the first page.
+     * @param limit   the maximum number of files of the page.
+     * @return the page.
+     * @throws IllegalArgumentException if the cursor is not valid, or refers to a file that is not in the set.
+     */
+    public static FilePage after(FileSet fileSet, String cursor, int limit) {
+        return of(fileSet, isNull(cursor) ? 0 : positionOf(fileSet, cursor) + 1, limit);
+    }
+
+    @JsonProperty(FILES)
+    public List<File> getFiles() {
+        return files;
+    }
+
+    /**
+     * Returns the position of the first file of the page in the set.
+     *
+     * @return the offset of the page.
+     */
+    @JsonProperty(OFFSET)
+    public int getOffset() {
+        return offset;
+    }
+
+    @JsonProperty(TOTAL_NUMBER_OF_FILES)
+    public int getTotalNumberOfFiles() {
+        return totalNumberOfFiles;
+    }
+
+    /**
+     * Returns the cursor of the next page, for {@link FileSet#getPage(String, int)}.
+     *
+     * @return the cursor, which is a URL-safe string, or null if this is the last page.
+     */
+    @JsonProperty(NEXT_CURSOR)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    @JsonIgnore
+    public boolean hasNext() {
+        return nonNull(nextCursor);
+    }
+
+    /**
+     * Creates the cursor that refers to a file. Files without an identifier, of which a set has at most one, are
+     * referred to by their position instead.
+     */
+    private static String cursorAfter(List<File> files, int position) {
+        UUID identifier = files.get(position).getIdentifier();
+        ByteBuffer cursor;
+        if (isNull(identifier)) {
+            cursor = ByteBuffer.allocate(POSITION_CURSOR_LENGTH).putInt(position);
+        } else {
+            cursor = ByteBuffer.allocate(IDENTIFIER_CURSOR_LENGTH)
+                         .putLong(identifier.getMostSignificantBits())
+                         .putLong(identifier.getLeastSignificantBits());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.array());
+    }
+
+    private static int positionOf(FileSet fileSet, String cursor) {
+        ByteBuffer bytes = ByteBuffer.wrap(decode(cursor));
+        if (bytes.remaining() == IDENTIFIER_CURSOR_LENGTH) {
+            int position = fileSet.indexOf(new UUID(bytes.getLong(), bytes.getLong()));
+            if (position == FileSet.NOT_FOUND) {
+                throw new IllegalArgumentException(String.format(UNKNOWN_CURSOR_ERROR, cursor));
+            }
+            return position;
+        }
+        if (bytes.remaining() == POSITION_CURSOR_LENGTH) {
+            int position = bytes.getInt();
+            if (position < 0 || position >= fileSet.getFiles().size()
+                || nonNull(fileSet.getFiles().get(position).getIdentifier())) {
+                throw new IllegalArgumentException(String.format(UNKNOWN_CURSOR_ERROR, cursor));
+            }
+            return position;
+        }
+        throw new IllegalArgumentException(String.format(INVALID_CURSOR_ERROR, cursor));
+    }
+
+    private static byte[] decode(String cursor) {
+        try {
+            return Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException(String.format(INVALID_CURSOR_ERROR, cursor), exception);
+        }
+    }
+}
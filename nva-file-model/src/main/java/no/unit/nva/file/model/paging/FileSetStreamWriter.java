@@ -0,0 +1,176 @@
+package no.unit.nva.file.model.paging;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileSetSummary;
+
+/**
+ * Serializes a {@link FileSet} or a {@link FilePage} straight to an output, e.g. the body of an HTTP response, one file
+ * at a time. The output is flushed after every chunk of files, so the first bytes are sent before the last file is
+ * serialized, and no more than one chunk is buffered. A FileSet is written as the same JSON as the mapper writes, and a
+ * page as the JSON of a {@link FilePage}, both without indentation. A writer created by {@link #withSummary()} also
+ * writes the {@link FileSetSummary} of a set before its files, for {@link FileSetSummary#readFromFileSet}.
+ *
+ * <p>The writer is immutable and thread-safe. It does not close the outputs it writes to.
+ */
+public final class FileSetStreamWriter {
+
+    public static final int DEFAULT_FILES_PER_CHUNK = 100;
+    public static final String INVALID_CHUNK_SIZE_ERROR = "The number of files per chunk must be positive: %d";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter fileWriter;
+    private final ObjectWriter summaryWriter;
+    private final int filesPerChunk;
+    private final boolean writesSummary;
+
+    private FileSetStreamWriter(ObjectMapper objectMapper, int filesPerChunk, boolean writesSummary) {
+        this.objectMapper = objectMapper;
+        this.fileWriter = withoutFlushing(objectMapper.writerFor(File.class));
+        this.summaryWriter = withoutFlushing(objectMapper.writerFor(FileSetSummary.class));
+        this.filesPerChunk = filesPerChunk;
+        this.writesSummary = writesSummary;
+    }
+
+    /**
+     * Creates a writer that flushes after every {@link #DEFAULT_FILES_PER_CHUNK} files.
+     *
+     * @param objectMapper the mapper that serializes the files.
+     * @return the writer.
+     */
+    public static FileSetStreamWriter create(ObjectMapper objectMapper) {
+        return create(objectMapper, DEFAULT_FILES_PER_CHUNK);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param objectMapper  the mapper that serializes the files.
+     * @param filesPerChunk the number of files to write between flushes.
+     * @return the writer.
+     */
+    public static FileSetStreamWriter create(ObjectMapper objectMapper, int filesPerChunk) {
+        if (filesPerChunk <= 0) {
+            throw new IllegalArgumentException(String.format(INVALID_CHUNK_SIZE_ERROR, filesPerChunk));
+        }
+        return new FileSetStreamWriter(objectMapper, filesPerChunk, false);
+    }
+
+    /**
+     * Returns a writer that writes the summary of a FileSet as its {@value FileSet#SUMMARY} property, between its type
+     * and its files, so that the summary can be read without reading the files. Pages are written as before.
+     *
+     * @return the writer.
+     */
+    public FileSetStreamWriter withSummary() {
+        return new FileSetStreamWriter(objectMapper, filesPerChunk, true);
+    }
+
+    /**
+     * Writes a whole FileSet, as its type followed by its summary, if enabled, and its files. The first chunk of files
+     * is sent before the rest of the files is serialized.
+     *
+     * @param fileSet the set.
+     * @param output  the output.
+     * @return the number of files written.
+     * @throws IOException if the output cannot be written.
+     */
+    public int write(FileSet fileSet, OutputStream output) throws IOException {
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeStringField(FileSet.TYPE, FileSet.TYPE_NAME);
+            if (writesSummary) {
+                generator.writeFieldName(FileSet.SUMMARY);
+                summaryWriter.writeValue(generator, fileSet.getSummary());
+            }
+            generator.writeFieldName(FileSet.FILES);
+            writeFiles(generator, fileSet.getFiles());
+            generator.writeEndObject();
+        }
+        return fileSet.getFiles().size();
+    }
+
+    /**
+     * Writes a whole FileSet to a channel.
+     *
+     * @param fileSet the set.
+     * @param channel the channel.
+     * @return the number of files written.
+     * @throws IOException if the channel cannot be written.
+     */
+    public int write(FileSet fileSet, WritableByteChannel channel) throws IOException {
+        return write(fileSet, Channels.newOutputStream(channel));
+    }
+
+    /**
+     * Writes a page.
+     *
+     * @param page   the page.
+     * @param output the output.
+     * @return the number of files written.
+     * @throws IOException if the output cannot be written.
+     */
+    public int write(FilePage page, OutputStream output) throws IOException {
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeNumberField(FilePage.OFFSET, page.getOffset());
+            generator.writeNumberField(FilePage.TOTAL_NUMBER_OF_FILES, page.getTotalNumberOfFiles());
+            generator.writeFieldName(FilePage.FILES);
+            writeFiles(generator, page.getFiles());
+            if (page.hasNext()) {
+                generator.writeStringField(FilePage.NEXT_CURSOR, page.getNextCursor());
+            }
+            generator.writeEndObject();
+        }
+        return page.getFiles().size();
+    }
+
+    /**
+     * Writes a page to a channel.
+     *
+     * @param page    the page.
+     * @param channel the channel.
+     * @return the number of files written.
+     * @throws IOException if the channel cannot be written.
+     */
+    public int write(FilePage page, WritableByteChannel channel) throws IOException {
+        return write(page, Channels.newOutputStream(channel));
+    }
+
+    private void writeFiles(JsonGenerator generator, List<File> files) throws IOException {
+        generator.writeStartArray();
+        int filesInChunk = 0;
+        for (File file : files) {
+            fileWriter.writeValue(generator, file);
+            filesInChunk++;
+            if (filesInChunk == filesPerChunk) {
+                generator.flush();
+                filesInChunk = 0;
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Creates a generator that leaves the output open, and flushes it when the generator is closed.
+     */
+    private JsonGenerator createGenerator(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private static ObjectWriter withoutFlushing(ObjectWriter writer) {
+        return writer.without(SerializationFeature.INDENT_OUTPUT, SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
@@ -0,0 +1,26 @@
+package no.unit.nva.file.model.query;
+
+import static java.util.Objects.isNull;
+import java.util.function.Function;
+import no.unit.nva.file.model.File;
+
+/**
+ * The low-cardinality fields of a {@link File} that a {@link FileIndex} keeps a bitmap per value for.
+ */
+enum Attribute {
+    TYPE(File::getType),
+    ADMINISTRATIVE_AGREEMENT(File::isAdministrativeAgreement),
+    PUBLISHER_AUTHORITY(File::isPublisherAuthority),
+    LICENSE(file -> isNull(file.getLicense()) ? null : file.getLicense().getIdentifier()),
+    MIME_TYPE(File::getMimeType);
+
+    private final Function<File, Object> accessor;
+
+    Attribute(Function<File, Object> accessor) {
+        this.accessor = accessor;
+    }
+
+    /* default */ Object valueOf(File file) {
+        return accessor.apply(file);
+    }
+}
@@ -0,0 +1,104 @@
+package no.unit.nva.file.model.query;
+
+import static java.util.Objects.isNull;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import no.unit.nva.file.model.File;
+
+/**
+ * Bitmap indexes over a collection of files, for answering {@link FileQuery}s without looking at every file. For each
+ * value of the file type, the administrative agreement and publisher authority flags, the license identifier and the
+ * MIME type, the index keeps a bitmap of the positions of the files with that value. Sizes and embargo dates are kept
+ * in sorted arrays, so that a range is found by binary search. A query combines these bitmaps with AND, OR and NOT,
+ * and files are only looked up for the positions in the result.
+ *
+ * <p>The index is immutable once built and may be queried from several threads. It refers to the files it was built
+ * from, in their original order.
+ */
+public final class FileIndex {
+
+    private final List<File> files;
+    private final Map<Attribute, Map<Object, BitSet>> bitmaps = new EnumMap<>(Attribute.class);
+    private final RangeIndex<Long> sizes;
+    private final RangeIndex<Instant> embargoDates;
+
+    private FileIndex(List<File> files) {
+        this.files = files;
+        for (Attribute attribute : Attribute.values()) {
+            bitmaps.put(attribute, new HashMap<>());
+        }
+        for (int position = 0; position < files.size(); position++) {
+            File file = files.get(position);
+            for (Attribute attribute : Attribute.values()) {
+                bitmaps.get(attribute).computeIfAbsent(attribute.valueOf(file), value -> new BitSet()).set(position);
+            }
+        }
+        this.sizes = RangeIndex.of(files, File::getSize);
+        this.embargoDates = RangeIndex.of(files, file -> file.getEmbargoDate().orElse(null));
+    }
+
+    /**
+     * Builds the indexes for a collection of files.
+     *
+     * @param files the files, e.g. the files of a {@link no.unit.nva.file.model.FileSet}.
+     * @return the index.
+     */
+    public static FileIndex of(Collection<File> files) {
+        return new FileIndex(List.copyOf(files));
+    }
+
+    public int size() {
+        return files.size();
+    }
+
+    public List<File> getFiles() {
+        return files;
+    }
+
+    /**
+     * Counts the files that match a query, without looking up any file.
+     *
+     * @param query the query.
+     * @return the number of matching files.
+     */
+    public int count(FileQuery query) {
+        return query.evaluate(this).cardinality();
+    }
+
+    /**
+     * Finds the files that match a query.
+     *
+     * @param query the query.
+     * @return the matching files, in the order of the indexed collection.
+     */
+    public List<File> find(FileQuery query) {
+        return stream(query).collect(Collectors.toList());
+    }
+
+    public Stream<File> stream(FileQuery query) {
+        return query.evaluate(this).stream().mapToObj(files::get);
+    }
+
+    /**
+     * Returns the positions of the files with a value of an attribute, as a bitmap the caller may modify.
+     */
+    /* default */ BitSet bitmap(Attribute attribute, Object value) {
+        BitSet bitmap = bitmaps.get(attribute).get(value);
+        return isNull(bitmap) ? new BitSet() : (BitSet) bitmap.clone();
+    }
+
+    /* default */ RangeIndex<Long> getSizes() {
+        return sizes;
+    }
+
+    /* default */ RangeIndex<Instant> getEmbargoDates() {
+        return embargoDates;
+    }
+}
@@ -0,0 +1,249 @@
+package no.unit.nva.file.model.query;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.function.Function;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+
+/**
+ * A condition on the fields of a {@link File}, composed from the factory methods of this class with {@link #and},
+ * {@link #or} and {@link #not}. A query is answered by a {@link FileIndex} from its bitmaps, and can also be tested
+ * against a single file with {@link #matches(File)}, which gives the same result.
+ *
+ * <p>Queries are immutable and may be reused across indexes.
+ */
+public abstract class FileQuery {
+
+    private static final FileQuery ALL = new All();
+
+    /* default */ FileQuery() {
+        // Only the queries of this package can be evaluated by an index.
+    }
+
+    public static FileQuery all() {
+        return ALL;
+    }
+
+    public static FileQuery type(FileType type) {
+        return new Equals(Attribute.TYPE, type);
+    }
+
+    public static FileQuery administrativeAgreement(boolean administrativeAgreement) {
+        return new Equals(Attribute.ADMINISTRATIVE_AGREEMENT, administrativeAgreement);
+    }
+
+    public static FileQuery publisherAuthority(boolean publisherAuthority) {
+        return new Equals(Attribute.PUBLISHER_AUTHORITY, publisherAuthority);
+    }
+
+    /**
+     * Matches files by the identifier of their license.
+     *
+     * @param licenseIdentifier the identifier of the license, or null for files without a license identifier.
+     * @return the query.
+     */
+    public static FileQuery license(String licenseIdentifier) {
+        return new Equals(Attribute.LICENSE, licenseIdentifier);
+    }
+
+    public static FileQuery mimeType(String mimeType) {
+        return new Equals(Attribute.MIME_TYPE, mimeType);
+    }
+
+    /**
+     * Matches files with a size in a range. Files without a size are not matched.
+     *
+     * @param minimum the smallest size in the range.
+     * @param maximum the largest size in the range.
+     * @return the query.
+     */
+    public static FileQuery sizeBetween(long minimum, long maximum) {
+        return new Range<>(FileIndex::getSizes, File::getSize, minimum, maximum);
+    }
+
+    /**
+     * Matches files with an embargo date in a range. Files without an embargo date are not matched.
+     *
+     * @param from the earliest embargo date in the range, or null for no lower bound.
+     * @param to   the latest embargo date in the range, or null for no upper bound.
+     * @return the query.
+     */
+    public static FileQuery embargoDateBetween(Instant from, Instant to) {
+        return new Range<>(FileIndex::getEmbargoDates, file -> file.getEmbargoDate().orElse(null), from, to);
+    }
+
+    /**
+     * Matches files whose embargo has not passed at a point in time, i.e. files that are not visible for users other
+     * than the owner because of their embargo date, as decided by {@link File#isVisibleForNonOwner(Instant)}.
+     *
+     * @param now the point in time.
+     * @return the query.
+     */
+    public static FileQuery underEmbargo(Instant now) {
+        return embargoDateBetween(requireNonNull(now), null);
+    }
+
+    public FileQuery and(FileQuery other) {
+        return new And(this, other);
+    }
+
+    public FileQuery or(FileQuery other) {
+        return new Or(this, other);
+    }
+
+    public FileQuery not() {
+        return new Not(this);
+    }
+
+    /**
+     * Tests the query against a single file, without an index.
+     *
+     * @param file the file.
+     * @return true if the file matches the query.
+     */
+    public abstract boolean matches(File file);
+
+    /**
+     * Computes the positions of the matching files of an index.
+     *
+     * @return a new bitmap that the caller may modify.
+     */
+    /* default */ abstract BitSet evaluate(FileIndex index);
+
+    private static final class All extends FileQuery {
+
+        @Override
+        public boolean matches(File file) {
+            return true;
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            BitSet bits = new BitSet(index.size());
+            bits.set(0, index.size());
+            return bits;
+        }
+    }
+
+    private static final class Equals extends FileQuery {
+
+        private final Attribute attribute;
+        private final Object value;
+
+        /* default */ Equals(Attribute attribute, Object value) {
+            this.attribute = attribute;
+            this.value = value;
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return Objects.equals(attribute.valueOf(file), value);
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            return index.bitmap(attribute, value);
+        }
+    }
+
+    private static final class Range<T extends Comparable<? super T>> extends FileQuery {
+
+        private final Function<FileIndex, RangeIndex<T>> rangeIndex;
+        private final Function<File, T> accessor;
+        private final T from;
+        private final T to;
+
+        /* default */ Range(Function<FileIndex, RangeIndex<T>> rangeIndex, Function<File, T> accessor, T from, T to) {
+            this.rangeIndex = rangeIndex;
+            this.accessor = accessor;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean matches(File file) {
+            T value = accessor.apply(file);
+            return !isNull(value)
+                   && (isNull(from) || value.compareTo(from) >= 0)
+                   && (isNull(to) || value.compareTo(to) <= 0);
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            return rangeIndex.apply(index).between(from, to);
+        }
+    }
+
+    private static final class And extends FileQuery {
+
+        private final FileQuery left;
+        private final FileQuery right;
+
+        /* default */ And(FileQuery left, FileQuery right) {
+            this.left = left;
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return left.matches(file) && right.matches(file);
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            BitSet bits = left.evaluate(index);
+            if (!bits.isEmpty()) {
+                bits.and(right.evaluate(index));
+            }
+            return bits;
+        }
+    }
+
+    private static final class Or extends FileQuery {
+
+        private final FileQuery left;
+        private final FileQuery right;
+
+        /* default */ Or(FileQuery left, FileQuery right) {
+            this.left = left;
+            this.right = requireNonNull(right);
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return left.matches(file) || right.matches(file);
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            BitSet bits = left.evaluate(index);
+            bits.or(right.evaluate(index));
+            return bits;
+        }
+    }
+
+    private static final class Not extends FileQuery {
+
+        private final FileQuery operand;
+
+        /* default */ Not(FileQuery operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean matches(File file) {
+            return !operand.matches(file);
+        }
+
+        @Override
+        /* default */ BitSet evaluate(FileIndex index) {
+            BitSet bits = operand.evaluate(index);
+            bits.flip(0, index.size());
+            return bits;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package no.unit.nva.file.model.query;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import no.unit.nva.file.model.File;
+
+/**
+ * The values of a field of the files of a {@link FileIndex} in sorted order, with the position of the file each value
+ * belongs to. A range query finds its first and last value by binary search and sets the positions in between, so it
+ * never looks at values outside the range. Files without a value are not in the index.
+ *
+ * @param <T> the type of the values.
+ */
+final class RangeIndex<T extends Comparable<? super T>> {
+
+    private final List<T> values;
+    private final int[] positions;
+
+    private RangeIndex(List<T> values, int[] positions) {
+        this.values = values;
+        this.positions = positions;
+    }
+
+    /* default */ static <T extends Comparable<? super T>> RangeIndex<T> of(List<File> files,
+                                                                             Function<File, T> accessor) {
+        List<Integer> sortedPositions = new ArrayList<>(files.size());
+        List<T> unsortedValues = new ArrayList<>(files.size());
+        for (int position = 0; position < files.size(); position++) {
+            T value = accessor.apply(files.get(position));
+            unsortedValues.add(value);
+            if (nonNull(value)) {
+                sortedPositions.add(position);
+            }
+        }
+        sortedPositions.sort(Comparator.comparing(unsortedValues::get));
+        List<T> values = new ArrayList<>(sortedPositions.size());
+        int[] positions = new int[sortedPositions.size()];
+        for (int index = 0; index < positions.length; index++) {
+            positions[index] = sortedPositions.get(index);
+            values.add(unsortedValues.get(positions[index]));
+        }
+        return new RangeIndex<>(values, positions);
+    }
+
+    /**
+     * Finds the files with a value in a range.
+     *
+     * @param from the smallest value in the range, or null for no lower bound.
+     * @param to   the largest value in the range, or null for no upper bound.
+     * @return the positions of the files.
+     */
+    /* default */ BitSet between(T from, T to) {
+        int start = isNull(from) ? 0 : search(from, false);
+        int end = isNull(to) ? values.size() : search(to, true);
+        BitSet bits = new BitSet();
+        for (int index = start; index < end; index++) {
+            bits.set(positions[index]);
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the index of the first value that is greater than, or if equal values are not skipped equal to, a value.
+     */
+    private int search(T value, boolean skipEqualValues) {
+        int low = 0;
+        int high = values.size();
+        while (low < high) {
+            int middle = low + high >>> 1;
+            int comparison = values.get(middle).compareTo(value);
+            if (comparison < 0 || skipEqualValues && comparison == 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
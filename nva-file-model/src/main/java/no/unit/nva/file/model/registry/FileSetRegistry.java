@@ -0,0 +1,274 @@
+package no.unit.nva.file.model.registry;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * A thread-safe cache of file sets, e.g. keyed by publication identifier, for services where many threads read the sets
+ * and a few update them. Sets are immutable, so the registry holds one snapshot per key and an update replaces the
+ * snapshot. Reads never lock. Every update is a compare-and-swap on the snapshot of a key, so an update computed from a
+ * snapshot that has since been replaced is retried or rejected instead of overwriting the newer set.
+ *
+ * <p>The total number of files in the registry is bounded. When an update takes it above the maximum, the least
+ * recently read or written sets are evicted until it is below {@value #EVICTION_TARGET_PERCENTAGE} percent of the
+ * maximum. The order is approximate, since reads that happen while sets are evicted may not be taken into account,
+ * and a single set with more files than the maximum is evicted right away. Evicted sets are reported as absent.
+ *
+ * @param <K> the type of the key of a file set.
+ */
+public class FileSetRegistry<K> {
+
+    public static final long ABSENT = 0;
+    public static final int EVICTION_TARGET_PERCENTAGE = 90;
+    public static final String INVALID_MAXIMUM_ERROR = "The maximum number of files must be positive";
+    public static final String UNKNOWN_KEY_ERROR = "The registry contains no file set for the key: %s";
+    public static final String UNKNOWN_FILE_ERROR = "The file set contains no file with identifier: %s";
+    private static final int PERCENT = 100;
+
+    private final ConcurrentMap<K, Registration> entries = new ConcurrentHashMap<>();
+    private final AtomicLong versions = new AtomicLong(ABSENT);
+    private final AtomicLong totalNumberOfFiles = new AtomicLong();
+    private final AtomicLong numberOfEvictions = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final long maximumNumberOfFiles;
+    private final long evictionTarget;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param maximumNumberOfFiles the maximum total number of files in the registered sets.
+     */
+    public FileSetRegistry(long maximumNumberOfFiles) {
+        if (maximumNumberOfFiles <= 0) {
+            throw new IllegalArgumentException(INVALID_MAXIMUM_ERROR);
+        }
+        this.maximumNumberOfFiles = maximumNumberOfFiles;
+        this.evictionTarget = maximumNumberOfFiles
+                              - maximumNumberOfFiles * (PERCENT - EVICTION_TARGET_PERCENTAGE) / PERCENT;
+    }
+
+    /**
+     * Returns the snapshot registered for a key, without locking.
+     *
+     * @param key the key of the file set.
+     * @return the snapshot, or empty if no set is registered for the key or it has been evicted.
+     */
+    public Optional<VersionedFileSet> get(K key) {
+        Registration registration = entries.get(key);
+        if (isNull(registration)) {
+            return Optional.empty();
+        }
+        registration.touch();
+        return Optional.of(registration.snapshot);
+    }
+
+    /**
+     * Registers a file set for a key, replacing whatever is registered.
+     *
+     * @param key     the key of the file set.
+     * @param fileSet the file set.
+     * @return the new snapshot.
+     */
+    public VersionedFileSet put(K key, FileSet fileSet) {
+        Optional<VersionedFileSet> replaced;
+        do {
+            replaced = replace(key, entries.get(key), fileSet);
+        } while (replaced.isEmpty());
+        return replaced.get();
+    }
+
+    /**
+     * Registers a file set for a key if the snapshot registered for the key still has a given version.
+     *
+     * @param key             the key of the file set.
+     * @param expectedVersion the version of the snapshot the set was computed from, or {@link #ABSENT} if no set should
+     *                        be registered for the key.
+     * @param fileSet         the file set.
+     * @return the new snapshot, or empty if the registered version was not the expected one.
+     */
+    public Optional<VersionedFileSet> compareAndSet(K key, long expectedVersion, FileSet fileSet) {
+        Registration current = entries.get(key);
+        if (versionOf(current) != expectedVersion) {
+            return Optional.empty();
+        }
+        return replace(key, current, fileSet);
+    }
+
+    /**
+     * Atomically replaces the set registered for a key with a set computed from it. The function may be called more
+     * than once if other threads update the same key, so it must not have side effects.
+     *
+     * @param key    the key of the file set.
+     * @param update a function that computes the new set from the registered set.
+     * @return the new snapshot.
+     * @throws IllegalArgumentException if no set is registered for the key.
+     */
+    public VersionedFileSet update(K key, UnaryOperator<FileSet> update) {
+        Optional<VersionedFileSet> replaced;
+        do {
+            Registration current = entries.get(key);
+            if (isNull(current)) {
+                throw new IllegalArgumentException(format(UNKNOWN_KEY_ERROR, key));
+            }
+            replaced = replace(key, current, update.apply(current.snapshot.getFileSet()));
+        } while (replaced.isEmpty());
+        return replaced.get();
+    }
+
+    /**
+     * Atomically replaces the file with the same identifier as a given file in the set registered for a key.
+     *
+     * @param key  the key of the file set.
+     * @param file the new version of the file.
+     * @return the new snapshot.
+     * @throws IllegalArgumentException if no set is registered for the key, or it contains no file with the identifier.
+     */
+    public VersionedFileSet replaceFile(K key, File file) {
+        return update(key, fileSet -> withFile(fileSet, file));
+    }
+
+    /**
+     * Removes the set registered for a key.
+     *
+     * @param key the key of the file set.
+     * @return the removed snapshot, or empty if no set was registered for the key.
+     */
+    public Optional<VersionedFileSet> remove(K key) {
+        Registration removed = entries.remove(key);
+        if (isNull(removed)) {
+            return Optional.empty();
+        }
+        totalNumberOfFiles.addAndGet(-removed.numberOfFiles());
+        return Optional.of(removed.snapshot);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getTotalNumberOfFiles() {
+        return totalNumberOfFiles.get();
+    }
+
+    public long getNumberOfEvictions() {
+        return numberOfEvictions.get();
+    }
+
+    private Optional<VersionedFileSet> replace(K key, Registration current, FileSet fileSet) {
+        Registration replacement = new Registration(new VersionedFileSet(fileSet, versions.incrementAndGet()));
+        boolean replaced = isNull(current)
+                               ? isNull(entries.putIfAbsent(key, replacement))
+                               : entries.replace(key, current, replacement);
+        if (!replaced) {
+            return Optional.empty();
+        }
+        long previousNumberOfFiles = isNull(current) ? 0 : current.numberOfFiles();
+        totalNumberOfFiles.addAndGet(replacement.numberOfFiles() - previousNumberOfFiles);
+        evictWhileFull();
+        return Optional.of(replacement.snapshot);
+    }
+
+    /**
+     * Evicts sets while the registry is full. Only one thread evicts at a time. It checks again after it has finished,
+     * so that an update that found another thread evicting is not left above the maximum.
+     */
+    private void evictWhileFull() {
+        while (totalNumberOfFiles.get() > maximumNumberOfFiles && evicting.compareAndSet(false, true)) {
+            try {
+                evictLeastRecentlyUsed();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        List<Candidate<K>> candidates = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Registration> entry : entries.entrySet()) {
+            candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::getLastAccess));
+        for (Candidate<K> candidate : candidates) {
+            if (totalNumberOfFiles.get() <= evictionTarget) {
+                return;
+            }
+            if (entries.remove(candidate.key, candidate.entry)) {
+                totalNumberOfFiles.addAndGet(-candidate.entry.numberOfFiles());
+                numberOfEvictions.incrementAndGet();
+            }
+        }
+    }
+
+    private static long versionOf(Registration registration) {
+        return isNull(registration) ? ABSENT : registration.snapshot.getVersion();
+    }
+
+    private static FileSet withFile(FileSet fileSet, File file) {
+        int position = fileSet.indexOf(file.getIdentifier());
+        if (position == FileSet.NOT_FOUND) {
+            throw new IllegalArgumentException(format(UNKNOWN_FILE_ERROR, file.getIdentifier()));
+        }
+        List<File> files = new ArrayList<>(fileSet.getFiles());
+        files.set(position, file);
+        return new FileSet(files);
+    }
+
+    /**
+     * A registered snapshot and the time it was last read or written. Registrations are compared by identity, so that a
+     * compare-and-swap only succeeds on the exact registration it was computed from.
+     */
+    private static final class Registration {
+
+        private final VersionedFileSet snapshot;
+        private final AtomicLong lastAccess = new AtomicLong(System.nanoTime());
+
+        /* default */ Registration(VersionedFileSet snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        /* default */ void touch() {
+            lastAccess.lazySet(System.nanoTime());
+        }
+
+        /* default */ long getLastAccess() {
+            return lastAccess.get();
+        }
+
+        /* default */ int numberOfFiles() {
+            return snapshot.getFileSet().getFiles().size();
+        }
+    }
+
+    /**
+     * A registration considered for eviction, with its time of last access when eviction started, so that sorting the
+     * candidates is not disturbed by concurrent reads.
+     */
+    private static final class Candidate<K> {
+
+        private final K key;
+        private final Registration entry;
+        private final long lastAccess;
+
+        /* default */ Candidate(K key, Registration entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.getLastAccess();
+        }
+
+        /* default */ long getLastAccess() {
+            return lastAccess;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package no.unit.nva.file.model.registry;
+
+import java.util.Objects;
+import no.unit.nva.file.model.FileSet;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * A snapshot of the file set registered for a key in a {@link FileSetRegistry}, with the version it was registered
+ * with.
+ */
+public class VersionedFileSet {
+
+    private final FileSet fileSet;
+    private final long version;
+
+    /* default */ VersionedFileSet(FileSet fileSet, long version) {
+        this.fileSet = fileSet;
+        this.version = version;
+    }
+
+    public FileSet getFileSet() {
+        return fileSet;
+    }
+
+    /**
+     * Returns the version of the snapshot, for a later {@link FileSetRegistry#compareAndSet}. Every change of the set
+     * registered for a key gives it a greater version, and a version is never reused, even after the key is removed.
+     *
+     * @return the version, which is always positive.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VersionedFileSet)) {
+            return false;
+        }
+        VersionedFileSet that = (VersionedFileSet) o;
+        return version == that.version && Objects.equals(fileSet, that.fileSet);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Objects.hash(fileSet, version);
+    }
+
+    @JacocoGenerated
+    @Override
+    public String toString() {
+        return "version " + version + ": " + fileSet;
+    }
+}
@@ -0,0 +1,186 @@
+package no.unit.nva.file.model.validation;
+
+import static java.util.Objects.isNull;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+
+/**
+ * Validates large numbers of file sets in parallel and collects every violation instead of stopping at the first one.
+ * The input is consumed sequentially and split into batches, which are validated on the executor. Only a bounded
+ * number of batches is in flight at a time, so that a stream of stored sets does not have to fit in memory, and so that
+ * the executor is kept busy without being flooded. By default, the bound is twice the parallelism of the executor.
+ *
+ * <p>Sets are validated against the same rules as {@link File#validate()} and {@link FileSet#FileSet(List)}, but
+ * violations are reported as {@link Violation}s with the index of the set in the input, without throwing.
+ */
+public class BulkValidator {
+
+    public static final int DEFAULT_BATCH_SIZE = 256;
+    public static final String INVALID_BATCH_SIZE_ERROR = "The batch size must be positive";
+    public static final String INVALID_BATCHES_IN_FLIGHT_ERROR =
+        "The maximum number of batches in flight must be positive";
+    private static final int BATCHES_IN_FLIGHT_PER_THREAD = 2;
+
+    private final Executor executor;
+    private final int batchSize;
+    private final int maximumBatchesInFlight;
+
+    /**
+     * Creates a validator that runs on the common fork-join pool.
+     */
+    public BulkValidator() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a validator that runs on a given executor. The number of batches in flight is bounded by twice the
+     * parallelism of the executor if it is a {@link ForkJoinPool}, and by twice the number of processors otherwise.
+     *
+     * @param executor  the executor that validates the batches.
+     * @param batchSize the number of sets validated by each task.
+     */
+    public BulkValidator(Executor executor, int batchSize) {
+        this(executor, batchSize, BATCHES_IN_FLIGHT_PER_THREAD * parallelismOf(executor));
+    }
+
+    /**
+     * Creates a validator that runs on a given executor, e.g. a thread pool of a known size.
+     *
+     * @param executor               the executor that validates the batches.
+     * @param batchSize              the number of sets validated by each task.
+     * @param maximumBatchesInFlight the number of batches that may be submitted to the executor and not yet collected.
+     */
+    public BulkValidator(Executor executor, int batchSize, int maximumBatchesInFlight) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(INVALID_BATCH_SIZE_ERROR);
+        }
+        if (maximumBatchesInFlight <= 0) {
+            throw new IllegalArgumentException(INVALID_BATCHES_IN_FLIGHT_ERROR);
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maximumBatchesInFlight = maximumBatchesInFlight;
+    }
+
+    /**
+     * Validates the licenses of the files of a collection of sets. The sets cannot contain duplicate identifiers,
+     * since {@link FileSet} rejects them on construction.
+     *
+     * @param fileSets the sets to validate. A null set is treated as an empty set.
+     * @return the violations of all sets.
+     */
+    public ValidationReport validate(Collection<FileSet> fileSets) {
+        return validate(fileSets.stream());
+    }
+
+    /**
+     * Validates the licenses of the files of a stream of sets.
+     *
+     * @param fileSets the sets to validate. A null set is treated as an empty set.
+     * @return the violations of all sets.
+     */
+    public ValidationReport validate(Stream<FileSet> fileSets) {
+        Stream<List<File>> files = fileSets.map(fileSet -> isNull(fileSet) ? List.of() : fileSet.getFiles());
+        return run(files.iterator(), false);
+    }
+
+    /**
+     * Validates lists of files that are meant to become file sets, e.g. read from storage without constructing a
+     * {@link FileSet}. Besides the licenses, the lists are checked for missing files and duplicate identifiers.
+     *
+     * @param fileLists the lists to validate. A null list is treated as an empty list.
+     * @return the violations of all lists.
+     */
+    public ValidationReport validateFileLists(Collection<List<File>> fileLists) {
+        return validateFileLists(fileLists.stream());
+    }
+
+    /**
+     * Validates a stream of lists of files that are meant to become file sets.
+     *
+     * @param fileLists the lists to validate. A null list is treated as an empty list.
+     * @return the violations of all lists.
+     */
+    public ValidationReport validateFileLists(Stream<List<File>> fileLists) {
+        Stream<List<File>> files = fileLists.map(list -> isNull(list) ? List.of() : list);
+        return run(files.iterator(), true);
+    }
+
+    private static int parallelismOf(Executor executor) {
+        return executor instanceof ForkJoinPool
+                   ? ((ForkJoinPool) executor).getParallelism()
+                   : Runtime.getRuntime().availableProcessors();
+    }
+
+    private ValidationReport run(Iterator<List<File>> fileLists, boolean checkDuplicates) {
+        Deque<CompletableFuture<List<Violation>>> batchesInFlight = new ArrayDeque<>();
+        List<Violation> violations = new ArrayList<>();
+        long numberOfSets = 0;
+        while (fileLists.hasNext()) {
+            if (batchesInFlight.size() >= maximumBatchesInFlight) {
+                violations.addAll(batchesInFlight.remove().join());
+            }
+            List<List<File>> batch = nextBatch(fileLists);
+            long firstSetIndex = numberOfSets;
+            numberOfSets += batch.size();
+            batchesInFlight.add(CompletableFuture.supplyAsync(
+                () -> validateBatch(batch, firstSetIndex, checkDuplicates), executor));
+        }
+        while (!batchesInFlight.isEmpty()) {
+            violations.addAll(batchesInFlight.remove().join());
+        }
+        return new ValidationReport(numberOfSets, violations);
+    }
+
+    private List<List<File>> nextBatch(Iterator<List<File>> fileLists) {
+        List<List<File>> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && fileLists.hasNext()) {
+            batch.add(fileLists.next());
+        }
+        return batch;
+    }
+
+    private static List<Violation> validateBatch(List<List<File>> batch, long firstSetIndex,
+                                                 boolean checkDuplicates) {
+        List<Violation> violations = new ArrayList<>();
+        for (int index = 0; index < batch.size(); index++) {
+            validateFiles(batch.get(index), firstSetIndex + index, checkDuplicates, violations);
+        }
+        return violations.isEmpty() ? Collections.emptyList() : violations;
+    }
+
+    private static void validateFiles(List<File> files, long setIndex, boolean checkDuplicates,
+                                      List<Violation> violations) {
+        Set<UUID> identifiers = checkDuplicates ? new HashSet<>() : Collections.emptySet();
+        int position = 0;
+        for (File file : files) {
+            if (isNull(file)) {
+                violations.add(new Violation(ViolationCode.MISSING_FILE, setIndex, position, null));
+            } else {
+                if (file.isMissingLicense()) {
+                    violations.add(new Violation(ViolationCode.MISSING_LICENSE, setIndex, position,
+                                                 file.getIdentifier()));
+                }
+                if (checkDuplicates && !identifiers.add(file.getIdentifier())) {
+                    violations.add(new Violation(ViolationCode.DUPLICATE_FILE_IDENTIFIER, setIndex, position,
+                                                 file.getIdentifier()));
+                }
+            }
+            position++;
+        }
+    }
+}
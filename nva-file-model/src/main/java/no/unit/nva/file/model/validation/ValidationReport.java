@@ -0,0 +1,30 @@
+package no.unit.nva.file.model.validation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The result of a bulk validation: all violations of all validated sets, ordered by set index and file position.
+ */
+public class ValidationReport {
+
+    private final long numberOfValidatedSets;
+    private final List<Violation> violations;
+
+    /* default */ ValidationReport(long numberOfValidatedSets, List<Violation> violations) {
+        this.numberOfValidatedSets = numberOfValidatedSets;
+        this.violations = Collections.unmodifiableList(violations);
+    }
+
+    public long getNumberOfValidatedSets() {
+        return numberOfValidatedSets;
+    }
+
+    public List<Violation> getViolations() {
+        return violations;
+    }
+
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+}
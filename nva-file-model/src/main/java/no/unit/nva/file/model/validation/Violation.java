@@ -0,0 +1,82 @@
+package no.unit.nva.file.model.validation;
+
+import java.util.Objects;
+import java.util.UUID;
+import nva.commons.core.JacocoGenerated;
+
+/**
+ * A single rule violation found by the {@link BulkValidator}.
+ */
+public class Violation {
+
+    private final ViolationCode code;
+    private final long setIndex;
+    private final int filePosition;
+    private final UUID fileIdentifier;
+
+    /* default */ Violation(ViolationCode code, long setIndex, int filePosition, UUID fileIdentifier) {
+        this.code = code;
+        this.setIndex = setIndex;
+        this.filePosition = filePosition;
+        this.fileIdentifier = fileIdentifier;
+    }
+
+    public ViolationCode getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the position of the set in the validated input.
+     *
+     * @return the index of the set, counting from zero.
+     */
+    public long getSetIndex() {
+        return setIndex;
+    }
+
+    /**
+     * Returns the position of the file in its set.
+     *
+     * @return the index of the file, counting from zero.
+     */
+    public int getFilePosition() {
+        return filePosition;
+    }
+
+    /**
+     * Returns the identifier of the file.
+     *
+     * @return the identifier, or null for a {@link ViolationCode#MISSING_FILE} or a file without identifier.
+     */
+    public UUID getFileIdentifier() {
+        return fileIdentifier;
+    }
+
+    @JacocoGenerated
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Violation)) {
+            return false;
+        }
+        Violation violation = (Violation) o;
+        return setIndex == violation.setIndex
+               && filePosition == violation.filePosition
+               && code == violation.code
+               && Objects.equals(fileIdentifier, violation.fileIdentifier);
+    }
+
+    @JacocoGenerated
+    @Override
+    public int hashCode() {
+        return Objects.hash(code, setIndex, filePosition, fileIdentifier);
+    }
+
+    @JacocoGenerated
+    @Override
+    public String toString() {
+        return code + " in set " + setIndex + " at position " + filePosition + ": " + fileIdentifier;
+    }
+}
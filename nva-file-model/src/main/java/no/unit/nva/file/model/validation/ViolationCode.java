@@ -0,0 +1,19 @@
+package no.unit.nva.file.model.validation;
+
+/**
+ * The rules checked by the {@link BulkValidator}.
+ */
+public enum ViolationCode {
+    /**
+     * The file has no license and is not an administrative agreement.
+     */
+    MISSING_LICENSE,
+    /**
+     * The file has the same identifier as a file earlier in the same set.
+     */
+    DUPLICATE_FILE_IDENTIFIER,
+    /**
+     * The set contains a null entry instead of a file.
+     */
+    MISSING_FILE
+}
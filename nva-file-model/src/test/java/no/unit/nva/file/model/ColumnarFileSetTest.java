@@ -0,0 +1,131 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class ColumnarFileSetTest {
+
+    public static final ObjectMapper dataModelObjectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldContainTheSameFilesAsTheFileSetItWasCreatedFrom() {
+        var fileSet = new FileSet(variedFiles());
+        var columnarFileSet = ColumnarFileSet.of(fileSet);
+
+        assertThat(columnarFileSet.size(), is(equalTo(fileSet.getFiles().size())));
+        assertThat(columnarFileSet.getFiles(), is(equalTo(fileSet.getFiles())));
+        assertThat(columnarFileSet.fileAt(1), is(equalTo(fileSet.getFiles().get(1))));
+        assertThat(columnarFileSet.toFileSet(), is(equalTo(fileSet)));
+    }
+
+    @Test
+    void shouldLookUpFilesByIdentifierLikeFileSet() {
+        var files = new ArrayList<>(randomFiles(1000));
+        files.addAll(variedFiles());
+        var fileSet = new FileSet(files);
+        var columnarFileSet = ColumnarFileSet.of(fileSet);
+
+        for (File file : files) {
+            var identifier = file.getIdentifier();
+            assertThat(columnarFileSet.indexOf(identifier), is(equalTo(fileSet.indexOf(identifier))));
+            assertThat(columnarFileSet.getFile(identifier), is(equalTo(Optional.of(file))));
+            assertThat(columnarFileSet.containsFile(identifier), is(true));
+        }
+        var unknown = UUID.randomUUID();
+        assertThat(columnarFileSet.indexOf(unknown), is(equalTo(FileSet.NOT_FOUND)));
+        assertThat(columnarFileSet.getFile(unknown), is(equalTo(Optional.empty())));
+        assertThat(columnarFileSet.containsFile(unknown), is(false));
+        assertThat(ColumnarFileSet.of(new FileSet(List.of())).containsFile(null), is(false));
+    }
+
+    @Test
+    void shouldKeepEmbargoDatesAtTheLimitsOfInstant() {
+        var files = List.of(randomFile(UUID.randomUUID(), Instant.MAX), randomFile(UUID.randomUUID(), Instant.MIN));
+
+        assertThat(ColumnarFileSet.of(new FileSet(files)).getFiles(), is(equalTo(files)));
+    }
+
+    @Test
+    void shouldBeEqualWhenAllColumnsAreEqual() {
+        var files = variedFiles();
+        var columnarFileSet = ColumnarFileSet.of(new FileSet(files));
+        var equal = ColumnarFileSet.of(new FileSet(new ArrayList<>(files)));
+        var renamed = new ArrayList<>(files);
+        renamed.set(0, files.get(0).copy().withName("renamed.pdf").build());
+        var delayed = new ArrayList<>(files);
+        delayed.set(3, files.get(3).copy().withEmbargoDate(files.get(3).getEmbargoDate().orElseThrow().plusNanos(1))
+                                 .build());
+
+        assertThat(columnarFileSet, is(equalTo(columnarFileSet)));
+        assertThat(columnarFileSet, is(equalTo(equal)));
+        assertThat(columnarFileSet.hashCode(), is(equalTo(equal.hashCode())));
+        assertThat(columnarFileSet, is(not(equalTo(ColumnarFileSet.of(new FileSet(renamed))))));
+        assertThat(columnarFileSet, is(not(equalTo(ColumnarFileSet.of(new FileSet(delayed))))));
+        assertThat(columnarFileSet, is(not(equalTo(ColumnarFileSet.of(new FileSet(files.subList(1, 7)))))));
+        assertThat(columnarFileSet, is(not(equalTo(new FileSet(files)))));
+    }
+
+    @Test
+    void shouldSerializeToTheSameJsonAsFileSet() throws JsonProcessingException {
+        var fileSet = new FileSet(variedFiles());
+        var expected = dataModelObjectMapper.writeValueAsString(fileSet);
+        var actual = dataModelObjectMapper.writeValueAsString(ColumnarFileSet.of(fileSet));
+        assertThat(actual, is(equalTo(expected)));
+    }
+
+    @Test
+    void shouldDeserializeFileSetJson() throws JsonProcessingException {
+        var fileSet = new FileSet(variedFiles());
+        var json = dataModelObjectMapper.writeValueAsString(fileSet);
+        var columnarFileSet = dataModelObjectMapper.readValue(json, ColumnarFileSet.class);
+        assertThat(columnarFileSet, is(equalTo(ColumnarFileSet.of(fileSet))));
+        assertThat(columnarFileSet.hashCode(), is(equalTo(ColumnarFileSet.of(fileSet).hashCode())));
+    }
+
+    @Test
+    void shouldRejectDuplicateIdentifiers() {
+        var file = randomFile();
+        var json = "{\"type\":\"FileSet\",\"files\":[" + toJson(file) + "," + toJson(file) + "]}";
+        assertThrows(ValueInstantiationException.class,
+                     () -> dataModelObjectMapper.readValue(json, ColumnarFileSet.class));
+    }
+
+    @Test
+    void shouldNotAllowModificationOfFiles() {
+        var columnarFileSet = ColumnarFileSet.of(new FileSet(randomFiles(2)));
+        assertThrows(UnsupportedOperationException.class, () -> columnarFileSet.getFiles().remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarFileSet.fileAt(2));
+    }
+
+    private static List<File> variedFiles() {
+        var files = new ArrayList<>(randomFiles(3));
+        files.add(randomFile(UUID.randomUUID(), Instant.parse("2030-01-01T10:00:00.123Z")));
+        files.add(randomFile(UUID.randomUUID(), Instant.parse("1969-12-31T23:59:59.123456789Z")));
+        files.add(new File.Builder().withIdentifier(UUID.randomUUID()).withAdministrativeAgreement(true).build());
+        files.add(new File.Builder().withType(FileType.UNPUBLISHED_FILE).build());
+        return files;
+    }
+
+    private static String toJson(File file) {
+        try {
+            return dataModelObjectMapper.writeValueAsString(file);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
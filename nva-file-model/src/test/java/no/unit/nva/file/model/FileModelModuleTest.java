@@ -0,0 +1,190 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.ccByLicense;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class FileModelModuleTest {
+
+    public static final Include[] INCLUSIONS = {Include.ALWAYS, Include.NON_NULL, Include.NON_ABSENT,
+        Include.NON_EMPTY, Include.NON_DEFAULT};
+    public static final String FILE_TEMPLATE = "{\"type\":\"PublishedFile\",\"identifier\":\"%s\",%s}";
+    public static final String[] FILE_PROPERTIES = {
+        "\"type\":\"unpublishedfile\"",
+        "\"type\":\"File\",\"administrativeAgreement\":true",
+        "\"type\":null,\"name\":null,\"size\":null,\"license\":null,\"embargoDate\":null",
+        "\"size\":\"12\",\"name\":12,\"mimeType\":true,\"administrativeAgreement\":null",
+        "\"publisherAuthority\":\"true\"",
+        "\"embargoDate\":0",
+        "\"embargoDate\":\"2022-06-01T10:00:00.123456789Z\"",
+        "\"license\":{\"identifier\":\"CC-BY\",\"type\":\"License\"}",
+        "\"license\":{\"type\":\"License\",\"labels\":null,\"link\":\"\"}",
+        "\"license\":{\"type\":\"License\",\"labels\":{\"en\":null,\"nb\":1},\"link\":\"https://example.org\"}",
+        "\"unknown\":{\"name\":\"ignored\"},\"license\":{\"type\":\"License\",\"unknown\":[1,2]}"
+    };
+    public static final String[] INVALID_FILES = {
+        "[]",
+        "\"file\"",
+        "{\"type\":\"nonsense\"}",
+        "{\"type\":5}",
+        "{\"identifier\":\"not a uuid\"}",
+        "{\"size\":\"large\"}",
+        "{\"embargoDate\":\"tomorrow\"}",
+        "{\"license\":{\"identifier\":\"CC-BY\"}}",
+        "{\"license\":{\"type\":\"Other\"}}",
+        "{\"license\":{\"type\":\"License\",\"labels\":[]}}"
+    };
+
+    @Test
+    void shouldRegisterHandWrittenSerializers() throws JsonProcessingException {
+        var objectMapper = withModule(JsonUtils.dtoObjectMapper);
+        var serializer = objectMapper.getSerializerProviderInstance().findValueSerializer(File.class, null);
+
+        assertThat(serializer, is(instanceOf(FileSerializer.class)));
+    }
+
+    @Test
+    void shouldSerializeLikeTheAnnotatedModelForAllInclusions() throws JsonProcessingException {
+        for (Include inclusion : INCLUSIONS) {
+            var objectMapper = JsonUtils.dtoObjectMapper.copy().setSerializationInclusion(inclusion);
+            assertSameJson(objectMapper, withModule(objectMapper));
+        }
+    }
+
+    @Test
+    void shouldSerializeLikeTheAnnotatedModelWhenMapEntriesAreOrdered() throws JsonProcessingException {
+        var objectMapper = JsonUtils.dtoObjectMapper.copy()
+                               .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+        assertSameJson(objectMapper, withModule(objectMapper));
+    }
+
+    @Test
+    void shouldDeserializeLikeTheAnnotatedModel() throws JsonProcessingException {
+        var objectMapper = JsonUtils.dtoObjectMapper;
+        var moduleMapper = withModule(objectMapper);
+        for (String properties : FILE_PROPERTIES) {
+            var json = String.format(FILE_TEMPLATE, UUID.randomUUID(), properties);
+            assertThat(json, moduleMapper.readValue(json, File.class),
+                       is(equalTo(objectMapper.readValue(json, File.class))));
+        }
+        for (Object value : samples()) {
+            var json = objectMapper.writeValueAsString(value);
+            assertThat(json, moduleMapper.readValue(json, value.getClass()), is(equalTo(value)));
+        }
+    }
+
+    @Test
+    void shouldFailLikeTheAnnotatedModelOnInvalidInput() {
+        var objectMapper = JsonUtils.dtoObjectMapper;
+        var moduleMapper = withModule(objectMapper);
+        for (String json : INVALID_FILES) {
+            var expected = assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(json, File.class));
+            var actual = assertThrows(JsonProcessingException.class, () -> moduleMapper.readValue(json, File.class));
+            assertThat(json, actual.getClass().getName(), is(equalTo(expected.getClass().getName())));
+        }
+    }
+
+    @Test
+    void shouldFailOnUnknownPropertiesWhenMapperDoesNotAllowThem() {
+        var objectMapper = JsonUtils.dtoObjectMapper.copy()
+                               .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        var moduleMapper = withModule(objectMapper);
+        for (String json : List.of("{\"unknown\":1}", "{\"license\":{\"type\":\"License\",\"unknown\":1}}")) {
+            var expected = assertThrows(JsonProcessingException.class, () -> objectMapper.readValue(json, File.class));
+            var actual = assertThrows(JsonProcessingException.class, () -> moduleMapper.readValue(json, File.class));
+            assertThat(json, actual.getClass().getName(), is(equalTo(expected.getClass().getName())));
+        }
+    }
+
+    @Test
+    void shouldShareLicensesThroughThePool() throws JsonProcessingException {
+        var objectMapper = withModule(JsonUtils.dtoObjectMapper);
+        var json = objectMapper.writeValueAsString(new FileSet(randomFiles(2)));
+
+        var files = objectMapper.readValue(json, FileSet.class).getFiles();
+
+        assertThat(files.get(0).getLicense().isImmutable(), is(true));
+        assertThat(files.get(0).getLicense() == files.get(1).getLicense(), is(true));
+    }
+
+    @Test
+    void shouldRejectDuplicateIdentifiersInFileSet() throws JsonProcessingException {
+        var objectMapper = withModule(JsonUtils.dtoObjectMapper);
+        var file = objectMapper.writeValueAsString(randomFile());
+        var json = "{\"type\":\"FileSet\",\"files\":[" + file + "," + file + "]}";
+
+        assertThrows(ValueInstantiationException.class, () -> objectMapper.readValue(json, FileSet.class));
+    }
+
+    private static void assertSameJson(ObjectMapper objectMapper, ObjectMapper moduleMapper)
+        throws JsonProcessingException {
+        for (Object value : samples()) {
+            var expected = objectMapper.writeValueAsString(value);
+            assertThat(moduleMapper.writeValueAsString(value), is(equalTo(expected)));
+        }
+    }
+
+    private static ObjectMapper withModule(ObjectMapper objectMapper) {
+        return objectMapper.copy().registerModule(new FileModelModule());
+    }
+
+    private static List<Object> samples() {
+        Map<String, String> labels = new HashMap<>();
+        labels.put("nb", "");
+        labels.put("en", null);
+        Map<String, String> orderedLabels = new LinkedHashMap<>();
+        orderedLabels.put("nn", "CC-BY 4.0");
+        orderedLabels.put("en", "CC-BY 4.0");
+        var emptyLicense = new License.Builder().withIdentifier("").withLabels(labels).withLink(URI.create("")).build();
+        var orderedLicense = new License.Builder().withIdentifier("CC-BY").withLabels(orderedLabels).build();
+        var files = new ArrayList<File>();
+        files.add(randomFile(UUID.randomUUID(), Instant.parse("2022-06-01T10:00:00.123Z")));
+        files.add(new File.Builder().build());
+        files.add(new File.Builder()
+                      .withIdentifier(UUID.randomUUID())
+                      .withName("")
+                      .withMimeType("")
+                      .withSize(0L)
+                      .withLicense(emptyLicense)
+                      .withType(FileType.FILE)
+                      .build());
+        files.add(new File.Builder()
+                      .withIdentifier(UUID.randomUUID())
+                      .withLicense(orderedLicense)
+                      .withAdministrativeAgreement(true)
+                      .withPublisherAuthority(true)
+                      .build());
+        var samples = new ArrayList<Object>(files);
+        samples.add(ccByLicense());
+        samples.add(new License());
+        samples.add(new License.Builder().withLabels(Collections.singletonMap("en", null)).build());
+        samples.add(new License.Builder().withLabels(Map.of("nb", "")).build());
+        samples.add(emptyLicense);
+        samples.add(new FileSet(files.subList(2, files.size())));
+        samples.add(new FileSet(List.of()));
+        samples.add(ColumnarFileSet.of(new FileSet(files.subList(2, files.size()))));
+        return samples;
+    }
+}
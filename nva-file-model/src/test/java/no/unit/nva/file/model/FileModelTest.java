@@ -8,17 +8,24 @@ import static org.hamcrest.Matchers.containsStringIgnoringCase;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.net.URI;
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import no.unit.nva.commons.json.JsonUtils;
 import no.unit.nva.file.model.File.Builder;
@@ -156,6 +163,96 @@ public class FileModelTest {
         assertThat(unmapped.isVisibleForNonOwner(), equalTo(false));
     }
 
+    @Test
+    void shouldLookUpFilesByIdentifier() {
+        var first = getFile(FIRST_FILE_TXT, false, getCcByLicense());
+        var second = getFile(SECOND_FILE_TXT, false, getCcByLicense());
+        var fileSet = new FileSet(List.of(first, second));
+
+        assertThat(fileSet.getFile(second.getIdentifier()), is(equalTo(Optional.of(second))));
+        assertThat(fileSet.indexOf(second.getIdentifier()), is(equalTo(1)));
+        assertTrue(fileSet.containsFile(first.getIdentifier()));
+    }
+
+    @Test
+    void shouldNotFindFilesThatAreNotInFileSet() {
+        var fileSet = new FileSet(List.of(getFile(FIRST_FILE_TXT, false, getCcByLicense())));
+        var identifier = UUID.randomUUID();
+
+        assertThat(fileSet.getFile(identifier), is(equalTo(Optional.empty())));
+        assertThat(fileSet.indexOf(identifier), is(equalTo(FileSet.NOT_FOUND)));
+        assertFalse(fileSet.containsFile(identifier));
+        assertFalse(new FileSet(null).containsFile(identifier));
+    }
+
+    @Test
+    void shouldLookUpFilesByIdentifierInDeserializedFileSet() throws JsonProcessingException {
+        var file = getFile(FIRST_FILE_TXT, false, getCcByLicense());
+        var mapped = dataModelObjectMapper.writeValueAsString(new FileSet(List.of(file)));
+        var unmapped = dataModelObjectMapper.readValue(mapped, FileSet.class);
+
+        assertThat(unmapped.getFile(file.getIdentifier()), is(equalTo(Optional.of(file))));
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToTheListItWasCreatedFrom() {
+        var file = getFile(FIRST_FILE_TXT, false, getCcByLicense());
+        var files = new ArrayList<>(List.of(file));
+        var fileSet = new FileSet(files);
+        files.clear();
+
+        assertThat(fileSet.getFiles(), is(equalTo(List.of(file))));
+        assertThrows(UnsupportedOperationException.class, () -> fileSet.getFiles().clear());
+    }
+
+    @Test
+    void shouldEvaluateEmbargoAgainstGivenInstant() {
+        var embargoDate = Instant.now().plus(Duration.ofDays(1));
+        var file = getFile(UUID.randomUUID(), FIRST_FILE_TXT, false, embargoDate, getCcByLicense());
+
+        assertFalse(file.isVisibleForNonOwner(embargoDate));
+        assertTrue(file.isVisibleForNonOwner(embargoDate.plusMillis(1)));
+        assertTrue(file.isVisibleForNonOwner(Clock.fixed(embargoDate.plusMillis(1), ZoneOffset.UTC)));
+    }
+
+    @Test
+    void shouldReturnFilesVisibleForNonOwnerAtTheSameInstant() {
+        var now = Instant.now();
+        var visible = getFile(UUID.randomUUID(), FIRST_FILE_TXT, false, now.minusSeconds(1), getCcByLicense());
+        var embargoed = getFile(UUID.randomUUID(), SECOND_FILE_TXT, false, now.plusSeconds(1), getCcByLicense());
+        var administrativeAgreement = getFile(UUID.randomUUID(), SECOND_FILE_TXT, true, null, null);
+        var fileSet = new FileSet(List.of(embargoed, visible, administrativeAgreement));
+
+        assertThat(fileSet.getFilesVisibleForNonOwner(now), is(equalTo(List.of(visible))));
+        assertThat(fileSet.getFilesVisibleForNonOwner(Clock.fixed(now, ZoneOffset.UTC)), is(equalTo(List.of(visible))));
+        assertThat(fileSet.getVisibilityForNonOwner(now), is(equalTo(BitSet.valueOf(new long[]{0b010}))));
+    }
+
+    @Test
+    void shouldHaveEqualHashCodesForEqualFilesAndFileSets() throws JsonProcessingException {
+        var file = getFile(FIRST_FILE_TXT, false, getCcByLicense());
+        var fileSet = new FileSet(List.of(file));
+        var unmapped = dataModelObjectMapper.readValue(dataModelObjectMapper.writeValueAsString(fileSet),
+                                                       FileSet.class);
+
+        assertThat(unmapped.getFiles().get(0).hashCode(), is(equalTo(file.hashCode())));
+        assertThat(unmapped.hashCode(), is(equalTo(fileSet.hashCode())));
+        assertThat(unmapped.hashCode(), is(equalTo(unmapped.hashCode())));
+    }
+
+    @Test
+    void shouldUpdateHashCodesWhenMutableLicenseIsModified() {
+        var license = getCcByLicense();
+        var fileSet = new FileSet(List.of(getFile(FIRST_FILE_TXT, false, license)));
+        var file = fileSet.getFiles().get(0);
+        var fileHashCode = file.hashCode();
+        var fileSetHashCode = fileSet.hashCode();
+        license.setIdentifier(EN);
+
+        assertThat(file.hashCode(), is(not(equalTo(fileHashCode))));
+        assertThat(fileSet.hashCode(), is(not(equalTo(fileSetHashCode))));
+    }
+
     private File getFile(String fileName, boolean administrativeAgreement, License license) {
         return getFile(UUID.randomUUID(), fileName, administrativeAgreement, null, license);
     }
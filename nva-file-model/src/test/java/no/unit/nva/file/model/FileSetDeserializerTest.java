@@ -0,0 +1,88 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.FileSet.DUPLICATE_FILE_IDENTIFIER_ERROR;
+import static no.unit.nva.file.model.FileSetDeserializer.FILES_NOT_AN_ARRAY_ERROR;
+import static no.unit.nva.file.model.FileSetDeserializer.NULL_FILE_ERROR;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.io.IOException;
+import java.util.List;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class FileSetDeserializerTest {
+
+    public static final ObjectMapper dataModelObjectMapper = JsonUtils.dtoObjectMapper;
+    public static final String FILE_SET_PREFIX = "{\"type\":\"FileSet\",\"files\":[";
+
+    @Test
+    void shouldDeserializeFileSetWithManyFiles() throws IOException {
+        var fileSet = new FileSet(randomFiles(1000));
+        var json = dataModelObjectMapper.writeValueAsString(fileSet);
+        var deserialized = dataModelObjectMapper.readValue(json, FileSet.class);
+        assertThat(deserialized, is(equalTo(fileSet)));
+    }
+
+    @Test
+    void shouldDeserializeFileSetWhenTypePropertyIsNotTheFirstProperty() throws IOException {
+        var fileSet = new FileSet(randomFiles(3));
+        var files = dataModelObjectMapper.writeValueAsString(fileSet.getFiles());
+        var json = "{\"files\":" + files + ",\"type\":\"FileSet\"}";
+        assertThat(dataModelObjectMapper.readValue(json, FileSet.class), is(equalTo(fileSet)));
+    }
+
+    @Test
+    void shouldReturnEmptyFileSetWhenFilesAreNull() throws IOException {
+        var json = "{\"type\":\"FileSet\",\"files\":null}";
+        assertThat(dataModelObjectMapper.readValue(json, FileSet.class).getFiles(), is(empty()));
+    }
+
+    @Test
+    void shouldIgnoreUnknownPropertiesWhenMapperAllowsThem() throws IOException {
+        var mapper = dataModelObjectMapper.copy().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        var json = "{\"type\":\"FileSet\",\"unknown\":{\"files\":[1]},\"files\":[]}";
+        assertThat(mapper.readValue(json, FileSet.class).getFiles(), is(empty()));
+    }
+
+    @Test
+    void shouldFailOnFirstDuplicateIdentifierWithoutParsingTheRemainingInput() throws IOException {
+        var file = dataModelObjectMapper.writeValueAsString(randomFile());
+        var truncatedJson = FILE_SET_PREFIX + file + "," + file + ",{\"this is not";
+        var exception = assertThrows(ValueInstantiationException.class,
+                                     () -> dataModelObjectMapper.readValue(truncatedJson, FileSet.class));
+        assertThat(exception.getCause().getMessage(), is(equalTo(DUPLICATE_FILE_IDENTIFIER_ERROR)));
+    }
+
+    @Test
+    void shouldFailWhenFilesIsNotAnArray() {
+        var json = "{\"type\":\"FileSet\",\"files\":{}}";
+        var exception = assertThrows(MismatchedInputException.class,
+                                     () -> dataModelObjectMapper.readValue(json, FileSet.class));
+        assertThat(exception.getMessage(), containsString(FILES_NOT_AN_ARRAY_ERROR));
+    }
+
+    @Test
+    void shouldFailWhenFilesContainNull() {
+        var json = FILE_SET_PREFIX + "null]}";
+        var exception = assertThrows(MismatchedInputException.class,
+                                     () -> dataModelObjectMapper.readValue(json, FileSet.class));
+        assertThat(exception.getMessage(), containsString(NULL_FILE_ERROR));
+    }
+
+    @Test
+    void shouldProduceSameFileSetAsTheConstructorForUniqueFiles() throws IOException {
+        var files = randomFiles(5);
+        var json = dataModelObjectMapper.writeValueAsString(new FileSet(files));
+        assertThat(dataModelObjectMapper.readValue(json, FileSet.class).getFiles(), is(equalTo(List.copyOf(files))));
+    }
+}
@@ -0,0 +1,152 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.APPLICATION_PDF;
+import static no.unit.nva.file.model.TestFiles.CC_BY;
+import static no.unit.nva.file.model.TestFiles.SIZE;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class FileSetSummaryTest {
+
+    public static final Instant FIRST_EMBARGO = Instant.parse("2030-01-01T00:00:00Z");
+    public static final Instant SECOND_EMBARGO = Instant.parse("2031-01-01T00:00:00Z");
+    public static final String IMAGE_JPEG = "image/jpeg";
+    public static final String OTHER_LICENSE = "CC0";
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldAggregateTheFilesOfTheSet() {
+        var fileSet = new FileSet(sampleFiles());
+
+        var summary = fileSet.getSummary();
+
+        assertThat(summary.getNumberOfFiles(), is(equalTo(5)));
+        assertThat(summary.getTotalSize(), is(equalTo(3 * SIZE)));
+        assertThat(summary.getCountsPerFileType(), is(equalTo(Map.of(FileType.PUBLISHED_FILE, 3,
+                                                                     FileType.UNPUBLISHABLE_FILE, 1,
+                                                                     FileType.UNPUBLISHED_FILE, 1))));
+        assertThat(summary.getCountsPerMimeType(), is(equalTo(Map.of(APPLICATION_PDF, 3, IMAGE_JPEG, 1))));
+        assertThat(summary.getCountsPerLicense(), is(equalTo(Map.of(CC_BY, 3))));
+        assertThat(summary.getEmbargoDates(), is(equalTo(List.of(FIRST_EMBARGO, SECOND_EMBARGO))));
+    }
+
+    @Test
+    void shouldComputeTheSummaryOnceWhenLicensesAreShared() throws JsonProcessingException {
+        var fileSet = objectMapper.readValue(objectMapper.writeValueAsString(new FileSet(sampleFiles())),
+                                             FileSet.class);
+        var columnarFileSet = ColumnarFileSet.of(fileSet);
+
+        assertThat(fileSet.getSummary(), is(sameInstance(fileSet.getSummary())));
+        assertThat(columnarFileSet.getSummary(), is(sameInstance(columnarFileSet.getSummary())));
+        assertThat(columnarFileSet.getSummary(), is(equalTo(fileSet.getSummary())));
+    }
+
+    @Test
+    void shouldReflectChangesOfMutableLicenses() {
+        var license = TestFiles.ccByLicense();
+        var fileSet = new FileSet(List.of(new File.Builder().withIdentifier(UUID.randomUUID())
+                                              .withLicense(license)
+                                              .build()));
+        var columnarFileSet = ColumnarFileSet.of(fileSet);
+        license.setIdentifier(OTHER_LICENSE);
+
+        assertThat(fileSet.getSummary().getCountsPerLicense(), is(equalTo(Map.of(OTHER_LICENSE, 1))));
+        assertThat(columnarFileSet.getSummary().getCountsPerLicense(), is(equalTo(Map.of(OTHER_LICENSE, 1))));
+    }
+
+    @Test
+    void shouldFindTheEarliestUpcomingEmbargoDate() {
+        var summary = new FileSet(sampleFiles()).getSummary();
+
+        assertThat(summary.getEarliestUpcomingEmbargoDate(Instant.EPOCH), is(equalTo(Optional.of(FIRST_EMBARGO))));
+        assertThat(summary.getEarliestUpcomingEmbargoDate(FIRST_EMBARGO), is(equalTo(Optional.of(FIRST_EMBARGO))));
+        assertThat(summary.getEarliestUpcomingEmbargoDate(Clock.fixed(FIRST_EMBARGO.plusSeconds(1), ZoneOffset.UTC)),
+                   is(equalTo(Optional.of(SECOND_EMBARGO))));
+        assertThat(summary.getEarliestUpcomingEmbargoDate(SECOND_EMBARGO.plusSeconds(1)),
+                   is(equalTo(Optional.empty())));
+    }
+
+    @Test
+    void shouldNotSerializeTheSummary() throws JsonProcessingException {
+        var fileSet = new FileSet(sampleFiles());
+        fileSet.getSummary();
+        var expected = "{\"type\":\"FileSet\",\"files\":" + objectMapper.writeValueAsString(fileSet.getFiles()) + "}";
+        var moduleObjectMapper = objectMapper.copy().registerModule(new FileModelModule());
+
+        assertThat(objectMapper.writeValueAsString(fileSet), is(equalTo(expected)));
+        assertThat(moduleObjectMapper.writeValueAsString(fileSet), is(equalTo(expected)));
+        assertThat(objectMapper.writeValueAsString(ColumnarFileSet.of(fileSet)), is(equalTo(expected)));
+    }
+
+    @Test
+    void shouldRoundTripTheSummary() throws JsonProcessingException {
+        var summary = new FileSet(sampleFiles()).getSummary();
+
+        var json = objectMapper.writeValueAsString(summary);
+
+        assertThat(objectMapper.readValue(json, FileSetSummary.class), is(equalTo(summary)));
+        assertThat(objectMapper.readValue("{}", FileSetSummary.class), is(equalTo(FileSetSummary.of(List.of()))));
+    }
+
+    @Test
+    void shouldReadTheSummaryWithoutReadingTheFiles() throws IOException {
+        var summary = new FileSet(sampleFiles()).getSummary();
+        var json = "{\"type\":\"FileSet\",\"summary\":" + objectMapper.writeValueAsString(summary)
+                   + ",\"files\":[{\"type\":\"not a file type\"}";
+
+        assertThat(FileSetSummary.readFromFileSet(objectMapper, json), is(equalTo(summary)));
+        var input = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertThat(FileSetSummary.readFromFileSet(objectMapper, input), is(equalTo(summary)));
+    }
+
+    @Test
+    void shouldSummarizeTheFilesWhenTheJsonHasNoSummary() throws IOException {
+        var fileSet = new FileSet(sampleFiles());
+        var json = "{\"type\":\"FileSet\",\"summary\":null,\"files\":"
+                   + objectMapper.writeValueAsString(fileSet.getFiles()) + "}";
+
+        assertThat(FileSetSummary.readFromFileSet(objectMapper, json), is(equalTo(fileSet.getSummary())));
+        assertThat(FileSetSummary.readFromFileSet(objectMapper, "{\"type\":\"FileSet\"}"),
+                   is(equalTo(FileSetSummary.of(List.of()))));
+    }
+
+    @Test
+    void shouldRejectJsonThatIsNotAnObject() {
+        assertThrows(MismatchedInputException.class, () -> FileSetSummary.readFromFileSet(objectMapper, "[]"));
+    }
+
+    private static List<File> sampleFiles() {
+        return List.of(randomFile(UUID.randomUUID(), SECOND_EMBARGO),
+                       randomFile(UUID.randomUUID(), FIRST_EMBARGO),
+                       randomFile(UUID.randomUUID(), SECOND_EMBARGO),
+                       new File.Builder()
+                           .withIdentifier(UUID.randomUUID())
+                           .withMimeType(IMAGE_JPEG)
+                           .withType(FileType.UNPUBLISHED_FILE)
+                           .build(),
+                       new File.Builder()
+                           .withIdentifier(UUID.randomUUID())
+                           .withAdministrativeAgreement(true)
+                           .build());
+    }
+}
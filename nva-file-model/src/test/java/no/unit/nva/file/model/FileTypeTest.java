@@ -8,7 +8,9 @@ import static no.unit.nva.file.model.FileType.ERROR_MESSAGE_TEMPLATE;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.Locale;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
@@ -26,4 +28,23 @@ public class FileTypeTest {
 
         assertThat(exception.getMessage(), is(equalTo(expected)));
     }
+
+    @Test
+    void shouldLookUpFileTypesIgnoringCase() {
+        for (FileType type : FileType.values()) {
+            assertThat(FileType.lookUp(type.getValue()), is(sameInstance(type)));
+            assertThat(FileType.lookUp(type.getValue().toLowerCase(Locale.ROOT)), is(sameInstance(type)));
+            assertThat(FileType.lookUp(type.getValue().toUpperCase(Locale.ROOT)), is(sameInstance(type)));
+        }
+    }
+
+    @Test
+    void shouldThrowRuntimeExceptionWhenInputIsNull() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> FileType.lookUp(null));
+        var expected = format(ERROR_MESSAGE_TEMPLATE, null, stream(FileType.values())
+                                                                .map(FileType::toString)
+                                                                .collect(joining(DELIMITER)));
+
+        assertThat(exception.getMessage(), is(equalTo(expected)));
+    }
 }
@@ -0,0 +1,80 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.Fingerprint.INVALID_FINGERPRINT_ERROR;
+import static no.unit.nva.file.model.TestFiles.CC_BY;
+import static no.unit.nva.file.model.TestFiles.EN;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class FingerprintTest {
+
+    public static final ObjectMapper dataModelObjectMapper = JsonUtils.dtoObjectMapper;
+    public static final String MD5_OF_NOTHING = "d41d8cd98f00b204e9800998ecf8427e";
+
+    @Test
+    void shouldComputeTheSameFingerprintForEqualFiles() {
+        var identifier = UUID.randomUUID();
+        var file = randomFile(identifier, null);
+        assertThat(file.getFingerprint(), is(equalTo(randomFile(identifier, null).getFingerprint())));
+        assertThat(file.getFingerprint(), is(not(equalTo(randomFile().getFingerprint()))));
+    }
+
+    @Test
+    void shouldComputeTheSameFingerprintForFileSetAfterJsonRoundTrip() throws JsonProcessingException {
+        var fileSet = new FileSet(randomFiles(10));
+        var json = dataModelObjectMapper.writeValueAsString(fileSet);
+        var deserialized = dataModelObjectMapper.readValue(json, FileSet.class);
+
+        assertThat(deserialized.getFingerprint(), is(equalTo(fileSet.getFingerprint())));
+        assertThat(new FileSet(List.of()).getFingerprint(), is(not(equalTo(fileSet.getFingerprint()))));
+    }
+
+    @Test
+    void shouldDistinguishAbsentFieldsFromEmptyFieldsAndFilesFromSets() {
+        var empty = new File.Builder().build();
+        var emptyName = new File.Builder().withName("").build();
+        var license = new License.Builder().withLabels(Map.of(EN, CC_BY)).build();
+        var withLicense = new File.Builder().withLicense(license).build();
+
+        assertThat(empty.getFingerprint(), is(not(equalTo(emptyName.getFingerprint()))));
+        assertThat(empty.getFingerprint(), is(not(equalTo(new FileSet(List.of(empty)).getFingerprint()))));
+        assertThat(withLicense.getFingerprint(), is(not(equalTo(empty.getFingerprint()))));
+        assertThat(withLicense.getFingerprint(),
+                   is(equalTo(new File.Builder().withLicense(LicensePool.getDefault().intern(license)).build()
+                                  .getFingerprint())));
+    }
+
+    @Test
+    void shouldComputeTheMd5DigestOfTheContent() {
+        assertThat(Fingerprint.of(new byte[0]).toString(), is(equalTo(MD5_OF_NOTHING)));
+    }
+
+    @Test
+    void shouldParseTheStringRepresentation() throws JsonProcessingException {
+        var fingerprint = randomFile().getFingerprint();
+        assertThat(Fingerprint.fromString(fingerprint.toString()), is(equalTo(fingerprint)));
+
+        var json = dataModelObjectMapper.writeValueAsString(fingerprint);
+        assertThat(dataModelObjectMapper.readValue(json, Fingerprint.class), is(equalTo(fingerprint)));
+    }
+
+    @Test
+    void shouldRejectInvalidStringRepresentations() {
+        for (String invalid : List.of("abc", MD5_OF_NOTHING.replace('d', 'x'))) {
+            var exception = assertThrows(IllegalArgumentException.class, () -> Fingerprint.fromString(invalid));
+            assertThat(exception.getMessage(), is(equalTo(INVALID_FINGERPRINT_ERROR + invalid)));
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class LazyFileSetTest {
+
+    public static final String FILE_SET_TEMPLATE = "{\"type\":\"FileSet\",\"files\":[%s]}";
+    public static final String FILES_TEMPLATE = "{\"type\":\"FileSet\",\"files\":%s}";
+    public static final String[] INVALID_FILES = {
+        "{}",
+        "[null]",
+        "[\"file\"]",
+        "[{\"identifier\":\"not a uuid\"}]",
+        "[{\"identifier\":\"1-1-1-1-1\"}]",
+        "[{\"identifier\":\"+6a1c6e4-3e37-4ad8-9b0e-4f5f3a8a6c1e\"}]",
+        "[{\"identifier\":5}]",
+        "[{\"identifier\":null},{}]",
+        "[{\"identifier\":\"6a1c6e4e-3e37-4ad8-9b0e-4f5f3a8a6c1e\"},"
+        + "{\"identifier\":\"6A1C6E4E-3E37-4AD8-9B0E-4F5F3A8A6C1E\"}]"
+    };
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldBehaveLikeTheDeserializedFileSet() throws IOException {
+        var fileSet = new FileSet(randomFiles(100));
+        var json = objectMapper.writeValueAsString(fileSet);
+
+        var lazyFileSet = LazyFileSet.fromJson(objectMapper, json);
+
+        var identifier = fileSet.getFiles().get(42).getIdentifier();
+        assertThat(lazyFileSet.size(), is(equalTo(100)));
+        assertThat(lazyFileSet.indexOf(identifier), is(equalTo(42)));
+        assertThat(lazyFileSet.containsFile(identifier), is(true));
+        assertThat(lazyFileSet.getFile(identifier), is(equalTo(fileSet.getFile(identifier))));
+        assertThat(lazyFileSet.getFile(UUID.randomUUID()), is(equalTo(Optional.empty())));
+        assertThat(lazyFileSet.getFiles(), is(equalTo(fileSet.getFiles())));
+        assertThat(lazyFileSet.toFileSet(), is(equalTo(fileSet)));
+        assertThat(lazyFileSet.toFileSet().indexOf(identifier), is(equalTo(42)));
+    }
+
+    @Test
+    void shouldDecodeOnlyTheFilesThatAreAccessed() throws IOException {
+        var first = randomFile();
+        var last = randomFile();
+        var invalid = "{\"type\":\"nonsense\",\"identifier\":\"" + UUID.randomUUID() + "\"}";
+        var json = String.format(FILE_SET_TEMPLATE, objectMapper.writeValueAsString(first) + "," + invalid + ","
+                                                    + objectMapper.writeValueAsString(last));
+
+        var lazyFileSet = LazyFileSet.fromJson(objectMapper, json.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(lazyFileSet.size(), is(equalTo(3)));
+        assertThat(lazyFileSet.getFile(0), is(equalTo(first)));
+        assertThat(lazyFileSet.getFile(last.getIdentifier()), is(equalTo(Optional.of(last))));
+        assertThrows(UncheckedIOException.class, () -> lazyFileSet.getFile(1));
+    }
+
+    @Test
+    void shouldCacheDecodedFiles() throws IOException {
+        var json = objectMapper.writeValueAsString(new FileSet(randomFiles(2)));
+
+        var lazyFileSet = LazyFileSet.fromJson(objectMapper, json);
+
+        assertThat(lazyFileSet.getFile(1), is(sameInstance(lazyFileSet.getFile(1))));
+    }
+
+    @Test
+    void shouldAcceptEmptyFileSets() throws IOException {
+        var emptyFileSets = List.of("{}", String.format(FILES_TEMPLATE, "null"),
+                                    String.format(FILE_SET_TEMPLATE, ""));
+        for (String json : emptyFileSets) {
+            var lazyFileSet = LazyFileSet.fromJson(objectMapper, json);
+
+            assertThat(json, lazyFileSet.size(), is(equalTo(0)));
+            assertThat(json, lazyFileSet.toFileSet(), is(equalTo(new FileSet(List.of()))));
+        }
+    }
+
+    @Test
+    void shouldAcceptIdentifiersThatOnlyTheDeserializerCanParse() throws IOException {
+        var identifier = UUID.randomUUID();
+        var bytes = ByteBuffer.allocate(16)
+                        .putLong(identifier.getMostSignificantBits())
+                        .putLong(identifier.getLeastSignificantBits())
+                        .array();
+        var json = String.format(FILE_SET_TEMPLATE, "{\"identifier\":\"" + Base64.getEncoder().encodeToString(bytes)
+                                                    + "\"}");
+
+        var lazyFileSet = LazyFileSet.fromJson(objectMapper, json);
+
+        assertThat(lazyFileSet.indexOf(identifier), is(equalTo(0)));
+        assertThat(lazyFileSet.getFile(0).getIdentifier(), is(equalTo(identifier)));
+    }
+
+    @Test
+    void shouldDecodeFilesThatAreNotObjectsWhileScanning() throws IOException {
+        var unwrappingMapper = objectMapper.copy().enable(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS);
+        var file = randomFile();
+        var json = String.format(FILE_SET_TEMPLATE, "[" + objectMapper.writeValueAsString(file) + "]");
+
+        var lazyFileSet = LazyFileSet.fromJson(unwrappingMapper, json);
+
+        assertThat(lazyFileSet.getFile(file.getIdentifier()), is(equalTo(Optional.of(file))));
+    }
+
+    @Test
+    void shouldRejectDuplicateIdentifiers() throws JsonProcessingException {
+        var file = objectMapper.writeValueAsString(randomFile());
+        var json = String.format(FILE_SET_TEMPLATE, file + "," + file);
+
+        assertThrows(ValueInstantiationException.class, () -> LazyFileSet.fromJson(objectMapper, json));
+    }
+
+    @Test
+    void shouldRejectInvalidInputLikeTheFileSetDeserializer() {
+        for (String files : INVALID_FILES) {
+            var json = String.format(FILES_TEMPLATE, files);
+            var expected = assertThrows(JsonProcessingException.class,
+                                        () -> objectMapper.readValue(json, FileSet.class));
+            var actual = assertThrows(JsonProcessingException.class, () -> LazyFileSet.fromJson(objectMapper, json));
+            assertThat(json, actual.getClass().getName(), is(equalTo(expected.getClass().getName())));
+        }
+    }
+
+    @Test
+    void shouldRejectInputThatIsNotAnObject() {
+        assertThrows(JsonProcessingException.class, () -> LazyFileSet.fromJson(objectMapper, "[]"));
+    }
+}
@@ -0,0 +1,114 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.CC_BY;
+import static no.unit.nva.file.model.TestFiles.CC_BY_URI;
+import static no.unit.nva.file.model.TestFiles.ccByLicense;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class LicensePoolTest {
+
+    public static final ObjectMapper dataModelObjectMapper = JsonUtils.dtoObjectMapper;
+    public static final String NB = "nb";
+
+    @Test
+    void shouldShareLicenseInstanceBetweenDeserializedFilesWithEqualLicenses() throws JsonProcessingException {
+        var json = dataModelObjectMapper.writeValueAsString(new FileSet(randomFiles(3)));
+        var files = dataModelObjectMapper.readValue(json, FileSet.class).getFiles();
+
+        assertThat(files.get(0).getLicense(), is(sameInstance(files.get(1).getLicense())));
+        assertThat(files.get(1).getLicense(), is(sameInstance(files.get(2).getLicense())));
+        assertThat(files.get(0).getLicense(), is(equalTo(ccByLicense())));
+    }
+
+    @Test
+    void shouldReturnImmutableLicenses() {
+        var license = new LicensePool(1).intern(ccByLicense());
+
+        assertThrows(UnsupportedOperationException.class, () -> license.setIdentifier(CC_BY));
+        assertThrows(UnsupportedOperationException.class, () -> license.setLink(CC_BY_URI));
+        assertThrows(UnsupportedOperationException.class, () -> license.setLabels(Map.of()));
+        assertThrows(UnsupportedOperationException.class, () -> license.getLabels().put(NB, CC_BY));
+    }
+
+    @Test
+    void shouldNotRetainTheLicenseGivenToThePool() {
+        var pool = new LicensePool(1);
+        var license = ccByLicense();
+        var shared = pool.intern(license);
+        license.setIdentifier(NB);
+
+        assertThat(shared, is(not(sameInstance(license))));
+        assertThat(pool.intern(ccByLicense()), is(sameInstance(shared)));
+    }
+
+    @Test
+    void shouldInternLanguageKeysOfLabels() {
+        var labels = new HashMap<String, String>();
+        labels.put(new String(NB.toCharArray()), CC_BY);
+        var license = new License.Builder().withLabels(labels).build();
+
+        var key = new LicensePool(1).intern(license).getLabels().keySet().iterator().next();
+        assertThat(key, is(sameInstance(NB)));
+    }
+
+    @Test
+    void shouldKeepLabelsWithNullValues() {
+        var labels = new HashMap<String, String>();
+        labels.put(NB, null);
+        var license = new License.Builder().withLabels(labels).build();
+
+        assertThat(new LicensePool(1).intern(license).getLabels(), is(equalTo(labels)));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedLicenseWhenPoolIsFull() {
+        var pool = new LicensePool(2);
+        var first = pool.intern(licenseWithLink("https://example.org/1"));
+        var second = pool.intern(licenseWithLink("https://example.org/2"));
+        pool.intern(first);
+        pool.intern(licenseWithLink("https://example.org/3"));
+
+        assertThat(pool.size(), is(equalTo(2)));
+        assertThat(pool.intern(first), is(sameInstance(first)));
+        assertThat(pool.intern(licenseWithLink("https://example.org/2")), is(not(sameInstance(second))));
+    }
+
+    @Test
+    void shouldShareOneInstanceBetweenThreadsAndStayWithinTheMaximumSize() {
+        var pool = new LicensePool(4);
+        var links = IntStream.range(0, 1000).mapToObj(index -> "https://example.org/" + index % 8);
+
+        var shared = links.parallel().map(link -> pool.intern(licenseWithLink(link))).collect(Collectors.toList());
+
+        assertThat(pool.size(), is(lessThanOrEqualTo(4)));
+        assertThat(shared.stream().distinct().count(), is(equalTo(8L)));
+        var last = shared.get(shared.size() - 1);
+        assertThat(pool.intern(licenseWithLink(last.getLink().toString())), is(sameInstance(pool.intern(last))));
+    }
+
+    @Test
+    void shouldReturnNullWhenLicenseIsNull() {
+        assertThat(LicensePool.getDefault().intern(null), is(nullValue()));
+    }
+
+    private static License licenseWithLink(String link) {
+        return new License.Builder().withIdentifier(CC_BY).withLink(URI.create(link)).build();
+    }
+}
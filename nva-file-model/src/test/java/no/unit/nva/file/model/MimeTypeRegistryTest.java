@@ -0,0 +1,77 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.APPLICATION_PDF;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.binary.BinaryCodec;
+import org.junit.jupiter.api.Test;
+
+public class MimeTypeRegistryTest {
+
+    public static final String UNCOMMON_MIME_TYPE = "application/x-uncommon";
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldShareMimeTypeInstanceBetweenDeserializedFiles() throws JsonProcessingException {
+        var uncommon = randomFile().copy().withMimeType(UNCOMMON_MIME_TYPE).build();
+        var fileSet = new FileSet(List.of(randomFile(), randomFile(), uncommon,
+                                          uncommon.copy().withIdentifier(randomFile().getIdentifier()).build()));
+        var json = objectMapper.writeValueAsString(fileSet);
+        var moduleMapper = objectMapper.copy().registerModule(new FileModelModule());
+
+        for (FileSet deserialized : List.of(objectMapper.readValue(json, FileSet.class),
+                                            moduleMapper.readValue(json, FileSet.class),
+                                            BinaryCodec.decodeFileSet(BinaryCodec.encode(fileSet)))) {
+            var files = deserialized.getFiles();
+            assertThat(files.get(0).getMimeType(), is(sameInstance(MimeTypeRegistry.forId(1))));
+            assertThat(files.get(1).getMimeType(), is(sameInstance(files.get(0).getMimeType())));
+            assertThat(files.get(3).getMimeType(), is(sameInstance(files.get(2).getMimeType())));
+            assertThat(deserialized, is(equalTo(fileSet)));
+        }
+    }
+
+    @Test
+    void shouldGiveCommonMimeTypesCompactIds() {
+        for (String mimeType : MimeTypeRegistry.COMMON_MIME_TYPES) {
+            var id = MimeTypeRegistry.idOf(new String(mimeType));
+
+            assertThat(id, is(not(MimeTypeRegistry.NO_ID)));
+            assertThat(MimeTypeRegistry.forId(id), is(sameInstance(mimeType)));
+        }
+        assertThat(MimeTypeRegistry.idOf(APPLICATION_PDF), is(equalTo(1)));
+        assertThat(MimeTypeRegistry.idOf(UNCOMMON_MIME_TYPE), is(equalTo(MimeTypeRegistry.NO_ID)));
+        assertThat(MimeTypeRegistry.idOf(null), is(equalTo(MimeTypeRegistry.NO_ID)));
+        assertThat(MimeTypeRegistry.forId(MimeTypeRegistry.NO_ID), is(nullValue()));
+        assertThat(MimeTypeRegistry.forId(MimeTypeRegistry.COMMON_MIME_TYPES.size() + 1), is(nullValue()));
+    }
+
+    @Test
+    void shouldNotChangeMimeTypesThatDifferOnlyInCase() {
+        var registry = new MimeTypeRegistry(1);
+
+        assertThat(registry.intern("Application/PDF"), is(equalTo("Application/PDF")));
+        assertThat(registry.intern(null), is(nullValue()));
+    }
+
+    @Test
+    void shouldReturnUncommonMimeTypesAsTheyAreWhenTheRegistryIsFull() {
+        var registry = new MimeTypeRegistry(1);
+        var first = registry.intern(new String(UNCOMMON_MIME_TYPE));
+        var other = new String("text/x-other");
+
+        assertThat(registry.intern(new String(UNCOMMON_MIME_TYPE)), is(sameInstance(first)));
+        assertThat(registry.intern(other), is(sameInstance(other)));
+        assertThat(registry.size(), is(equalTo(1)));
+        assertThat(MimeTypeRegistry.getDefault(), is(sameInstance(MimeTypeRegistry.getDefault())));
+    }
+}
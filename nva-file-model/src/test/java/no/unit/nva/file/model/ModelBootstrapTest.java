@@ -0,0 +1,62 @@
+package no.unit.nva.file.model;
+
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import no.unit.nva.commons.json.JsonUtils;
+import org.junit.jupiter.api.Test;
+
+public class ModelBootstrapTest {
+
+    public static final String NATIVE_IMAGE_CONFIGURATION =
+        "META-INF/native-image/com.github.bibsysdev/nva-file-model/";
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldProduceTheSameJsonAsTheDefaultMapperAfterWarmingUp() throws IOException {
+        ModelBootstrap.warmUp();
+        ModelBootstrap.warmUp(objectMapper);
+        var fileSet = new FileSet(randomFiles(3));
+
+        var json = ModelBootstrap.objectMapper().writeValueAsString(fileSet);
+
+        assertThat(json, is(equalTo(objectMapper.writeValueAsString(fileSet))));
+        assertThat(ModelBootstrap.objectMapper().readValue(json, FileSet.class), is(equalTo(fileSet)));
+        assertThat(ModelBootstrap.objectMapper(), is(sameInstance(ModelBootstrap.objectMapper())));
+    }
+
+    @Test
+    void shouldRegisterExactlyTheReflectedTypesForReflectionInNativeImages() throws IOException {
+        Set<String> registered = new HashSet<>();
+        for (JsonNode entry : readResource(NATIVE_IMAGE_CONFIGURATION + "reflect-config.json")) {
+            registered.add(entry.get("name").asText());
+        }
+        Set<String> reflected = ModelBootstrap.REFLECTED_TYPES.stream().map(Class::getName).collect(Collectors.toSet());
+
+        assertThat(registered, is(equalTo(reflected)));
+        assertThat(ModelBootstrap.REFLECTED_TYPES.containsAll(ModelBootstrap.ROOT_TYPES), is(true));
+    }
+
+    @Test
+    void shouldNotRegisterTheModuleForDiscovery() {
+        var modules = ObjectMapper.findModules();
+
+        assertThat(modules.stream().anyMatch(module -> module instanceof FileModelModule), is(false));
+    }
+
+    private JsonNode readResource(String name) throws IOException {
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(name)) {
+            return objectMapper.readTree(input);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package no.unit.nva.file.model;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public final class TestFiles {
+
+    public static final URI CC_BY_URI = URI.create("https://creativecommons.org/licenses/by/4.0/");
+    public static final String CC_BY = "CC-BY";
+    public static final String CC_BY_4_0 = "CC-BY 4.0";
+    public static final String EN = "en";
+    public static final String APPLICATION_PDF = "application/pdf";
+    public static final long SIZE = 200L;
+
+    private TestFiles() {
+    }
+
+    public static License ccByLicense() {
+        return new License.Builder()
+                   .withIdentifier(CC_BY)
+                   .withLabels(Map.of(EN, CC_BY_4_0))
+                   .withLink(CC_BY_URI)
+                   .build();
+    }
+
+    public static File randomFile() {
+        return randomFile(UUID.randomUUID(), null);
+    }
+
+    public static File randomFile(UUID identifier, Instant embargoDate) {
+        return new File.Builder()
+                   .withIdentifier(identifier)
+                   .withName(identifier + ".pdf")
+                   .withMimeType(APPLICATION_PDF)
+                   .withSize(SIZE)
+                   .withLicense(ccByLicense())
+                   .withPublisherAuthority(true)
+                   .withEmbargoDate(embargoDate)
+                   .withType(FileType.PUBLISHED_FILE)
+                   .build();
+    }
+
+    public static List<File> randomFiles(int numberOfFiles) {
+        return IntStream.range(0, numberOfFiles)
+                   .mapToObj(index -> randomFile())
+                   .collect(Collectors.toList());
+    }
+}
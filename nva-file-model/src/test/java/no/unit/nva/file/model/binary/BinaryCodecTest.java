@@ -0,0 +1,242 @@
+package no.unit.nva.file.model.binary;
+
+import static java.lang.String.format;
+import static no.unit.nva.file.model.TestFiles.APPLICATION_PDF;
+import static no.unit.nva.file.model.TestFiles.ccByLicense;
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static no.unit.nva.file.model.binary.BinaryCodec.NOT_BINARY_FILE_MODEL_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.TRAILING_BYTES_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.UNEXPECTED_RECORD_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.UNKNOWN_FILE_TYPE_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.UNKNOWN_LICENSE_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.UNKNOWN_MIME_TYPE_ERROR;
+import static no.unit.nva.file.model.binary.BinaryCodec.UNSUPPORTED_VERSION_ERROR;
+import static no.unit.nva.file.model.binary.BinaryReader.MALFORMED_NUMBER_ERROR;
+import static no.unit.nva.file.model.binary.BinaryReader.TRUNCATED_INPUT_ERROR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+import no.unit.nva.file.model.MimeTypeRegistry;
+import org.junit.jupiter.api.Test;
+
+public class BinaryCodecTest {
+
+    public static final int HEADER_LENGTH = 4;
+    public static final int UNKNOWN = 99;
+    public static final String UNCOMMON_MIME_TYPE = "application/x-uncommon";
+    public static final String NON_ASCII_NAME = new String(new int[]{0xC6, 0x2013, 0x65E5, 0x1F4C4}, 0, 4) + ".pdf";
+
+    @Test
+    void shouldDecodeEncodedFileSetToEqualFileSet() {
+        var fileSet = new FileSet(List.of(randomFile(), fileWithAllFieldsSet(), emptyFile(),
+                                          administrativeAgreement()));
+        assertThat(BinaryCodec.decodeFileSet(BinaryCodec.encode(fileSet)), is(equalTo(fileSet)));
+    }
+
+    @Test
+    void shouldDecodeEncodedFileToEqualFile() {
+        var file = fileWithAllFieldsSet();
+        assertThat(BinaryCodec.decodeFile(BinaryCodec.encode(file)), is(equalTo(file)));
+        assertThat(BinaryCodec.decodeFile(BinaryCodec.encode(emptyFile())), is(equalTo(emptyFile())));
+    }
+
+    @Test
+    void shouldDecodeFileStoredInPartOfAnArray() {
+        var file = randomFile();
+        var encoded = BinaryCodec.encode(file);
+        var padded = new byte[encoded.length + 2];
+        System.arraycopy(encoded, 0, padded, 1, encoded.length);
+        assertThat(BinaryCodec.decodeFile(padded, 1, encoded.length), is(equalTo(file)));
+    }
+
+    @Test
+    void shouldDecodeEncodedLicenseToEqualLicense() {
+        var license = new License.Builder().withIdentifier("RightsReserved").build();
+        assertThat(BinaryCodec.decodeLicense(BinaryCodec.encode(license)), is(equalTo(license)));
+        assertThat(BinaryCodec.decodeLicense(BinaryCodec.encode(ccByLicense())), is(equalTo(ccByLicense())));
+    }
+
+    @Test
+    void shouldWriteSharedLicenseOnlyOnce() {
+        var encoded = new String(BinaryCodec.encode(new FileSet(randomFiles(10))), StandardCharsets.ISO_8859_1);
+        var link = ccByLicense().getLink().toString();
+        assertThat(encoded.indexOf(link), is(equalTo(encoded.lastIndexOf(link))));
+    }
+
+    @Test
+    void shouldEncodeEqualLicensesWithLabelsInDifferentOrderIdentically() {
+        var labels = new LinkedHashMap<String, String>();
+        labels.put("nb", "Navngivelse");
+        labels.put("en", "Attribution");
+        var reversedLabels = new LinkedHashMap<String, String>();
+        reversedLabels.put("en", "Attribution");
+        reversedLabels.put("nb", "Navngivelse");
+
+        assertArrayEquals(BinaryCodec.encode(new License.Builder().withLabels(labels).build()),
+                          BinaryCodec.encode(new License.Builder().withLabels(reversedLabels).build()));
+    }
+
+    @Test
+    void shouldEncodeCommonMimeTypesByIdAndOthersAsStrings() {
+        var common = randomFile().copy().withMimeType(APPLICATION_PDF).build();
+        var uncommon = randomFile().copy().withMimeType(UNCOMMON_MIME_TYPE).build();
+
+        var encodedCommon = new String(BinaryCodec.encode(common), StandardCharsets.ISO_8859_1);
+        var encodedUncommon = new String(BinaryCodec.encode(uncommon), StandardCharsets.ISO_8859_1);
+
+        assertThat(encodedCommon.contains(APPLICATION_PDF), is(false));
+        assertThat(encodedUncommon.contains(UNCOMMON_MIME_TYPE), is(true));
+        assertThat(BinaryCodec.decodeFile(BinaryCodec.encode(common)).getMimeType(),
+                   is(sameInstance(MimeTypeRegistry.forId(MimeTypeRegistry.idOf(APPLICATION_PDF)))));
+        assertThat(BinaryCodec.decodeFile(BinaryCodec.encode(uncommon)), is(equalTo(uncommon)));
+    }
+
+    @Test
+    void shouldDecodeRecordsOfTheFirstVersionWithMimeTypesAsStrings() {
+        var mimeType = APPLICATION_PDF.getBytes(StandardCharsets.UTF_8);
+        var record = new byte[HEADER_LENGTH + 4 + mimeType.length];
+        record[0] = (byte) (BinaryCodec.MAGIC >>> 8);
+        record[1] = (byte) BinaryCodec.MAGIC;
+        record[2] = 1;
+        record[3] = BinaryCodec.FILE_RECORD;
+        record[HEADER_LENGTH + 2] = (byte) (mimeType.length + 1);
+        System.arraycopy(mimeType, 0, record, HEADER_LENGTH + 3, mimeType.length);
+
+        var file = BinaryCodec.decodeFile(record);
+
+        assertThat(file, is(equalTo(new File.Builder().withMimeType(APPLICATION_PDF).build())));
+    }
+
+    @Test
+    void shouldBeSmallerThanJson() throws JsonProcessingException {
+        var fileSet = new FileSet(randomFiles(100));
+        var json = JsonUtils.dtoObjectMapper.writeValueAsBytes(fileSet);
+        assertThat(BinaryCodec.encode(fileSet).length * 3, is(lessThan(json.length)));
+    }
+
+    @Test
+    void shouldRejectInputWithoutMagicNumber() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                                     () -> BinaryCodec.decodeFile("{}{}".getBytes(StandardCharsets.UTF_8)));
+        assertThat(exception.getMessage(), is(equalTo(NOT_BINARY_FILE_MODEL_ERROR)));
+    }
+
+    @Test
+    void shouldRejectUnsupportedVersion() {
+        var encoded = BinaryCodec.encode(randomFile());
+        encoded[2] = UNKNOWN;
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFile(encoded));
+        assertThat(exception.getMessage(), is(equalTo(format(UNSUPPORTED_VERSION_ERROR, UNKNOWN))));
+    }
+
+    @Test
+    void shouldRejectRecordOfUnexpectedKind() {
+        var encoded = BinaryCodec.encode(randomFile());
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFileSet(encoded));
+        assertThat(exception.getMessage(), is(equalTo(format(UNEXPECTED_RECORD_ERROR,
+                                                             BinaryCodec.FILE_SET_RECORD,
+                                                             BinaryCodec.FILE_RECORD))));
+    }
+
+    @Test
+    void shouldRejectTruncatedInput() {
+        var encoded = BinaryCodec.encode(new FileSet(randomFiles(2)));
+        for (int length : List.of(1, HEADER_LENGTH + 1, encoded.length / 2, encoded.length - 1)) {
+            var truncated = Arrays.copyOf(encoded, length);
+            var exception = assertThrows(IllegalArgumentException.class,
+                                         () -> BinaryCodec.decodeFileSet(truncated));
+            assertThat(exception.getMessage(), is(equalTo(TRUNCATED_INPUT_ERROR)));
+        }
+    }
+
+    @Test
+    void shouldRejectTrailingBytes() {
+        var encoded = BinaryCodec.encode(ccByLicense());
+        var exception = assertThrows(IllegalArgumentException.class,
+                                     () -> BinaryCodec.decodeLicense(Arrays.copyOf(encoded, encoded.length + 1)));
+        assertThat(exception.getMessage(), is(equalTo(TRAILING_BYTES_ERROR)));
+    }
+
+    @Test
+    void shouldRejectUnknownFileType() {
+        var encoded = BinaryCodec.encode(randomFile());
+        encoded[HEADER_LENGTH + 1] = UNKNOWN;
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFile(encoded));
+        assertThat(exception.getMessage(), is(equalTo(format(UNKNOWN_FILE_TYPE_ERROR, UNKNOWN))));
+    }
+
+    @Test
+    void shouldRejectUnknownLicenseReference() {
+        var encoded = BinaryCodec.encode(emptyFile());
+        encoded[encoded.length - 1] = UNKNOWN;
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFile(encoded));
+        assertThat(exception.getMessage(), is(equalTo(format(UNKNOWN_LICENSE_ERROR, UNKNOWN))));
+    }
+
+    @Test
+    void shouldRejectUnknownMimeTypeReference() {
+        var encoded = BinaryCodec.encode(emptyFile());
+        encoded[HEADER_LENGTH + 2] = UNKNOWN;
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFile(encoded));
+        assertThat(exception.getMessage(), is(equalTo(format(UNKNOWN_MIME_TYPE_ERROR, UNKNOWN))));
+    }
+
+    @Test
+    void shouldRejectMalformedNumbers() {
+        var encoded = Arrays.copyOf(BinaryCodec.encode(emptyFile()), HEADER_LENGTH + 12);
+        Arrays.fill(encoded, HEADER_LENGTH + 1, encoded.length, (byte) 0x80);
+        var exception = assertThrows(IllegalArgumentException.class, () -> BinaryCodec.decodeFile(encoded));
+        assertThat(exception.getMessage(), is(equalTo(MALFORMED_NUMBER_ERROR)));
+    }
+
+    private static File fileWithAllFieldsSet() {
+        var labels = new HashMap<>(Map.of("en", "Attribution", "nb", "Navngivelse"));
+        labels.put("nn", null);
+        return new File.Builder()
+                   .withIdentifier(UUID.randomUUID())
+                   .withName(NON_ASCII_NAME)
+                   .withMimeType("application/pdf")
+                   .withSize(-1L)
+                   .withLicense(new License.Builder()
+                                    .withIdentifier("CC-BY")
+                                    .withLink(URI.create("https://creativecommons.org/licenses/by/4.0/"))
+                                    .withLabels(labels)
+                                    .build())
+                   .withPublisherAuthority(true)
+                   .withEmbargoDate(Instant.parse("1969-12-31T23:59:59.123456789Z"))
+                   .withType(FileType.UNPUBLISHED_FILE)
+                   .build();
+    }
+
+    private static File emptyFile() {
+        return new File.Builder().build();
+    }
+
+    private static File administrativeAgreement() {
+        return new File.Builder()
+                   .withIdentifier(UUID.randomUUID())
+                   .withSize(Long.MAX_VALUE)
+                   .withAdministrativeAgreement(true)
+                   .build();
+    }
+}
@@ -0,0 +1,141 @@
+package no.unit.nva.file.model.catalog;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileCatalogTest {
+
+    public static final int SMALL_SEGMENT_SIZE = FileCatalog.MINIMUM_SEGMENT_SIZE;
+    public static final int NUMBER_OF_FILES = 3000;
+
+    @TempDir
+    public Path directory;
+
+    @Test
+    void shouldLookUpAppendedFiles() throws IOException {
+        var files = randomFiles(10);
+        try (var catalog = FileCatalog.open(directory)) {
+            appendAll(catalog, files);
+
+            assertThat(catalog.size(), is(equalTo(10L)));
+            assertThat(catalog.getFile(files.get(3).getIdentifier()), is(equalTo(Optional.of(files.get(3)))));
+            assertThat(catalog.containsFile(files.get(9).getIdentifier()), is(true));
+            assertThat(catalog.getFile(UUID.randomUUID()), is(equalTo(Optional.empty())));
+            assertThat(catalog.containsFile(UUID.randomUUID()), is(false));
+        }
+    }
+
+    @Test
+    void shouldScanFilesInTheOrderTheyWereAppendedAcrossSegmentsAndIndexResizes() throws IOException {
+        var files = randomFiles(NUMBER_OF_FILES);
+        try (var catalog = FileCatalog.open(directory, SMALL_SEGMENT_SIZE)) {
+            appendAll(catalog, files);
+
+            assertThat(catalog.stream().collect(Collectors.toList()), is(equalTo(files)));
+            for (File file : files) {
+                assertThat(catalog.getFile(file.getIdentifier()), is(equalTo(Optional.of(file))));
+            }
+        }
+        assertThat(numberOfSegments(), is(greaterThan(1L)));
+    }
+
+    @Test
+    void shouldReopenAnExistingCatalogWithItsOwnSegmentSize() throws IOException {
+        var files = randomFiles(NUMBER_OF_FILES);
+        try (var catalog = FileCatalog.open(directory, SMALL_SEGMENT_SIZE)) {
+            appendAll(catalog, files.subList(0, NUMBER_OF_FILES / 2));
+        }
+        long segmentsBeforeReopening = numberOfSegments();
+        try (var catalog = FileCatalog.open(directory)) {
+            assertThat(catalog.size(), is(equalTo((long) NUMBER_OF_FILES / 2)));
+            appendAll(catalog, files.subList(NUMBER_OF_FILES / 2, NUMBER_OF_FILES));
+        }
+        assertThat(numberOfSegments(), is(greaterThan(segmentsBeforeReopening)));
+
+        try (var catalog = FileCatalog.open(directory)) {
+            assertThat(catalog.stream().collect(Collectors.toList()), is(equalTo(files)));
+            assertThat(catalog.getFile(files.get(42).getIdentifier()), is(equalTo(Optional.of(files.get(42)))));
+        }
+    }
+
+    @Test
+    void shouldScanAnEmptyCatalog() throws IOException {
+        try (var catalog = FileCatalog.open(directory)) {
+            var iterator = catalog.stream().iterator();
+
+            assertThat(iterator.hasNext(), is(false));
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    void shouldRejectFilesThatCannotBeIndexedOrStored() throws IOException {
+        var file = randomFile();
+        var tooLarge = new File.Builder()
+                           .withIdentifier(UUID.randomUUID())
+                           .withName("a".repeat(SMALL_SEGMENT_SIZE))
+                           .withType(FileType.PUBLISHED_FILE)
+                           .build();
+        try (var catalog = FileCatalog.open(directory, SMALL_SEGMENT_SIZE)) {
+            catalog.append(file);
+
+            assertThrows(IllegalArgumentException.class, () -> catalog.append(file));
+            assertThrows(IllegalArgumentException.class, () -> catalog.append(new File.Builder().build()));
+            assertThrows(IllegalArgumentException.class, () -> catalog.append(tooLarge));
+            assertThat(catalog.stream().collect(Collectors.toList()), is(equalTo(List.of(file))));
+        }
+    }
+
+    @Test
+    void shouldRejectSegmentsSmallerThanTheMinimum() {
+        assertThrows(IllegalArgumentException.class, () -> FileCatalog.open(directory, SMALL_SEGMENT_SIZE - 1));
+    }
+
+    @Test
+    void shouldRejectDirectoriesThatDoNotHoldACatalog() throws IOException {
+        var indexFile = directory.resolve(FileCatalog.INDEX_FILE_NAME);
+        Files.write(indexFile, new byte[1]);
+        assertThrows(IOException.class, () -> FileCatalog.open(directory));
+
+        Files.write(indexFile, new byte[SMALL_SEGMENT_SIZE]);
+        assertThrows(IOException.class, () -> FileCatalog.open(directory));
+
+        Files.delete(indexFile);
+        FileCatalog.open(directory).close();
+        try (var segments = Files.list(directory)) {
+            for (Path segment : segments.filter(path -> !path.equals(indexFile)).collect(Collectors.toList())) {
+                Files.write(segment, new byte[SMALL_SEGMENT_SIZE]);
+            }
+        }
+        assertThrows(IOException.class, () -> FileCatalog.open(directory));
+    }
+
+    private long numberOfSegments() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> !path.getFileName().toString().equals(FileCatalog.INDEX_FILE_NAME)).count();
+        }
+    }
+
+    private static void appendAll(FileCatalog catalog, List<File> files) throws IOException {
+        for (File file : files) {
+            catalog.append(file);
+        }
+    }
+}
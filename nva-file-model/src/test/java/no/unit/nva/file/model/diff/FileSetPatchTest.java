@@ -0,0 +1,228 @@
+package no.unit.nva.file.model.diff;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static no.unit.nva.file.model.diff.FilePatch.DIFFERENT_FILE_ERROR;
+import static no.unit.nva.file.model.diff.FileSetPatch.INVALID_ORDER_ERROR;
+import static no.unit.nva.file.model.diff.FileSetPatch.UNKNOWN_FILE_ERROR;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+import org.junit.jupiter.api.Test;
+
+public class FileSetPatchTest {
+
+    public static final ObjectMapper dataModelObjectMapper = JsonUtils.dtoObjectMapper;
+    public static final Instant EMBARGO_DATE = Instant.parse("2022-06-01T00:00:00Z");
+    public static final String CC_BY_SA = "CC-BY-SA";
+
+    @Test
+    void shouldReturnEmptyPatchForEqualFileSets() {
+        var files = randomFiles(5);
+        var patch = FileSetPatch.between(new FileSet(files), new FileSet(new ArrayList<>(files)));
+
+        assertThat(patch.isEmpty(), is(true));
+        assertThat(patch.applyTo(new FileSet(files)), is(equalTo(new FileSet(files))));
+    }
+
+    @Test
+    void shouldReturnAddedRemovedAndModifiedFiles() {
+        var kept = randomFile();
+        var removed = randomFile();
+        var modified = randomFile();
+        var added = randomFile();
+        var changed = modified.copy().withLicense(ccBySaLicense()).build();
+        var before = new FileSet(List.of(kept, removed, modified));
+        var after = new FileSet(List.of(kept, changed, added));
+
+        var patch = FileSetPatch.between(before, after);
+
+        assertThat(patch.getAdded(), contains(added));
+        assertThat(patch.getRemoved(), contains(removed.getIdentifier()));
+        assertThat(patch.getModified().size(), is(equalTo(1)));
+        assertThat(patch.getOrder(), is(empty()));
+        assertThat(patch.applyTo(before), is(equalTo(after)));
+    }
+
+    @Test
+    void shouldOnlyIncludeChangedFieldsInFilePatch() throws JsonProcessingException {
+        var file = randomFile(UUID.randomUUID(), EMBARGO_DATE);
+        var changed = file.copy().withLicense(ccBySaLicense()).withEmbargoDate(null).build();
+
+        var patch = FilePatch.between(file, changed);
+        var json = dataModelObjectMapper.writeValueAsString(patch);
+
+        assertThat(patch.getChangedFields(), containsInAnyOrder(FileField.LICENSE, FileField.EMBARGO_DATE));
+        assertThat(patch.getName(), is(nullValue()));
+        assertThat(json, containsString(CC_BY_SA));
+        assertThat(json, not(containsString(file.getName())));
+        assertThat(patch.applyTo(file), is(equalTo(changed)));
+    }
+
+    @Test
+    void shouldApplyChangesToEveryField() {
+        var file = randomFile();
+        var changed = new File.Builder()
+                          .withIdentifier(file.getIdentifier())
+                          .withName("changed.txt")
+                          .withMimeType("text/plain")
+                          .withSize(1L)
+                          .withAdministrativeAgreement(true)
+                          .withPublisherAuthority(false)
+                          .withEmbargoDate(EMBARGO_DATE)
+                          .withType(FileType.UNPUBLISHABLE_FILE)
+                          .build();
+
+        var patch = FilePatch.between(file, changed);
+
+        assertThat(patch.getChangedFields().size(), is(equalTo(FileField.values().length)));
+        assertThat(patch.applyTo(file), is(equalTo(changed)));
+        assertThat(FilePatch.between(changed, file).applyTo(changed), is(equalTo(file)));
+    }
+
+    @Test
+    void shouldIncludeOrderWhenFilesAreReordered() {
+        var files = randomFiles(4);
+        var reversed = new ArrayList<>(files);
+        Collections.reverse(reversed);
+        var before = new FileSet(files);
+        var after = new FileSet(reversed);
+
+        var patch = FileSetPatch.between(before, after);
+
+        assertThat(patch.getAdded(), is(empty()));
+        assertThat(patch.getOrder().size(), is(equalTo(files.size())));
+        assertThat(patch.applyTo(before), is(equalTo(after)));
+    }
+
+    @Test
+    void shouldNotIncludeOrderWhenFilesAreAppendedAndRemoved() {
+        var files = randomFiles(4);
+        var after = new ArrayList<>(files.subList(1, files.size()));
+        after.add(randomFile());
+
+        var patch = FileSetPatch.between(new FileSet(files), new FileSet(after));
+
+        assertThat(patch.getOrder(), is(empty()));
+        assertThat(patch.applyTo(new FileSet(files)), is(equalTo(new FileSet(after))));
+    }
+
+    @Test
+    void shouldDiffFileSetsContainingAFileWithoutIdentifier() {
+        var withoutIdentifier = new File.Builder().withName("unidentified.pdf").build();
+        var renamed = withoutIdentifier.copy().withName("renamed.pdf").build();
+        var other = randomFile();
+        var before = new FileSet(List.of(withoutIdentifier, other));
+        var after = new FileSet(List.of(renamed, other, randomFile()));
+        var reordered = new FileSet(List.of(other, withoutIdentifier));
+
+        var patch = FileSetPatch.between(before, after);
+        var reorderingPatch = FileSetPatch.between(before, reordered);
+
+        assertThat(patch.getModified().size(), is(equalTo(1)));
+        assertThat(patch.getOrder(), is(empty()));
+        assertThat(patch.applyTo(before), is(equalTo(after)));
+        assertThat(reorderingPatch.getOrder(), contains(other.getIdentifier(), null));
+        assertThat(reorderingPatch.applyTo(before), is(equalTo(reordered)));
+    }
+
+    @Test
+    void shouldApplyPatchAfterJsonRoundTrip() throws JsonProcessingException {
+        var files = randomFiles(3);
+        var changed = files.get(1).copy().withName("renamed.pdf").withSize(null).build();
+        var after = new FileSet(List.of(randomFile(), changed, files.get(0)));
+        var before = new FileSet(files);
+        var patch = FileSetPatch.between(before, after);
+
+        var json = dataModelObjectMapper.writeValueAsString(patch);
+        var deserialized = dataModelObjectMapper.readValue(json, FileSetPatch.class);
+
+        assertThat(deserialized, is(equalTo(patch)));
+        assertThat(deserialized.applyTo(before), is(equalTo(after)));
+    }
+
+    @Test
+    void shouldLeaveEmptyPartsOutOfJson() throws JsonProcessingException {
+        var file = randomFile();
+        var patch = FileSetPatch.between(new FileSet(List.of(file)), new FileSet(List.of()));
+
+        var json = dataModelObjectMapper.writeValueAsString(patch);
+
+        assertThat(json, containsString(FileSetPatch.REMOVED));
+        assertThat(json, not(containsString(FileSetPatch.ADDED)));
+        assertThat(json, not(containsString(FileSetPatch.ORDER)));
+    }
+
+    @Test
+    void shouldRejectPatchesOfUnknownFiles() {
+        var file = randomFile();
+        var patch = FileSetPatch.between(new FileSet(List.of(file)), new FileSet(List.of()));
+        var otherFileSet = new FileSet(List.of(randomFile()));
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> patch.applyTo(otherFileSet));
+
+        assertThat(exception.getMessage(), is(equalTo(UNKNOWN_FILE_ERROR + file.getIdentifier())));
+    }
+
+    @Test
+    void shouldRejectAddingFilesThatAreAlreadyPresent() {
+        var file = randomFile();
+        var patch = FileSetPatch.between(new FileSet(List.of()), new FileSet(List.of(file)));
+
+        assertThrows(IllegalArgumentException.class, () -> patch.applyTo(new FileSet(List.of(file))));
+    }
+
+    @Test
+    void shouldRejectOrderThatDoesNotMatchTheFiles() {
+        var files = randomFiles(2);
+        var fileSet = new FileSet(files);
+        var first = files.get(0).getIdentifier();
+        var patches = List.of(
+            new FileSetPatch(null, null, null, List.of(first)),
+            new FileSetPatch(null, null, null, List.of(first, first)),
+            new FileSetPatch(null, null, null, List.of(first, UUID.randomUUID())));
+
+        for (FileSetPatch patch : patches) {
+            var exception = assertThrows(IllegalArgumentException.class, () -> patch.applyTo(fileSet));
+            assertThat(exception.getMessage(), is(equalTo(INVALID_ORDER_ERROR)));
+        }
+    }
+
+    @Test
+    void shouldRejectFilePatchForDifferentFile() {
+        var file = randomFile();
+        var patch = FilePatch.between(file, file.copy().withName("renamed.pdf").build());
+        var other = randomFile();
+
+        var exception = assertThrows(IllegalArgumentException.class, () -> patch.applyTo(other));
+
+        assertThat(exception.getMessage(), is(equalTo(DIFFERENT_FILE_ERROR + other.getIdentifier())));
+    }
+
+    private static License ccBySaLicense() {
+        return new License.Builder()
+                   .withIdentifier(CC_BY_SA)
+                   .withLabels(Map.of("en", "CC-BY-SA 4.0"))
+                   .build();
+    }
+}
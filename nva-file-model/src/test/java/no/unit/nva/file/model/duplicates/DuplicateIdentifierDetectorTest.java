@@ -0,0 +1,136 @@
+package no.unit.nva.file.model.duplicates;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.junit.jupiter.api.Test;
+
+public class DuplicateIdentifierDetectorTest {
+
+    private static final int NUMBER_OF_SETS = 1000;
+    private static final int FILES_PER_SET = 10;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.001;
+    private static final UUID COPIED_TWICE = UUID.randomUUID();
+    private static final UUID COPIED_ONCE = UUID.randomUUID();
+
+    @Test
+    void shouldFindTheIdentifiersThatOccurInMoreThanOneSet() {
+        var corpus = corpusWithDuplicates();
+
+        var detector = DuplicateIdentifierDetector.detect(() -> corpus.entrySet().stream(),
+                                                          NUMBER_OF_SETS * FILES_PER_SET,
+                                                          FALSE_POSITIVE_PROBABILITY, 1000);
+
+        assertThat(detector.getDuplicates(), is(equalTo(expectedDuplicates())));
+        assertThat(detector.isComplete(), is(true));
+        assertThat(detector.getNumberOfSuspects(), is(lessThan(20)));
+    }
+
+    @Test
+    void shouldFindTheSameDuplicatesWhenShardsAreSketchedAndConfirmedSeparately() {
+        var corpus = new ArrayList<>(corpusWithDuplicates().entrySet());
+        var shards = List.of(corpus.subList(0, 400), corpus.subList(400, 700), corpus.subList(700, NUMBER_OF_SETS));
+
+        var sketch = IdentifierSketch.create(NUMBER_OF_SETS * FILES_PER_SET, FALSE_POSITIVE_PROBABILITY);
+        for (List<Map.Entry<Integer, FileSet>> shard : shards) {
+            var shardSketch = IdentifierSketch.create(NUMBER_OF_SETS * FILES_PER_SET, FALSE_POSITIVE_PROBABILITY);
+            shard.forEach(entry -> shardSketch.addAll(entry.getValue()));
+            sketch.merge(IdentifierSketch.fromByteArray(shardSketch.toByteArray()));
+        }
+        var detector = new DuplicateIdentifierDetector<Integer>(sketch, 1000);
+        for (List<Map.Entry<Integer, FileSet>> shard : shards) {
+            var shardDetector = new DuplicateIdentifierDetector<Integer>(sketch, 1000);
+            shard.forEach(entry -> shardDetector.add(entry.getKey(), entry.getValue()));
+            detector.merge(shardDetector);
+        }
+
+        assertThat(detector.getDuplicates(), is(equalTo(expectedDuplicates())));
+    }
+
+    @Test
+    void shouldReportThatTheResultIsIncompleteWhenThereAreTooManyPossibleDuplicates() {
+        var corpus = corpusWithDuplicates();
+
+        var detector = DuplicateIdentifierDetector.detect(() -> corpus.entrySet().stream(),
+                                                          NUMBER_OF_SETS * FILES_PER_SET,
+                                                          FALSE_POSITIVE_PROBABILITY, 1);
+
+        assertThat(detector.getNumberOfSuspects(), is(equalTo(1)));
+        assertThat(detector.isComplete(), is(false));
+        assertThat(detector.getNumberOfUnconfirmedOccurrences(), is(greaterThan(0L)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DuplicateIdentifierDetector<Integer>(IdentifierSketch.create(1, 0.5), 0));
+    }
+
+    @Test
+    void shouldReportFewIdentifiersThatOccurOnceAsPossibleDuplicates() {
+        var identifiers = IntStream.range(0, 100_000).mapToObj(index -> new UUID(index, index))
+                              .collect(Collectors.toList());
+        var sketch = IdentifierSketch.create(identifiers.size(), 0.01);
+
+        var repeatedOnAdd = identifiers.stream().filter(sketch::add).count();
+        var possibleDuplicates = identifiers.stream().filter(sketch::mightBeDuplicate).count();
+
+        assertThat(identifiers.stream().allMatch(sketch::mightContain), is(true));
+        assertThat(repeatedOnAdd, is(lessThan(2_000L)));
+        assertThat(possibleDuplicates, is(equalTo(repeatedOnAdd)));
+        assertThat(sketch.add(identifiers.get(0)), is(true));
+        assertThat(sketch.mightBeDuplicate(identifiers.get(0)), is(true));
+        assertThat(sketch.getNumberOfPartitions(), is(equalTo(7)));
+        assertThat(sketch.getNumberOfPositions(), is(greaterThan(958_000L)));
+    }
+
+    @Test
+    void shouldRejectInvalidDimensionsAndIncompatibleSketches() {
+        var sketch = IdentifierSketch.create(1000, 0.01);
+        var bytes = sketch.toByteArray();
+
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.create(1000, 0));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.create(1000, 1));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.create(1000, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> sketch.merge(IdentifierSketch.create(2000, 0.01)));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.fromByteArray(new byte[3]));
+        assertThrows(IllegalArgumentException.class, () -> IdentifierSketch.fromByteArray(new byte[12]));
+        assertThrows(IllegalArgumentException.class,
+                     () -> IdentifierSketch.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+
+    private static Map<Integer, FileSet> corpusWithDuplicates() {
+        Map<Integer, FileSet> corpus = new LinkedHashMap<>();
+        for (int key = 0; key < NUMBER_OF_SETS; key++) {
+            List<File> files = IntStream.range(0, FILES_PER_SET)
+                                   .mapToObj(index -> randomFile())
+                                   .collect(Collectors.toCollection(ArrayList::new));
+            if (key == 10 || key == 500 || key == 999) {
+                files.set(3, randomFile(COPIED_TWICE, null));
+            }
+            if (key == 20 || key == 800) {
+                files.set(7, randomFile(COPIED_ONCE, null));
+            }
+            if (key == 30) {
+                files.set(0, randomFile().copy().withIdentifier(null).build());
+            }
+            corpus.put(key, new FileSet(files));
+        }
+        return corpus;
+    }
+
+    private static Map<UUID, List<Integer>> expectedDuplicates() {
+        return Map.of(COPIED_TWICE, List.of(10, 500, 999), COPIED_ONCE, List.of(20, 800));
+    }
+}
@@ -0,0 +1,120 @@
+package no.unit.nva.file.model.embargo;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import org.junit.jupiter.api.Test;
+
+public class EmbargoSchedulerTest {
+
+    public static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+    public static final String FIRST_OWNER = "first";
+    public static final String SECOND_OWNER = "second";
+
+    @Test
+    void shouldReleaseFilesInChronologicalOrderWhenTheirEmbargoHasPassed() {
+        var scheduler = new EmbargoScheduler<String>();
+        var late = embargoedFile(Duration.ofDays(2));
+        var early = embargoedFile(Duration.ofDays(1));
+        var other = embargoedFile(Duration.ofHours(1));
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(late, early, randomFile())), NOW);
+        scheduler.register(SECOND_OWNER, new FileSet(List.of(other)), NOW);
+
+        var released = scheduler.releaseUntil(NOW.plus(Duration.ofDays(3)));
+
+        assertThat(files(released), contains(other, early, late));
+        assertThat(released.get(0).getOwner(), is(equalTo(SECOND_OWNER)));
+        assertThat(released.get(0).getEmbargoDate(), is(equalTo(other.getEmbargoDate().orElseThrow())));
+        assertThat(scheduler.size(), is(equalTo(0)));
+    }
+
+    @Test
+    void shouldReleaseOnlyFilesThatAreVisibleAtTheGivenInstant() {
+        var scheduler = new EmbargoScheduler<String>();
+        var early = embargoedFile(Duration.ofDays(1));
+        var late = embargoedFile(Duration.ofDays(2));
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(early, late)), NOW);
+        var embargoDate = early.getEmbargoDate().orElseThrow();
+
+        assertThat(scheduler.releaseUntil(embargoDate), is(empty()));
+        assertThat(files(scheduler.releaseUntil(embargoDate.plusMillis(1))), contains(early));
+        assertThat(scheduler.nextRelease(), is(equalTo(late.getEmbargoDate())));
+    }
+
+    @Test
+    void shouldNotIndexFilesThatStayInvisibleAfterTheirEmbargo() {
+        var scheduler = new EmbargoScheduler<String>();
+        var unpublished = new File.Builder()
+                              .withIdentifier(UUID.randomUUID())
+                              .withType(FileType.UNPUBLISHED_FILE)
+                              .withEmbargoDate(NOW)
+                              .build();
+        var administrativeAgreement = new File.Builder()
+                                          .withIdentifier(UUID.randomUUID())
+                                          .withAdministrativeAgreement(true)
+                                          .withEmbargoDate(NOW)
+                                          .build();
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(unpublished, administrativeAgreement)), NOW);
+
+        assertThat(scheduler.size(), is(equalTo(0)));
+        assertThat(scheduler.nextRelease(), is(equalTo(Optional.empty())));
+    }
+
+    @Test
+    void shouldReplacePendingReleasesWhenOwnerIsRegisteredAgain() {
+        var scheduler = new EmbargoScheduler<String>();
+        var replaced = embargoedFile(Duration.ofDays(1));
+        var replacement = embargoedFile(Duration.ofDays(2));
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(replaced)), NOW);
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(replacement)), NOW);
+
+        assertThat(files(scheduler.releaseUntil(Instant.MAX)), contains(replacement));
+    }
+
+    @Test
+    void shouldRemovePendingReleasesWhenOwnerIsUnregistered() {
+        var scheduler = new EmbargoScheduler<String>();
+        var kept = embargoedFile(Duration.ofDays(1));
+        scheduler.register(FIRST_OWNER, new FileSet(List.of(embargoedFile(Duration.ofDays(1)))), NOW);
+        scheduler.register(SECOND_OWNER, new FileSet(List.of(kept)), NOW);
+        scheduler.unregister(FIRST_OWNER);
+        scheduler.unregister(FIRST_OWNER);
+
+        assertThat(files(scheduler.releaseUntil(Instant.MAX)), contains(kept));
+    }
+
+    @Test
+    void shouldNotReleaseFilesWhoseEmbargoHadPassedWhenTheSetWasRegistered() {
+        var scheduler = new EmbargoScheduler<String>();
+        var past = embargoedFile(Duration.ofDays(-1));
+        var future = embargoedFile(Duration.ofDays(1));
+        var fileSet = new FileSet(List.of(past, future));
+        scheduler.register(FIRST_OWNER, fileSet, Clock.fixed(NOW, ZoneOffset.UTC));
+        scheduler.register(SECOND_OWNER, fileSet);
+
+        assertThat(scheduler.size(), is(equalTo(1)));
+        assertThat(files(scheduler.releaseUntil(Instant.MAX)), contains(future));
+    }
+
+    private static File embargoedFile(Duration embargo) {
+        return randomFile(UUID.randomUUID(), NOW.plus(embargo));
+    }
+
+    private static List<File> files(List<EmbargoReleaseEvent<String>> events) {
+        return events.stream().map(EmbargoReleaseEvent::getFile).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,187 @@
+package no.unit.nva.file.model.flow;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.LicensePool;
+import no.unit.nva.file.model.exception.MissingLicenseException;
+import org.junit.jupiter.api.Test;
+
+public class PipelineTest {
+
+    private static final Instant NOW = Instant.parse("2022-06-01T00:00:00Z");
+    private static final int BUFFER_CAPACITY = 16;
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldStreamFilesThroughTheStagesOfTheModelInOrder() throws Exception {
+        var files = IntStream.range(0, 1000)
+                        .mapToObj(index -> randomFile(UUID.randomUUID(), embargoDate(index)))
+                        .collect(Collectors.toList());
+        var expected = files.stream().filter(file -> file.isVisibleForNonOwner(NOW)).collect(Collectors.toList());
+        List<List<byte[]>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        Pipeline.fromStream(files.stream().map(this::encode), ForkJoinPool.commonPool(), BUFFER_CAPACITY)
+            .map(FileStages.decode(objectMapper))
+            .map(FileStages.validate())
+            .filter(FileStages.visibleForNonOwner(NOW))
+            .map(FileStages.normalizeLicense())
+            .map(FileStages.encode(objectMapper))
+            .batch(25)
+            .forEach(batches::add)
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        var decoded = batches.stream().flatMap(List::stream).map(this::decode).collect(Collectors.toList());
+        assertThat(decoded, is(equalTo(expected)));
+        assertThat(batches.stream().map(List::size).collect(Collectors.toList()),
+                   everyItem(lessThanOrEqualTo(25)));
+        assertThat(batches.size(), is(equalTo((expected.size() + 24) / 25)));
+    }
+
+    @Test
+    void shouldNotReadMoreItemsThanTheBuffersHoldWhenTheSubscriberIsSlow() throws Exception {
+        var readItems = new AtomicInteger();
+        var closed = new AtomicBoolean();
+        var release = new CountDownLatch(1);
+        var items = Stream.iterate(0, item -> item + 1).peek(item -> readItems.incrementAndGet())
+                        .onClose(() -> closed.set(true));
+
+        var completion = Pipeline.fromStream(items, ForkJoinPool.commonPool(), BUFFER_CAPACITY)
+                             .map(item -> item * 2)
+                             .forEach(item -> awaitThenFail(release));
+        Thread.sleep(200);
+        var readWhileBlocked = readItems.get();
+        release.countDown();
+
+        assertThat(readWhileBlocked, is(lessThanOrEqualTo(4 * BUFFER_CAPACITY + 2)));
+        var exception = assertThrows(ExecutionException.class,
+                                     () -> completion.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(IllegalStateException.class)));
+        awaitUntil(closed);
+    }
+
+    @Test
+    void shouldFailWhenAStageFails() {
+        var invalid = randomFile().copy().withLicense(null).build();
+        var completion = Pipeline.fromStream(Stream.of(randomFile(), invalid, randomFile()),
+                                             ForkJoinPool.commonPool(), BUFFER_CAPACITY)
+                             .map(FileStages.validate())
+                             .map(File::getIdentifier)
+                             .forEach(identifier -> {
+                             });
+
+        var exception = assertThrows(ExecutionException.class,
+                                     () -> completion.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(MissingLicenseException.class)));
+    }
+
+    @Test
+    void shouldFailWhenTheJsonIsNotAFile() {
+        var completion = Pipeline.fromStream(Stream.of("{\"type\":".getBytes(StandardCharsets.UTF_8)),
+                                             ForkJoinPool.commonPool(), BUFFER_CAPACITY)
+                             .map(FileStages.decode(objectMapper))
+                             .forEach(file -> {
+                             });
+
+        var exception = assertThrows(ExecutionException.class,
+                                     () -> completion.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertThat(exception.getCause(), is(instanceOf(UncheckedIOException.class)));
+    }
+
+    @Test
+    void shouldProcessItemsFromAnyPublisherThatAreSubmittedAfterSubscribing() throws Exception {
+        var files = randomFiles(10);
+        var licensePool = new LicensePool(LicensePool.DEFAULT_MAXIMUM_SIZE);
+        var clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        List<File> received = Collections.synchronizedList(new ArrayList<>());
+
+        try (var source = new SubmissionPublisher<List<File>>()) {
+            CompletableFuture<Void> completion = Pipeline.from(source)
+                                                     .flatMap(batch -> batch)
+                                                     .filter(FileStages.visibleForNonOwner(clock))
+                                                     .map(FileStages.normalizeLicense(licensePool))
+                                                     .forEach(received::add);
+            source.submit(files.subList(0, 4));
+            source.submit(files.subList(4, 10));
+            source.close();
+            completion.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        assertThat(received, is(equalTo(files)));
+        var sharedLicense = licensePool.intern(files.get(0).getLicense());
+        for (File file : received) {
+            assertThat(file.getLicense(), is(sameInstance(sharedLicense)));
+        }
+        var normalized = FileStages.normalizeLicense(licensePool).apply(received.get(0));
+        assertThat(normalized, is(sameInstance(received.get(0))));
+    }
+
+    @Test
+    void shouldRejectBuffersAndBatchesWithoutRoom() {
+        var source = new SubmissionPublisher<Integer>();
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.from(source, ForkJoinPool.commonPool(), 0));
+        assertThrows(IllegalArgumentException.class, () -> Pipeline.from(source).batch(0));
+    }
+
+    private static Instant embargoDate(int index) {
+        return index % 3 == 0 ? NOW.plus(index, ChronoUnit.DAYS) : null;
+    }
+
+    private static void awaitThenFail(CountDownLatch release) {
+        try {
+            release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("The subscriber gives up");
+    }
+
+    private static void awaitUntil(AtomicBoolean condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.get() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.get(), is(true));
+    }
+
+    private byte[] encode(File file) {
+        return FileStages.encode(objectMapper).apply(file);
+    }
+
+    private File decode(byte[] json) {
+        return FileStages.decode(objectMapper).apply(json);
+    }
+}
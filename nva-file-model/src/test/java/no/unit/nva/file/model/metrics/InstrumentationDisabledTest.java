@@ -0,0 +1,47 @@
+package no.unit.nva.file.model.metrics;
+
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs in the default test task, where no {@link ModelMetrics} is installed. {@link InstrumentationTest} runs in a
+ * task of its own with {@link CountingModelMetrics} installed.
+ */
+public class InstrumentationDisabledTest {
+
+    @Test
+    void shouldBeDisabledWhenNoMetricsAreInstalled() {
+        new FileSet(randomFiles(3)).getFiles().forEach(File::validate);
+
+        assertThat(Instrumentation.isEnabled(), is(false));
+        assertThat(Instrumentation.getMetrics(), is(instanceOf(NoOpModelMetrics.class)));
+        assertThat(Instrumentation.startTime(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldInstallTheImplementationNamedBySystemPropertyUnlessDisabled() {
+        try {
+            System.setProperty(Instrumentation.IMPLEMENTATION_PROPERTY, CountingModelMetrics.class.getName());
+            assertThat(Instrumentation.loadMetrics(), is(instanceOf(CountingModelMetrics.class)));
+
+            System.setProperty(Instrumentation.DISABLED_PROPERTY, Boolean.TRUE.toString());
+            assertThat(Instrumentation.loadMetrics(), is(instanceOf(NoOpModelMetrics.class)));
+            System.clearProperty(Instrumentation.DISABLED_PROPERTY);
+
+            System.setProperty(Instrumentation.IMPLEMENTATION_PROPERTY, String.class.getName());
+            assertThrows(IllegalArgumentException.class, Instrumentation::loadMetrics);
+            System.setProperty(Instrumentation.IMPLEMENTATION_PROPERTY, "no.such.Metrics");
+            assertThrows(IllegalArgumentException.class, Instrumentation::loadMetrics);
+        } finally {
+            System.clearProperty(Instrumentation.IMPLEMENTATION_PROPERTY);
+            System.clearProperty(Instrumentation.DISABLED_PROPERTY);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package no.unit.nva.file.model.metrics;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileModelModule;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.exception.MissingLicenseException;
+import org.junit.jupiter.api.Test;
+
+public class InstrumentationTest {
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper.copy().registerModule(new FileModelModule());
+    private final CountingModelMetrics metrics = (CountingModelMetrics) Instrumentation.getMetrics();
+
+    @Test
+    void shouldUseTheMetricsInstalledAsAService() {
+        assertThat(Instrumentation.isEnabled(), is(true));
+    }
+
+    @Test
+    void shouldRecordTheConstructionAndSizeOfFileSets() {
+        var constructions = count(ModelOperation.FILE_SET_CONSTRUCTION);
+        var fileSets = metrics.getFileSetSizes().getCount();
+        var files = metrics.getFileSetSizes().getSum();
+
+        new FileSet(randomFiles(3));
+
+        assertThat(count(ModelOperation.FILE_SET_CONSTRUCTION), is(equalTo(constructions + 1)));
+        assertThat(metrics.getFileSetSizes().getCount(), is(equalTo(fileSets + 1)));
+        assertThat(metrics.getFileSetSizes().getSum(), is(equalTo(files + 3)));
+    }
+
+    @Test
+    void shouldRecordValidationsAndMissingLicenses() {
+        var validations = count(ModelOperation.FILE_VALIDATION);
+        var missingLicenses = metrics.getErrorCount(ModelError.MISSING_LICENSE);
+
+        randomFile().validate();
+        var invalid = randomFile().copy().withLicense(null).build();
+        assertThrows(MissingLicenseException.class, invalid::validate);
+
+        assertThat(count(ModelOperation.FILE_VALIDATION), is(equalTo(validations + 2)));
+        assertThat(metrics.getErrorCount(ModelError.MISSING_LICENSE), is(equalTo(missingLicenses + 1)));
+    }
+
+    @Test
+    void shouldRecordDuplicateIdentifiersWhenConstructingAndDeserializing() throws JsonProcessingException {
+        var duplicates = metrics.getErrorCount(ModelError.DUPLICATE_IDENTIFIER);
+        var file = randomFile();
+        var json = objectMapper.writeValueAsString(new FileSet(List.of(file)))
+                       .replace("[" + objectMapper.writeValueAsString(file),
+                                "[" + objectMapper.writeValueAsString(file) + ","
+                                + objectMapper.writeValueAsString(file));
+
+        assertThrows(IllegalArgumentException.class, () -> new FileSet(List.of(file, file)));
+        assertThrows(IOException.class, () -> objectMapper.readValue(json, FileSet.class));
+
+        assertThat(metrics.getErrorCount(ModelError.DUPLICATE_IDENTIFIER), is(equalTo(duplicates + 2)));
+    }
+
+    @Test
+    void shouldRecordBindingOfFileSetsAndTheBytesRead() throws IOException {
+        var lookUps = count(ModelOperation.FILE_TYPE_LOOKUP);
+        var serializations = count(ModelOperation.FILE_SET_SERIALIZATION);
+        var deserializations = count(ModelOperation.FILE_SET_DESERIALIZATION);
+        var bytes = metrics.getBytes(ModelOperation.FILE_SET_DESERIALIZATION);
+
+        var json = objectMapper.writeValueAsBytes(new FileSet(randomFiles(2)));
+        objectMapper.readValue(json, FileSet.class);
+        FileType.lookUp("publishedfile");
+
+        assertThat(count(ModelOperation.FILE_SET_SERIALIZATION), is(equalTo(serializations + 1)));
+        assertThat(count(ModelOperation.FILE_SET_DESERIALIZATION), is(equalTo(deserializations + 1)));
+        assertThat(metrics.getBytes(ModelOperation.FILE_SET_DESERIALIZATION),
+                   is(equalTo(bytes + json.length - bytesOfTypeProperty(json))));
+        assertThat(count(ModelOperation.FILE_TYPE_LOOKUP), is(equalTo(lookUps + 3)));
+    }
+
+    @Test
+    void shouldRecordTheSizeOfADeserializedSetWithoutFilesOnce() throws IOException {
+        var constructions = count(ModelOperation.FILE_SET_CONSTRUCTION);
+        var fileSets = metrics.getFileSetSizes().getCount();
+
+        objectMapper.readValue("{\"type\":\"FileSet\"}", FileSet.class);
+        objectMapper.readValue("{\"type\":\"FileSet\",\"files\":null}", FileSet.class);
+
+        assertThat(count(ModelOperation.FILE_SET_CONSTRUCTION), is(equalTo(constructions)));
+        assertThat(metrics.getFileSetSizes().getCount(), is(equalTo(fileSets + 2)));
+    }
+
+    @Test
+    void shouldReportPercentilesAsUpperBoundsOfPowersOfTwo() {
+        var histogram = new Histogram();
+        assertThat(histogram.getPercentile(50), is(equalTo(0L)));
+
+        for (long value : new long[]{-1, 0, 1, 5, 6, 7, 100, 1000, Long.MAX_VALUE}) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount(), is(equalTo(9L)));
+        assertThat(histogram.getPercentile(0), is(equalTo(0L)));
+        assertThat(histogram.getPercentile(50), is(equalTo(7L)));
+        assertThat(histogram.getPercentile(80), is(equalTo(1023L)));
+        assertThat(histogram.getPercentile(100), is(equalTo(Long.MAX_VALUE)));
+    }
+
+    private static int bytesOfTypeProperty(byte[] json) {
+        return new String(json, StandardCharsets.UTF_8).indexOf(',') + 1;
+    }
+
+    private long count(ModelOperation operation) {
+        return metrics.getLatencies(operation).getCount();
+    }
+}
@@ -0,0 +1,108 @@
+package no.unit.nva.file.model.migration;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.FileSet;
+import org.junit.jupiter.api.Test;
+
+public class FileTypeMigrationTest {
+
+    public static final String LEGACY_FILE_SET = fileSet(
+        "{\"type\":\"File\",\"identifier\":\"%s\",\"name\":\"a.pdf\","
+        + "\"license\":{\"type\":\"License\",\"identifier\":\"CC-BY\"}},"
+        + "{\"type\":\"File\",\"identifier\":\"%s\",\"name\":\"b.pdf\",\"administrativeAgreement\":true},"
+        + "{\"identifier\":\"%s\",\"administrativeAgreement\":\"true\",\"type\":\"publishedfile\"},"
+        + "{\"type\":\"unpublishedFile\",\"administrativeAgreement\":0,\"identifier\":\"%s\"}");
+    public static final String MIGRATED_FILE_SET = fileSet(
+        "{\"type\":\"PublishedFile\",\"identifier\":\"%s\",\"name\":\"a.pdf\","
+        + "\"license\":{\"type\":\"License\",\"identifier\":\"CC-BY\"}},"
+        + "{\"type\":\"UnpublishableFile\",\"identifier\":\"%s\",\"name\":\"b.pdf\",\"administrativeAgreement\":true},"
+        + "{\"identifier\":\"%s\",\"administrativeAgreement\":\"true\",\"type\":\"UnpublishableFile\"},"
+        + "{\"type\":\"UnpublishedFile\",\"administrativeAgreement\":0,\"identifier\":\"%s\"}");
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+    private final FileTypeMigration migration = new FileTypeMigration(objectMapper);
+
+    @Test
+    void shouldRewriteFileTypesToTheTypesGivenByTheModel() throws IOException {
+        var migrated = migration.migrate(bytes(LEGACY_FILE_SET));
+
+        assertThat(new String(migrated.getJson(), StandardCharsets.UTF_8), is(equalTo(MIGRATED_FILE_SET)));
+        assertThat(migrated.getNumberOfRewrittenTypes(), is(equalTo(4)));
+        assertThat(objectMapper.readValue(migrated.getJson(), FileSet.class),
+                   is(equalTo(objectMapper.readValue(LEGACY_FILE_SET, FileSet.class))));
+    }
+
+    @Test
+    void shouldReturnDocumentsWithoutLegacyTypesUnchanged() throws IOException {
+        var documents = List.of(objectMapper.writeValueAsBytes(new FileSet(randomFiles(3))),
+                                bytes("[{\"type\":\"Publication\",\"files\":[1.5,null,\"File\"]}, {}, \"File\"]"),
+                                bytes("{\"type\":null,\"administrativeAgreement\":true}"));
+        for (byte[] document : documents) {
+            var migrated = migration.migrate(document);
+
+            assertThat(migrated.isChanged(), is(false));
+            assertThat(migrated.getJson(), is(sameInstance(document)));
+        }
+    }
+
+    @Test
+    void shouldCopyNumbersOfChangedDocumentsFromTheirOriginalText() throws IOException {
+        var document = "{\"price\":1.10,\"big\":0.1000000000000000000001,\"e\":1e2,"
+                       + "\"files\":[{\"type\":\"File\",\"size\":1.10,\"extra\":[1e2,{\"n\":-0.0}]}]}";
+        var expected = "{\"price\":1.10,\"big\":0.1000000000000000000001,\"e\":1e2,"
+                       + "\"files\":[{\"type\":\"PublishedFile\",\"size\":1.10,\"extra\":[1e2,{\"n\":-0.0}]}]}";
+
+        var migrated = migration.migrate(bytes(document)).getJson();
+
+        assertThat(new String(migrated, StandardCharsets.UTF_8), is(equalTo(expected)));
+    }
+
+    @Test
+    void shouldRejectDocumentsThatAreNotASingleJsonValue() {
+        for (String document : List.of("", "{\"type\":\"File\"", "{} {}", "{\"type\":\"File\",]")) {
+            assertThrows(IOException.class, () -> migration.migrate(bytes(document)));
+        }
+    }
+
+    @Test
+    void shouldMigrateManyDocumentsInParallelAndReportTheChanges() throws IOException {
+        var current = objectMapper.writeValueAsBytes(new FileSet(List.of(randomFile())));
+        Map<Integer, byte[]> documents = new ConcurrentHashMap<>();
+        IntStream.range(0, 1000).forEach(key -> documents.put(key, key % 2 == 0 ? bytes(LEGACY_FILE_SET) : current));
+        documents.put(1000, bytes("{"));
+        Map<Integer, byte[]> changed = new ConcurrentHashMap<>();
+
+        var report = migration.migrateAll(documents.entrySet().stream(), changed::put);
+
+        assertThat(report.getNumberOfDocuments(), is(equalTo(1001L)));
+        assertThat(report.getNumberOfChangedDocuments(), is(equalTo(500L)));
+        assertThat(report.getNumberOfRewrittenTypes(), is(equalTo(2000L)));
+        assertThat(report.getFailedKeys(), is(equalTo(List.of(1000))));
+        assertThat(changed.size(), is(equalTo(500)));
+        assertThat(new String(changed.get(42), StandardCharsets.UTF_8), is(equalTo(MIGRATED_FILE_SET)));
+    }
+
+    private static String fileSet(String filesTemplate) {
+        var identifiers = new UUID[]{new UUID(0, 1), new UUID(0, 2), new UUID(0, 3), new UUID(0, 4)};
+        return "{\"type\":\"FileSet\",\"files\":[" + String.format(filesTemplate, (Object[]) identifiers) + "]}";
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,158 @@
+package no.unit.nva.file.model.ndjson;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.junit.jupiter.api.Test;
+
+public class NdjsonReaderTest {
+
+    public static final int NUMBER_OF_SETS = 50;
+    public static final String LINE_SEPARATOR = "\n";
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldRoundTripFileSetsForAllCompressions() throws IOException {
+        var fileSets = randomFileSets();
+        for (Compression compression : Compression.values()) {
+            var dump = new ByteArrayOutputStream();
+            try (var writer = NdjsonWriter.open(objectMapper, FileSet.class, dump, compression)) {
+                assertThat(writer.writeAll(fileSets.stream()), is(equalTo((long) NUMBER_OF_SETS)));
+            }
+
+            var input = new ByteArrayInputStream(dump.toByteArray());
+            try (var records = NdjsonReader.open(objectMapper, FileSet.class, input, compression).stream()) {
+                assertThat(records.collect(Collectors.toList()), is(equalTo(fileSets)));
+            }
+        }
+    }
+
+    @Test
+    void shouldRoundTripFilesThroughChannels() throws IOException {
+        var files = randomFiles(NUMBER_OF_SETS);
+        var dump = new ByteArrayOutputStream();
+        try (var writer = NdjsonWriter.open(objectMapper, File.class, Channels.newChannel(dump), Compression.GZIP)) {
+            for (File file : files) {
+                writer.write(file);
+            }
+            writer.flush();
+            assertThat(writer.getNumberOfRecords(), is(equalTo((long) NUMBER_OF_SETS)));
+        }
+
+        var channel = Channels.newChannel(new ByteArrayInputStream(dump.toByteArray()));
+        try (var records = NdjsonReader.open(objectMapper, File.class, channel, Compression.GZIP).stream()) {
+            assertThat(records.collect(Collectors.toList()), is(equalTo(files)));
+        }
+    }
+
+    @Test
+    void shouldWriteOneCompactDocumentPerLine() throws IOException {
+        var fileSets = randomFileSets();
+        var indentingMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        var dump = new ByteArrayOutputStream();
+        try (var writer = NdjsonWriter.open(indentingMapper, FileSet.class, dump, Compression.NONE)) {
+            writer.writeAll(fileSets.stream());
+        }
+
+        var text = dump.toString(StandardCharsets.UTF_8);
+        var lines = List.of(text.split(LINE_SEPARATOR));
+        assertThat(text, endsWith(LINE_SEPARATOR));
+        assertThat(lines.size(), is(equalTo(NUMBER_OF_SETS)));
+        for (int index = 0; index < NUMBER_OF_SETS; index++) {
+            assertThat(objectMapper.readValue(lines.get(index), FileSet.class), is(equalTo(fileSets.get(index))));
+        }
+    }
+
+    @Test
+    void shouldParseRecordsOnlyWhenTheyArePulled() throws IOException {
+        var file = randomFile();
+        var dump = objectMapper.writeValueAsString(file) + LINE_SEPARATOR + "{not json" + LINE_SEPARATOR;
+
+        try (var reader = open(dump)) {
+            assertThat(reader.next(), is(equalTo(file)));
+            assertThat(reader.hasNext(), is(true));
+            var exception = assertThrows(UncheckedIOException.class, reader::next);
+            assertThat(exception.getCause(), is(instanceOf(JsonProcessingException.class)));
+        }
+    }
+
+    @Test
+    void shouldReportInvalidRecordsAsUncheckedExceptions() throws IOException {
+        var dump = "[" + LINE_SEPARATOR;
+
+        try (var reader = open(dump)) {
+            var exception = assertThrows(UncheckedIOException.class, reader::next);
+            assertThat(exception.getCause(), is(instanceOf(JsonProcessingException.class)));
+        }
+    }
+
+    @Test
+    void shouldSkipBlankLinesAndStopAtTheEnd() throws IOException {
+        var file = randomFile();
+        var dump = LINE_SEPARATOR + objectMapper.writeValueAsString(file) + LINE_SEPARATOR + LINE_SEPARATOR;
+
+        try (var reader = open(dump)) {
+            assertThat(reader.next(), is(equalTo(file)));
+            assertThat(reader.hasNext(), is(false));
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+
+    @Test
+    void shouldCloseTheInputWhenTheStreamIsClosed() throws IOException {
+        var closed = new AtomicBoolean();
+        var input = new ByteArrayInputStream(new byte[0]) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        NdjsonReader.open(objectMapper, File.class, input, Compression.NONE).stream().close();
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    void shouldRejectNullRecords() throws IOException {
+        try (var writer = NdjsonWriter.open(objectMapper, File.class, new ByteArrayOutputStream(), Compression.NONE)) {
+            var exception = assertThrows(IllegalArgumentException.class, () -> writer.write(null));
+
+            assertThat(exception.getMessage(), is(equalTo(NdjsonWriter.NULL_RECORD_ERROR)));
+        }
+    }
+
+    private NdjsonReader<File> open(String dump) throws IOException {
+        var input = new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8));
+        return NdjsonReader.open(objectMapper, File.class, input, Compression.NONE);
+    }
+
+    private static List<FileSet> randomFileSets() {
+        return IntStream.range(0, NUMBER_OF_SETS)
+                   .mapToObj(index -> new FileSet(randomFiles(index % 3)))
+                   .collect(Collectors.toList());
+    }
+}
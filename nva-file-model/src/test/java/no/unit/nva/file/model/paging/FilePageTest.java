@@ -0,0 +1,176 @@
+package no.unit.nva.file.model.paging;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import no.unit.nva.commons.json.JsonUtils;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileModelModule;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileSetSummary;
+import org.junit.jupiter.api.Test;
+
+public class FilePageTest {
+
+    private final ObjectMapper objectMapper = JsonUtils.dtoObjectMapper;
+
+    @Test
+    void shouldReturnTheFilesBetweenOffsetAndLimitInTheOrderOfTheSet() {
+        var fileSet = new FileSet(randomFiles(10));
+
+        var page = fileSet.getPage(3, 4);
+        var lastPage = fileSet.getPage(8, 4);
+        var beyondLastPage = fileSet.getPage(20, 4);
+
+        assertThat(page.getFiles(), is(equalTo(fileSet.getFiles().subList(3, 7))));
+        assertThat(page.getOffset(), is(equalTo(3)));
+        assertThat(page.getTotalNumberOfFiles(), is(equalTo(10)));
+        assertThat(page.hasNext(), is(true));
+        assertThat(lastPage.getFiles(), is(equalTo(fileSet.getFiles().subList(8, 10))));
+        assertThat(lastPage.hasNext(), is(false));
+        assertThat(lastPage.getNextCursor(), is(nullValue()));
+        assertThat(beyondLastPage.getFiles().isEmpty(), is(true));
+        assertThat(fileSet.getPage(0, Integer.MAX_VALUE).getFiles(), is(equalTo(fileSet.getFiles())));
+    }
+
+    @Test
+    void shouldVisitEveryFileOnceWhenFollowingTheCursors() {
+        var files = new ArrayList<>(randomFiles(10));
+        files.add(4, randomFile().copy().withIdentifier(null).build());
+        var fileSet = new FileSet(files);
+
+        List<File> visited = new ArrayList<>();
+        var page = fileSet.getPage(null, 3);
+        visited.addAll(page.getFiles());
+        while (page.hasNext()) {
+            page = fileSet.getPage(page.getNextCursor(), 3);
+            assertThat(page.getFiles().size(), is(lessThanOrEqualTo(3)));
+            visited.addAll(page.getFiles());
+        }
+
+        assertThat(visited, is(equalTo(fileSet.getFiles())));
+    }
+
+    @Test
+    void shouldContinueAfterTheLastFileReceivedWhenTheSetChangesBetweenPages() {
+        var files = randomFiles(6);
+        var cursor = new FileSet(files).getPage(0, 3).getNextCursor();
+        var changed = new FileSet(List.of(files.get(0), files.get(2), files.get(3), files.get(4), files.get(5)));
+
+        var page = changed.getPage(cursor, 3);
+
+        assertThat(page.getFiles(), is(equalTo(files.subList(3, 6))));
+        assertThat(page.getOffset(), is(equalTo(2)));
+    }
+
+    @Test
+    void shouldRejectInvalidOffsetsLimitsAndCursors() {
+        var files = randomFiles(3);
+        var fileSet = new FileSet(files);
+        var cursor = fileSet.getPage(0, 1).getNextCursor();
+        var withoutIdentifier = new FileSet(List.of(randomFile().copy().withIdentifier(null).build(), randomFile()));
+        var positionCursor = withoutIdentifier.getPage(0, 1).getNextCursor();
+
+        assertThrows(IllegalArgumentException.class, () -> fileSet.getPage(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> fileSet.getPage(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> fileSet.getPage("not a cursor!", 1));
+        assertThrows(IllegalArgumentException.class, () -> fileSet.getPage("AAAA", 1));
+        assertThrows(IllegalArgumentException.class, () -> new FileSet(files.subList(1, 3)).getPage(cursor, 1));
+        assertThrows(IllegalArgumentException.class, () -> fileSet.getPage(positionCursor, 1));
+        assertThrows(IllegalArgumentException.class, () -> new FileSet(List.of()).getPage(positionCursor, 1));
+    }
+
+    @Test
+    void shouldStreamTheSameJsonAsTheMapperWrites() throws IOException {
+        var fileSet = new FileSet(randomFiles(250));
+        for (ObjectMapper mapper : List.of(objectMapper, objectMapper.copy().registerModule(new FileModelModule()))) {
+            var writer = FileSetStreamWriter.create(mapper, 7);
+            var page = fileSet.getPage(10, 100);
+
+            assertThat(json(output -> writer.write(fileSet, output)), is(equalTo(mapper.writeValueAsString(fileSet))));
+            assertThat(json(output -> writer.write(page, output)), is(equalTo(mapper.writeValueAsString(page))));
+            var lastPage = fileSet.getPage(200, 100);
+            assertThat(json(output -> writer.write(lastPage, Channels.newChannel(output))),
+                       is(equalTo(mapper.writeValueAsString(lastPage))));
+            assertThat(json(output -> writer.write(fileSet, Channels.newChannel(output))),
+                       is(equalTo(mapper.writeValueAsString(fileSet))));
+        }
+    }
+
+    @Test
+    void shouldWriteTheSummaryBeforeTheFilesWhenEnabled() throws IOException {
+        var fileSet = new FileSet(randomFiles(25));
+        var writer = FileSetStreamWriter.create(objectMapper, 7).withSummary();
+        var page = fileSet.getPage(0, 10);
+
+        var json = json(output -> writer.write(fileSet, output));
+
+        assertThat(json, startsWith("{\"" + FileSet.TYPE + "\":\"" + FileSet.TYPE_NAME + "\",\"" + FileSet.SUMMARY
+                                    + "\":" + objectMapper.writeValueAsString(fileSet.getSummary()) + ",\""
+                                    + FileSet.FILES + "\":[{"));
+        assertThat(FileSetSummary.readFromFileSet(objectMapper, json), is(equalTo(fileSet.getSummary())));
+        assertThat(objectMapper.readValue(json, FileSet.class), is(equalTo(fileSet)));
+        assertThat(json(output -> writer.write(page, output)), is(equalTo(objectMapper.writeValueAsString(page))));
+    }
+
+    @Test
+    void shouldFlushTheOutputAfterEveryChunkOfFiles() throws IOException {
+        var fileSet = new FileSet(randomFiles(10));
+        var output = new FlushCountingOutputStream();
+
+        var written = FileSetStreamWriter.create(objectMapper, 3).write(fileSet, output);
+
+        assertThat(written, is(equalTo(10)));
+        assertThat(output.numberOfFlushes, is(equalTo(4)));
+        assertThat(output.firstChunk, startsWith("{\"" + FileSet.TYPE + "\":\"" + FileSet.TYPE_NAME + "\",\""
+                                                 + FileSet.FILES + "\":[{"));
+        assertThat(output.isClosed, is(false));
+        assertThrows(IllegalArgumentException.class, () -> FileSetStreamWriter.create(objectMapper, 0));
+        assertThat(FileSetStreamWriter.create(objectMapper).write(fileSet.getPage(0, 5), output), is(equalTo(5)));
+    }
+
+    private static String json(Write write) throws IOException {
+        var output = new ByteArrayOutputStream();
+        write.to(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private interface Write {
+
+        void to(OutputStream output) throws IOException;
+    }
+
+    private static final class FlushCountingOutputStream extends ByteArrayOutputStream {
+
+        private int numberOfFlushes;
+        private String firstChunk;
+        private boolean isClosed;
+
+        @Override
+        public void flush() {
+            if (numberOfFlushes == 0) {
+                firstChunk = toString(StandardCharsets.UTF_8);
+            }
+            numberOfFlushes++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
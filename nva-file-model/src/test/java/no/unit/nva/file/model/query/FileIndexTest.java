@@ -0,0 +1,110 @@
+package no.unit.nva.file.model.query;
+
+import static no.unit.nva.file.model.TestFiles.ccByLicense;
+import static no.unit.nva.file.model.query.FileQuery.administrativeAgreement;
+import static no.unit.nva.file.model.query.FileQuery.embargoDateBetween;
+import static no.unit.nva.file.model.query.FileQuery.license;
+import static no.unit.nva.file.model.query.FileQuery.mimeType;
+import static no.unit.nva.file.model.query.FileQuery.publisherAuthority;
+import static no.unit.nva.file.model.query.FileQuery.sizeBetween;
+import static no.unit.nva.file.model.query.FileQuery.type;
+import static no.unit.nva.file.model.query.FileQuery.underEmbargo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileType;
+import no.unit.nva.file.model.License;
+import org.junit.jupiter.api.Test;
+
+public class FileIndexTest {
+
+    public static final int NUMBER_OF_FILES = 1000;
+    public static final Instant NOW = Instant.parse("2030-01-01T00:00:00Z");
+    public static final String APPLICATION_PDF = "application/pdf";
+    public static final String IMAGE_JPEG = "image/jpeg";
+    public static final String RIGHTS_RESERVED = "RightsReserved";
+    public static final FileType[] TYPES = {FileType.PUBLISHED_FILE, FileType.UNPUBLISHED_FILE, null};
+    public static final String[] MIME_TYPES = {APPLICATION_PDF, IMAGE_JPEG, null};
+
+    private final List<File> files = randomFiles(new Random(42));
+    private final FileIndex index = FileIndex.of(files);
+
+    @Test
+    void shouldAnswerQueriesLikeAScanOfTheFiles() {
+        var queries = Map.ofEntries(
+            Map.entry("all", FileQuery.all()),
+            Map.entry("published", type(FileType.PUBLISHED_FILE)),
+            Map.entry("untyped", type(null)),
+            Map.entry("unknown type", type(FileType.UNPUBLISHABLE_FILE)),
+            Map.entry("agreements", administrativeAgreement(true)),
+            Map.entry("publisher authority", publisherAuthority(true)),
+            Map.entry("cc-by", license(ccByLicense().getIdentifier())),
+            Map.entry("no license", license(null)),
+            Map.entry("pdf", mimeType(APPLICATION_PDF)),
+            Map.entry("sizes", sizeBetween(100, 200)),
+            Map.entry("empty size range", sizeBetween(200, 100)),
+            Map.entry("embargoes", embargoDateBetween(NOW.minusSeconds(100), NOW.plusSeconds(100))),
+            Map.entry("late embargoes", embargoDateBetween(NOW, null)),
+            Map.entry("early embargoes", embargoDateBetween(null, NOW)),
+            Map.entry("under embargo", underEmbargo(NOW)),
+            Map.entry("conjunction", type(FileType.PUBLISHED_FILE).and(publisherAuthority(true))
+                                         .and(mimeType(APPLICATION_PDF)).and(sizeBetween(0, 500))),
+            Map.entry("empty conjunction", type(FileType.UNPUBLISHABLE_FILE).and(publisherAuthority(true))),
+            Map.entry("disjunction", mimeType(IMAGE_JPEG).or(license(RIGHTS_RESERVED)).or(underEmbargo(NOW))),
+            Map.entry("negation", administrativeAgreement(true).or(underEmbargo(NOW)).not()
+                                      .and(type(FileType.UNPUBLISHED_FILE).not())));
+        queries.forEach((name, query) -> {
+            var expected = files.stream().filter(query::matches).collect(Collectors.toList());
+
+            assertThat(name, index.find(query), is(equalTo(expected)));
+            assertThat(name, index.count(query), is(equalTo(expected.size())));
+        });
+    }
+
+    @Test
+    void shouldFindTheFilesThatAreVisibleBecauseOfTheirEmbargoDate() {
+        var visible = administrativeAgreement(false)
+                          .and(type(FileType.UNPUBLISHED_FILE).not())
+                          .and(underEmbargo(NOW).not());
+
+        var expected = files.stream().filter(file -> file.isVisibleForNonOwner(NOW)).collect(Collectors.toList());
+
+        assertThat(index.find(visible), is(equalTo(expected)));
+    }
+
+    @Test
+    void shouldIndexAnEmptyCollection() {
+        var emptyIndex = FileIndex.of(List.of());
+
+        assertThat(emptyIndex.size(), is(equalTo(0)));
+        assertThat(emptyIndex.count(FileQuery.all()), is(equalTo(0)));
+        assertThat(emptyIndex.count(sizeBetween(0, Long.MAX_VALUE).not()), is(equalTo(0)));
+        assertThat(emptyIndex.getFiles(), is(equalTo(List.of())));
+    }
+
+    private static List<File> randomFiles(Random random) {
+        var rightsReserved = new License.Builder().withIdentifier(RIGHTS_RESERVED).build();
+        var licenses = new License[]{ccByLicense(), rightsReserved, null};
+        return IntStream.range(0, NUMBER_OF_FILES)
+                   .mapToObj(position -> new File.Builder()
+                                             .withIdentifier(UUID.randomUUID())
+                                             .withType(TYPES[random.nextInt(TYPES.length)])
+                                             .withMimeType(MIME_TYPES[random.nextInt(MIME_TYPES.length)])
+                                             .withLicense(licenses[random.nextInt(licenses.length)])
+                                             .withSize(random.nextInt(10) == 0 ? null : (long) random.nextInt(1000))
+                                             .withAdministrativeAgreement(random.nextInt(5) == 0)
+                                             .withPublisherAuthority(random.nextBoolean())
+                                             .withEmbargoDate(random.nextBoolean() ? null : NOW.plusSeconds(
+                                                 random.nextInt(1000) - 500))
+                                             .build())
+                   .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,195 @@
+package no.unit.nva.file.model.registry;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FileSetRegistryTest {
+
+    public static final int NUMBER_OF_THREADS = 8;
+    public static final int OPERATIONS_PER_THREAD = 2000;
+    public static final int NUMBER_OF_KEYS = 10;
+    public static final int FILES_PER_SET = 5;
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+    public static final String KEY = "publication";
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldGiveEveryChangeOfAKeyAGreaterVersion() {
+        var registry = new FileSetRegistry<String>(UNBOUNDED);
+        var files = randomFiles(2);
+
+        var first = registry.put(KEY, new FileSet(files));
+        var second = registry.replaceFile(KEY, files.get(1).copy().withName("renamed.pdf").build());
+        var removed = registry.remove(KEY);
+        var third = registry.put(KEY, new FileSet(files));
+
+        assertThat(second.getVersion(), is(greaterThan(first.getVersion())));
+        assertThat(third.getVersion(), is(greaterThan(second.getVersion())));
+        assertThat(second.getFileSet().getFiles().get(1).getName(), is(equalTo("renamed.pdf")));
+        assertThat(removed, is(equalTo(Optional.of(second))));
+        assertThat(registry.get(KEY), is(equalTo(Optional.of(third))));
+        assertThat(registry.remove("unknown"), is(equalTo(Optional.empty())));
+    }
+
+    @Test
+    void shouldOnlySetAFileSetComputedFromTheRegisteredVersion() {
+        var registry = new FileSetRegistry<String>(UNBOUNDED);
+        var fileSet = new FileSet(randomFiles(1));
+
+        var created = registry.compareAndSet(KEY, FileSetRegistry.ABSENT, fileSet).orElseThrow();
+
+        assertThat(registry.compareAndSet(KEY, FileSetRegistry.ABSENT, fileSet), is(equalTo(Optional.empty())));
+        var updated = registry.compareAndSet(KEY, created.getVersion(), new FileSet(List.of())).orElseThrow();
+        assertThat(registry.compareAndSet(KEY, created.getVersion(), fileSet), is(equalTo(Optional.empty())));
+        assertThat(registry.get(KEY), is(equalTo(Optional.of(updated))));
+        assertThat(registry.getTotalNumberOfFiles(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldRejectUpdatesOfUnknownKeysAndFiles() {
+        var registry = new FileSetRegistry<String>(UNBOUNDED);
+        registry.put(KEY, new FileSet(randomFiles(1)));
+
+        assertThrows(IllegalArgumentException.class, () -> registry.replaceFile("unknown", randomFile()));
+        assertThrows(IllegalArgumentException.class, () -> registry.replaceFile(KEY, randomFile()));
+        assertThrows(IllegalArgumentException.class, () -> new FileSetRegistry<String>(0));
+    }
+
+    @Test
+    void shouldEvictTheLeastRecentlyUsedSetsWhenTheRegistryIsFull() {
+        var registry = new FileSetRegistry<Integer>(4 * FILES_PER_SET);
+        for (int key = 0; key < 4; key++) {
+            registry.put(key, new FileSet(randomFiles(FILES_PER_SET)));
+        }
+        registry.get(0);
+
+        registry.put(4, new FileSet(randomFiles(FILES_PER_SET)));
+
+        assertThat(registry.getNumberOfEvictions(), is(equalTo(2L)));
+        assertThat(registry.size(), is(equalTo(3)));
+        assertThat(registry.get(0).isPresent(), is(true));
+        assertThat(registry.get(1).isPresent(), is(false));
+        assertThat(registry.get(2).isPresent(), is(false));
+        assertThat(registry.getTotalNumberOfFiles(), is(equalTo(3L * FILES_PER_SET)));
+    }
+
+    @Test
+    void shouldNotLoseConcurrentUpdates() throws Exception {
+        var registry = new FileSetRegistry<Integer>(UNBOUNDED);
+        for (int key = 0; key < NUMBER_OF_KEYS; key++) {
+            registry.put(key, new FileSet(filesOfSize(0)));
+        }
+
+        runConcurrently(random -> {
+            int key = random.nextInt(NUMBER_OF_KEYS);
+            long versionSeen = registry.get(key).orElseThrow().getVersion();
+            var updated = registry.update(key, fileSet -> incrementSize(fileSet, random.nextInt(FILES_PER_SET)));
+            assertThat(updated.getVersion(), is(greaterThan(versionSeen)));
+            assertThat(registry.get(key).orElseThrow().getVersion(), is(greaterThan(versionSeen)));
+        });
+
+        long totalSize = IntStream.range(0, NUMBER_OF_KEYS)
+                             .mapToObj(key -> registry.get(key).orElseThrow().getFileSet().getFiles())
+                             .flatMap(List::stream)
+                             .mapToLong(File::getSize)
+                             .sum();
+        assertThat(totalSize, is(equalTo((long) NUMBER_OF_THREADS * OPERATIONS_PER_THREAD)));
+        assertThat(registry.getTotalNumberOfFiles(), is(equalTo((long) NUMBER_OF_KEYS * FILES_PER_SET)));
+    }
+
+    @Test
+    void shouldStayWithinTheMaximumUnderConcurrentPutsAndRemovals() throws Exception {
+        long maximumNumberOfFiles = 100;
+        var registry = new FileSetRegistry<Integer>(maximumNumberOfFiles);
+
+        runConcurrently(random -> {
+            int key = random.nextInt(1000);
+            if (random.nextInt(10) == 0) {
+                registry.remove(key);
+            } else {
+                registry.put(key, new FileSet(randomFiles(1 + random.nextInt(FILES_PER_SET))));
+            }
+        });
+
+        long registeredFiles = IntStream.range(0, 1000)
+                                   .mapToObj(registry::get)
+                                   .flatMap(Optional::stream)
+                                   .mapToLong(snapshot -> snapshot.getFileSet().getFiles().size())
+                                   .sum();
+        assertThat(registry.getTotalNumberOfFiles(), is(lessThanOrEqualTo(maximumNumberOfFiles)));
+        assertThat(registry.getTotalNumberOfFiles(), is(equalTo(registeredFiles)));
+        assertThat(registry.getNumberOfEvictions(), is(greaterThan(0L)));
+    }
+
+    private void runConcurrently(Operation operation) throws InterruptedException, ExecutionException {
+        var start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < NUMBER_OF_THREADS; thread++) {
+            var random = new Random(thread);
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int operations = 0; operations < OPERATIONS_PER_THREAD; operations++) {
+                    operation.run(random);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+    }
+
+    private static List<File> filesOfSize(long size) {
+        var files = new ArrayList<File>();
+        for (File file : randomFiles(FILES_PER_SET)) {
+            files.add(file.copy().withSize(size).build());
+        }
+        return files;
+    }
+
+    private static FileSet incrementSize(FileSet fileSet, int position) {
+        var files = new ArrayList<>(fileSet.getFiles());
+        var file = files.get(position);
+        files.set(position, file.copy().withSize(file.getSize() + 1).build());
+        return new FileSet(files);
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+
+        void run(Random random);
+    }
+}
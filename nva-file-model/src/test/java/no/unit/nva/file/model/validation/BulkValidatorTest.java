@@ -0,0 +1,181 @@
+package no.unit.nva.file.model.validation;
+
+import static no.unit.nva.file.model.TestFiles.randomFile;
+import static no.unit.nva.file.model.TestFiles.randomFiles;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import no.unit.nva.file.model.File;
+import no.unit.nva.file.model.FileSet;
+import no.unit.nva.file.model.FileType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BulkValidatorTest {
+
+    public static final int SMALL_BATCH_SIZE = 3;
+    public static final int NUMBER_OF_THREADS = 4;
+    public static final int TIMEOUT_SECONDS = 10;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void createExecutor() {
+        executor = Executors.newFixedThreadPool(NUMBER_OF_THREADS);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldReturnValidReportForValidSets() {
+        var fileSets = List.of(new FileSet(randomFiles(3)), new FileSet(List.of(administrativeAgreement())));
+
+        var report = new BulkValidator().validate(fileSets);
+
+        assertThat(report.isValid(), is(true));
+        assertThat(report.getNumberOfValidatedSets(), is(equalTo(2L)));
+    }
+
+    @Test
+    void shouldReportEveryMissingLicenseWithSetIndexAndFileIdentifier() {
+        var first = unlicensedFile();
+        var second = unlicensedFile();
+        var fileSets = List.of(new FileSet(randomFiles(2)), new FileSet(List.of(first, randomFile(), second)));
+
+        var report = new BulkValidator().validate(fileSets);
+
+        assertThat(report.getViolations(), contains(
+            new Violation(ViolationCode.MISSING_LICENSE, 1, 0, first.getIdentifier()),
+            new Violation(ViolationCode.MISSING_LICENSE, 1, 2, second.getIdentifier())));
+    }
+
+    @Test
+    void shouldReportDuplicatesAndMissingFilesInFileLists() {
+        var file = randomFile();
+        var unlicensed = unlicensedFile();
+        var fileLists = List.of(Arrays.asList(file, null, unlicensed, file), randomFiles(1));
+
+        var report = new BulkValidator().validateFileLists(fileLists);
+
+        assertThat(report.getViolations(), contains(
+            new Violation(ViolationCode.MISSING_FILE, 0, 1, null),
+            new Violation(ViolationCode.MISSING_LICENSE, 0, 2, unlicensed.getIdentifier()),
+            new Violation(ViolationCode.DUPLICATE_FILE_IDENTIFIER, 0, 3, file.getIdentifier())));
+    }
+
+    @Test
+    void shouldReportViolationsInInputOrderWhenValidatingInParallel() {
+        var numberOfSets = 1000;
+        var unlicensed = IntStream.range(0, numberOfSets)
+                             .mapToObj(index -> unlicensedFile())
+                             .collect(Collectors.toList());
+        var validator = new BulkValidator(executor, SMALL_BATCH_SIZE);
+
+        var report = validator.validate(unlicensed.stream().map(file -> new FileSet(List.of(randomFile(), file))));
+
+        var identifiers = report.getViolations().stream()
+                              .map(Violation::getFileIdentifier)
+                              .collect(Collectors.toList());
+        var setIndexes = report.getViolations().stream()
+                             .map(Violation::getSetIndex)
+                             .collect(Collectors.toList());
+        assertThat(report.getNumberOfValidatedSets(), is(equalTo((long) numberOfSets)));
+        assertThat(identifiers, is(equalTo(unlicensed.stream().map(File::getIdentifier)
+                                               .collect(Collectors.toList()))));
+        assertThat(setIndexes, is(equalTo(indexesUpTo(numberOfSets))));
+    }
+
+    @Test
+    void shouldNotSubmitMoreThanTheMaximumNumberOfBatchesInFlight() throws InterruptedException {
+        var numberOfSets = 20;
+        var maximumBatchesInFlight = 2;
+        var submittedTasks = new LinkedBlockingQueue<Runnable>();
+        var numberOfSubmittedTasks = new AtomicInteger();
+        Executor deferringExecutor = task -> {
+            numberOfSubmittedTasks.incrementAndGet();
+            submittedTasks.add(task);
+        };
+        var validator = new BulkValidator(deferringExecutor, 1, maximumBatchesInFlight);
+
+        var report = CompletableFuture.supplyAsync(
+            () -> validator.validate(Stream.generate(() -> new FileSet(randomFiles(1))).limit(numberOfSets)), executor);
+        for (int completedTasks = 0; completedTasks < numberOfSets; completedTasks++) {
+            var task = submittedTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(numberOfSubmittedTasks.get() - completedTasks, is(lessThanOrEqualTo(maximumBatchesInFlight)));
+            task.run();
+        }
+
+        assertThat(report.join().getNumberOfValidatedSets(), is(equalTo((long) numberOfSets)));
+    }
+
+    @Test
+    void shouldTreatNullSetsAsEmpty() {
+        var fileSets = new ArrayList<FileSet>();
+        fileSets.add(null);
+        var fileLists = new ArrayList<List<File>>();
+        fileLists.add(null);
+
+        assertThat(new BulkValidator().validate(fileSets).isValid(), is(true));
+        assertThat(new BulkValidator().validateFileLists(fileLists.stream()).isValid(), is(true));
+    }
+
+    @Test
+    void shouldValidateEmptyInput() {
+        var report = new BulkValidator().validate(Stream.empty());
+
+        assertThat(report.isValid(), is(true));
+        assertThat(report.getNumberOfValidatedSets(), is(equalTo(0L)));
+    }
+
+    @Test
+    void shouldRejectInvalidBatchSize() {
+        var exception = assertThrows(IllegalArgumentException.class, () -> new BulkValidator(executor, 0));
+
+        assertThat(exception.getMessage(), is(equalTo(BulkValidator.INVALID_BATCH_SIZE_ERROR)));
+    }
+
+    @Test
+    void shouldRejectInvalidMaximumNumberOfBatchesInFlight() {
+        var exception = assertThrows(IllegalArgumentException.class,
+                                     () -> new BulkValidator(executor, SMALL_BATCH_SIZE, 0));
+
+        assertThat(exception.getMessage(), is(equalTo(BulkValidator.INVALID_BATCHES_IN_FLIGHT_ERROR)));
+    }
+
+    private static List<Long> indexesUpTo(int numberOfSets) {
+        return IntStream.range(0, numberOfSets).mapToObj(Long::valueOf).collect(Collectors.toList());
+    }
+
+    private static File unlicensedFile() {
+        return randomFile().copy().withLicense(null).build();
+    }
+
+    private static File administrativeAgreement() {
+        return new File.Builder()
+                   .withIdentifier(UUID.randomUUID())
+                   .withAdministrativeAgreement(true)
+                   .withType(FileType.UNPUBLISHABLE_FILE)
+                   .build();
+    }
+}